@@ -13,9 +13,11 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -24,8 +26,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonLinesAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.LogStructuredAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -48,6 +54,7 @@ public class MainApp extends Application {
     protected Config config;
 
     private boolean hasLoadedSaveCorrectly = true;
+    private int skippedRecordCount;
 
     @Override
     public void init() throws Exception {
@@ -60,7 +67,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -70,12 +77,47 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}, which saves to
+     * {@link ReadOnlyUserPrefs#getDataFilePath()}, e.g. the compressed file if the data file is to be compressed.
+     * {@code userPrefs} is left unchanged, so that compression can be turned off again.
+     */
+    protected AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getDataFilePath();
+        if (userPrefs.isDataFileCompressed() && (userPrefs.isDataFileBinary() || userPrefs.isDataFileLogStructured()
+                || userPrefs.isDataFileJournaled())) {
+            logger.warning("Compression is only supported for plain JSON and JSON Lines data files "
+                    + "and will be ignored.");
+        }
+
+        if (userPrefs.isDataFileBinary() || userPrefs.isDataFileLogStructured()) {
+            if (userPrefs.isDataFileJournaled()) {
+                logger.warning("Journaling is only supported for JSON data files and will be ignored.");
+            }
+            if (userPrefs.isDataFileBinary() && userPrefs.isDataFileLogStructured()) {
+                logger.warning("Both binary and log-structured data files are enabled, using log-structured.");
+            }
+        }
+
+        if (userPrefs.isDataFileLogStructured()) {
+            return new LogStructuredAddressBookStorage(addressBookFilePath, userPrefs.isDataFileCompact());
+        } else if (userPrefs.isDataFileBinary()) {
+            return new BinaryAddressBookStorage(addressBookFilePath, userPrefs.isDataFileCompact());
+        } else if (userPrefs.isDataFileJournaled()) {
+            return new JournalAddressBookStorage(addressBookFilePath, userPrefs.isDataFileCompact());
+        } else if (FileUtil.hasExtension(addressBookFilePath, JsonLinesAddressBookStorage.FILE_EXTENSION)) {
+            return new JsonLinesAddressBookStorage(addressBookFilePath);
+        } else {
+            return new JsonAddressBookStorage(addressBookFilePath, userPrefs.isDataFileCompact());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    protected Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -87,6 +129,8 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            // The storage backs the data file up before saving over records it could not read.
+            skippedRecordCount = storage.getSkippedRecords().size();
             storage.saveAddressBook(initialData);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
@@ -185,16 +229,32 @@ public class MainApp extends Application {
         if (!hasLoadedSaveCorrectly) {
             ui.showAlertDialogAndWait(Alert.AlertType.INFORMATION, "Notification: Improper Load",
                     "A problem occurred while loading your save file.", "An empty contact list will be used.");
+        } else if (skippedRecordCount > 0) {
+            ui.showAlertDialogAndWait(Alert.AlertType.WARNING, "Notification: Incomplete Load",
+                    skippedRecordCount + " entries of your save file could not be read and were left out.",
+                    "The original save file was backed up next to it, with " + FileUtil.BACKUP_FILE_EXTENSION
+                            + " added to its name.");
         }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // Waits for the commands still queued, which may change the preferences, before they are saved.
+        try {
+            logic.flush();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
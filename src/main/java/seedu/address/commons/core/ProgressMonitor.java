@@ -0,0 +1,43 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Receives the progress of a long-running operation, and tells it when it should stop.
+ * Implementations must be safe to call from several threads at once.
+ */
+public interface ProgressMonitor {
+
+    /** A monitor that ignores progress and never cancels. */
+    ProgressMonitor NONE = new ProgressMonitor() {
+        @Override
+        public void worked(long done, long total) {}
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * Reports that {@code done} out of {@code total} units of work have been completed.
+     */
+    void worked(long done, long total);
+
+    /**
+     * Returns true if the operation should stop as soon as possible.
+     */
+    boolean isCancelled();
+
+    /**
+     * Stops the operation if it should stop.
+     *
+     * @throws CancellationException if the operation has been cancelled.
+     */
+    default void checkCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException();
+        }
+    }
+
+}
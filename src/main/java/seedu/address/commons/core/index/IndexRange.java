@@ -0,0 +1,114 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the items of a list that a command applies to: the item at one {@code Index}, the items between two
+ * indexes (inclusive), or all the items of the list.
+ */
+public class IndexRange {
+
+    private static final IndexRange ALL = new IndexRange(null, null);
+
+    // Both null if the range covers the whole list.
+    private final Index first;
+    private final Index last;
+
+    private IndexRange(Index first, Index last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Returns the range holding only {@code index}.
+     */
+    public static IndexRange of(Index index) {
+        requireNonNull(index);
+        return new IndexRange(index, index);
+    }
+
+    /**
+     * Returns the range from {@code first} to {@code last}, inclusive.
+     * {@code first} must not come after {@code last}.
+     */
+    public static IndexRange between(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        checkArgument(first.getZeroBased() <= last.getZeroBased(), "The first index must not come after the last");
+        return new IndexRange(first, last);
+    }
+
+    /**
+     * Returns the range covering every item of a list.
+     */
+    public static IndexRange all() {
+        return ALL;
+    }
+
+    public boolean isAll() {
+        return first == null;
+    }
+
+    /**
+     * Returns the index if this range holds exactly one index.
+     */
+    public Optional<Index> getSingleIndex() {
+        return first != null && first.equals(last) ? Optional.of(first) : Optional.empty();
+    }
+
+    /**
+     * Returns true if every index of this range is an index of a list with {@code size} items.
+     */
+    public boolean isWithin(int size) {
+        return isAll() || last.getZeroBased() < size;
+    }
+
+    /**
+     * Returns a copy of the items of {@code list} in this range.
+     * The range must be {@link #isWithin(int) within} the list.
+     */
+    public <T> List<T> select(List<T> list) {
+        requireNonNull(list);
+        checkArgument(isWithin(list.size()), "The range must be within the list");
+        return isAll() ? List.copyOf(list) : List.copyOf(list.subList(first.getZeroBased(), last.getZeroBased() + 1));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexRange)) {
+            return false;
+        }
+
+        IndexRange otherRange = (IndexRange) other;
+        return isAll() ? otherRange.isAll() : first.equals(otherRange.first) && last.equals(otherRange.last);
+    }
+
+    @Override
+    public int hashCode() {
+        return isAll() ? 0 : Objects.hash(first.getZeroBased(), last.getZeroBased());
+    }
+
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return new ToStringBuilder(this).add("all", true).toString();
+        }
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("last", last)
+                .toString();
+    }
+
+}
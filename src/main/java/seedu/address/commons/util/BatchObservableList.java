@@ -0,0 +1,162 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList}, whose changes can be grouped into a batch so that
+ * listeners are notified once for all of them, e.g. so that filtered and sorted views of it, and the list views
+ * showing them, are only updated once for many changes.
+ * Unlike {@code FXCollections.observableArrayList()}, ranges of items are added and removed in one step.
+ *
+ * @param <E> type of the items.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final ArrayList<E> items;
+
+    /**
+     * Creates an empty {@code BatchObservableList}.
+     */
+    public BatchObservableList() {
+        items = new ArrayList<>();
+    }
+
+    /**
+     * Creates a {@code BatchObservableList} holding the items of {@code items}.
+     */
+    public BatchObservableList(Collection<? extends E> items) {
+        requireNonNull(items);
+        this.items = new ArrayList<>(items);
+    }
+
+    /**
+     * Runs {@code changes}, and notifies listeners of all the changes it made to this list in one go.
+     * Batches can be nested, in which case listeners are notified when the outermost batch ends.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        items.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return items.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return items.remove(index);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(items.size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        if (index < 0 || index > items.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + items.size());
+        }
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            items.addAll(index, toAdd);
+            modCount++;
+            nextAdd(index, index + toAdd.size());
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        List<E> removed = items.subList(from, to);
+        beginChange();
+        try {
+            nextRemove(from, new ArrayList<>(removed));
+            removed.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        if (from < 0 || to > items.size() || from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + items.size());
+        }
+        removeRange(from, to);
+    }
+
+    /**
+     * Sorts the items stably, which listeners are notified of as a permutation, as for
+     * {@code FXCollections.observableArrayList()}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        if (items.isEmpty()) {
+            return;
+        }
+        List<Integer> oldIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            oldIndexes.add(i);
+        }
+        oldIndexes.sort((first, second) -> comparator == null
+                ? ((Comparable<? super E>) items.get(first)).compareTo(items.get(second))
+                : comparator.compare(items.get(first), items.get(second)));
+
+        List<E> sorted = new ArrayList<>(items.size());
+        int[] permutation = new int[items.size()];
+        for (int newIndex = 0; newIndex < oldIndexes.size(); newIndex++) {
+            sorted.add(items.get(oldIndexes.get(newIndex)));
+            permutation[oldIndexes.get(newIndex)] = newIndex;
+        }
+        beginChange();
+        try {
+            for (int i = 0; i < sorted.size(); i++) {
+                items.set(i, sorted.get(i));
+            }
+            modCount++;
+            nextPermutation(0, items.size(), permutation);
+        } finally {
+            endChange();
+        }
+    }
+
+}
@@ -0,0 +1,222 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one record at a time, following the quoting rules of RFC 4180.
+ * <p>
+ * A field may be enclosed in double quotes, in which case it may contain commas, line breaks and double quotes, the
+ * last written as two double quotes. Records may end with CRLF, LF or CR, and blank lines between records are
+ * skipped. As is common, a double quote inside an unquoted field is kept as part of the field.
+ * <p>
+ * Input is read in large blocks, so {@code reader} does not need to be buffered.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Line %d: a quoted field is not closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Line %d: a quoted field is followed by '%c' instead of a "
+            + "comma or the end of the line.";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private enum State { FIELD_START, UNQUOTED, QUOTED, AFTER_QUOTE }
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private final StringBuilder field = new StringBuilder();
+    private int lineNumber;
+    private int recordLineNumber;
+    // Set after a CR, so that the LF of a CRLF line break is not counted as another line.
+    private boolean isAfterCarriageReturn;
+
+    /**
+     * Creates a {@code CsvReader} that reads from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        this(reader, 1);
+    }
+
+    /**
+     * Creates a {@code CsvReader} that reads from {@code reader}, whose input starts on line {@code firstLineNumber}
+     * of a larger file.
+     */
+    public CsvReader(Reader reader, int firstLineNumber) {
+        requireNonNull(reader);
+        this.reader = reader;
+        lineNumber = firstLineNumber;
+    }
+
+    /**
+     * Replaces the contents of {@code fields} with the fields of the next record.
+     *
+     * @return false, leaving {@code fields} empty, if there are no more records.
+     * @throws IOException if the input cannot be read or is not valid CSV.
+     */
+    public boolean readRecord(List<String> fields) throws IOException {
+        requireNonNull(fields);
+        fields.clear();
+        if (!skipBlankLines()) {
+            return false;
+        }
+
+        recordLineNumber = lineNumber;
+        State state = State.FIELD_START;
+        while (true) {
+            if (!fill()) {
+                if (state == State.QUOTED) {
+                    throw new IOException(String.format(MESSAGE_UNCLOSED_QUOTE, recordLineNumber));
+                }
+                endField(fields);
+                return true;
+            }
+
+            switch (state) {
+            case FIELD_START:
+                if (buffer[position] == '"') {
+                    position++;
+                    state = State.QUOTED;
+                } else {
+                    state = State.UNQUOTED;
+                }
+                break;
+            case UNQUOTED:
+                int start = position;
+                while (position < limit && !isDelimiter(buffer[position])) {
+                    position++;
+                }
+                field.append(buffer, start, position - start);
+                if (position < limit) {
+                    if (endField(fields, buffer[position++])) {
+                        return true;
+                    }
+                    state = State.FIELD_START;
+                }
+                break;
+            case QUOTED:
+                int quotedStart = position;
+                while (position < limit && buffer[position] != '"') {
+                    char c = buffer[position];
+                    // Counts CRLF, LF and CR line breaks once each, as between records.
+                    if (c == '\r' || (c == '\n' && !isAfterCarriageReturn)) {
+                        lineNumber++;
+                    }
+                    isAfterCarriageReturn = c == '\r';
+                    position++;
+                }
+                field.append(buffer, quotedStart, position - quotedStart);
+                if (position < limit) {
+                    position++;
+                    isAfterCarriageReturn = false;
+                    state = State.AFTER_QUOTE;
+                }
+                break;
+            case AFTER_QUOTE:
+                char next = buffer[position++];
+                if (next == '"') {
+                    field.append('"');
+                    state = State.QUOTED;
+                } else if (isDelimiter(next)) {
+                    if (endField(fields, next)) {
+                        return true;
+                    }
+                    state = State.FIELD_START;
+                } else {
+                    throw new IOException(String.format(MESSAGE_TEXT_AFTER_QUOTE, lineNumber, next));
+                }
+                break;
+            default:
+                throw new AssertionError(state);
+            }
+        }
+    }
+
+    /**
+     * Returns the line on which the last record read starts, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Skips line breaks before the next record.
+     *
+     * @return false if there is no next record.
+     */
+    private boolean skipBlankLines() throws IOException {
+        while (fill()) {
+            char c = buffer[position];
+            if (c == '\n') {
+                if (!isAfterCarriageReturn) {
+                    lineNumber++;
+                }
+            } else if (c == '\r') {
+                lineNumber++;
+            } else {
+                isAfterCarriageReturn = false;
+                return true;
+            }
+            isAfterCarriageReturn = c == '\r';
+            position++;
+        }
+        return false;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == ',' || c == '\n' || c == '\r';
+    }
+
+    /**
+     * Adds the field read so far to {@code fields}, and handles the {@code delimiter} that ended it.
+     *
+     * @return true if {@code delimiter} also ends the record.
+     */
+    private boolean endField(List<String> fields, char delimiter) {
+        endField(fields);
+        if (delimiter == ',') {
+            return false;
+        }
+        lineNumber++;
+        isAfterCarriageReturn = delimiter == '\r';
+        return true;
+    }
+
+    private void endField(List<String> fields) {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    /**
+     * Makes sure there is at least one unread character in the buffer.
+     *
+     * @return false if the input has ended.
+     */
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        int read;
+        do {
+            read = reader.read(buffer);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+}
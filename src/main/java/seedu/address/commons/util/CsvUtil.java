@@ -2,29 +2,44 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressMonitor;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.LogEntry;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonBuilder;
+import seedu.address.model.person.PersonColumn;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Converts a Java object instance to CSV and vice versa
  */
 public class CsvUtil {
 
+    /** Files at least this large are split and read on all cores. */
+    static final long PARALLEL_READ_THRESHOLD_BYTES = 8 << 20;
+
+    /** The field that marks a record as a person removed since an earlier export. */
+    private static final String DELETED_FIELD = "deleted:true";
+
     private static final Logger logger = LogsCenter.getLogger(CsvUtil.class);
 
     /**
@@ -34,38 +49,90 @@ public class CsvUtil {
      * @return feedback message of the import for display
      * @throws IOException if an invalid filepath was specified
      */
-    private static ReadOnlyAddressBook deserializeAddressBookFromCsvFile(Path filepath) throws IOException {
-        BufferedReader reader = new BufferedReader(new FileReader(filepath.toFile()));
+    private static ReadOnlyAddressBook deserializeAddressBookFromCsvFile(Path filepath, ProgressMonitor monitor)
+            throws IOException {
+        List<Person> persons = deserializePersonsFromCsvFile(filepath, monitor);
         AddressBook addressBook = new AddressBook();
-        boolean isParsing = true;
-        while (isParsing) {
-            String csvLine = reader.readLine();
-            if (csvLine == null) {
-                isParsing = false;
-            } else {
-                try {
-                    Person newPerson = createNewPerson(csvLine);
-                    addressBook.addPerson(newPerson);
-                } catch (IllegalValueException e) {
-                    throw new IOException(e.getMessage());
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IOException(e.getMessage());
+        }
+        return addressBook;
+    }
+
+    private static List<Person> deserializePersonsFromCsvFile(Path filepath, ProgressMonitor monitor)
+            throws IOException {
+        Charset charset = Charset.defaultCharset();
+        List<Person> persons;
+        try {
+            // Gzip files can only be decompressed from the start, so they are always read sequentially.
+            if (!FileUtil.isGzipFile(filepath) && Files.size(filepath) >= PARALLEL_READ_THRESHOLD_BYTES
+                    && ParallelCsvReader.canSplit(charset)) {
+                persons = new ArrayList<>();
+                for (Optional<Person> person : ParallelCsvReader.read(filepath, charset, CsvUtil::readRecord,
+                        monitor)) {
+                    person.ifPresent(persons::add);
                 }
+            } else {
+                persons = readPersons(filepath, charset, monitor);
             }
+        } catch (IllegalValueException e) {
+            throw new IOException(e.getMessage());
         }
-        return addressBook;
+        return persons;
     }
 
-    private static void serializeObjectToCsvFile(Path filePath, ReadOnlyAddressBook csvFile) throws IOException {
-        PrintWriter printWriter = new PrintWriter(filePath.toFile());
-        csvFile.getPersonList().forEach((Person person) -> {
-            StringBuilder fieldsString = new StringBuilder();
-            person.getFields().forEach((String s) -> {
-                fieldsString.append("\"" + s.replaceAll("\"", "\"\"") + "\"");
-                fieldsString.append(',');
-            });
-            fieldsString.deleteCharAt(fieldsString.length() - 1); // remove trailing comma
-            printWriter.println(fieldsString);
-        });
-        printWriter.close();
+    private static List<Person> readPersons(Path filepath, Charset charset, ProgressMonitor monitor)
+            throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(
+                new InputStreamReader(FileUtil.newInputStream(filepath, monitor), charset))) {
+            List<String> fields = new ArrayList<>();
+            while (reader.readRecord(fields)) {
+                readRecord(fields).ifPresent(persons::add);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Writes {@code person} as one record, with each field in {@code columns} of the form
+     * "[FIELD_NAME]:[FIELD VALUE]".
+     */
+    private static void writePerson(CsvWriter writer, Person person, Set<PersonColumn> columns) throws IOException {
+        if (columns.contains(PersonColumn.NAME)) {
+            writer.beginField().append("name:").append(person.getName().fullName).endField();
+        }
+        if (columns.contains(PersonColumn.PHONE)) {
+            writer.beginField().append("phone:").append(person.getPhone().value).endField();
+        }
+        if (columns.contains(PersonColumn.ADDRESS)) {
+            writer.beginField().append("address:").append(person.getAddress().value).endField();
+        }
+        if (columns.contains(PersonColumn.EMAIL)) {
+            writer.beginField().append("email:").append(person.getEmail().value).endField();
+        }
+        if (columns.contains(PersonColumn.TELEGRAM)) {
+            writer.beginField().append("telegram:").append(person.getTelegramHandle().value).endField();
+        }
+        if (columns.contains(PersonColumn.TAG)) {
+            for (Tag tag : person.getTags()) {
+                writer.beginField().append("tag:[").append(tag.tagName).append(']').endField();
+            }
+        }
+        if (columns.contains(PersonColumn.PINNED)) {
+            writer.beginField().append("isPinned:").append(String.valueOf(person.isPinned())).endField();
+        }
+        if (columns.contains(PersonColumn.LOG)) {
+            for (LogEntry log : person.getLogs().getLogs()) {
+                writer.beginField().append("log:").append(log.toString()).endField();
+            }
+        }
+        if (columns.contains(PersonColumn.NOTE)) {
+            writer.beginField().append("note:").append(person.getNote().value).endField();
+        }
+        writer.endRecord();
     }
 
     /**
@@ -77,7 +144,18 @@ public class CsvUtil {
      */
     public static Optional<ReadOnlyAddressBook> readCsvFile(
             Path filePath) throws DataLoadingException {
+        return readCsvFile(filePath, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Similar to {@link #readCsvFile(Path)}, but reports the bytes of the file read so far to {@code monitor}.
+     *
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    public static Optional<ReadOnlyAddressBook> readCsvFile(Path filePath, ProgressMonitor monitor)
+            throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(monitor);
 
         if (!Files.exists(filePath)) {
             return Optional.empty();
@@ -87,7 +165,7 @@ public class CsvUtil {
         ReadOnlyAddressBook csvFile;
 
         try {
-            csvFile = deserializeAddressBookFromCsvFile(filePath);
+            csvFile = deserializeAddressBookFromCsvFile(filePath, monitor);
         } catch (IOException e) {
             logger.warning("Error reading from csvFile file " + filePath + ": " + e);
             throw new DataLoadingException(e);
@@ -96,6 +174,29 @@ public class CsvUtil {
         return Optional.of(csvFile);
     }
 
+    /**
+     * Similar to {@link #readCsvFile(Path, ProgressMonitor)}, but returns the persons in the file as they are, which
+     * may include duplicate persons.
+     *
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    public static Optional<List<Person>> readCsvPersons(Path filePath, ProgressMonitor monitor)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(monitor);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(deserializePersonsFromCsvFile(filePath, monitor));
+        } catch (IOException e) {
+            logger.warning("Error reading from csvFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
     /**
      * Saves the Csv object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -104,26 +205,64 @@ public class CsvUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static void saveCsvFile(ReadOnlyAddressBook csvFile, Path filePath) throws IOException {
-        requireNonNull(filePath);
         requireNonNull(csvFile);
 
-        serializeObjectToCsvFile(filePath, csvFile);
+        writeCsvFile(csvFile.getPersonList(), List.of(), PersonColumn.ALL, filePath);
+    }
+
+    /**
+     * Writes {@code persons} to the specified file one at a time, with only the fields in {@code columns}, followed by
+     * {@code removedPersons}, each as a record of its name and phone with the field "deleted:true".
+     * Overwrites existing file if it exists, creates a new file if it doesn't. Gzip files are compressed on the fly.
+     *
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeCsvFile(Iterable<Person> persons, List<Person> removedPersons, Set<PersonColumn> columns,
+            Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(removedPersons);
+        requireNonNull(columns);
+        requireNonNull(filePath);
+
+        // The platform charset is kept, as files written before are read back with it.
+        try (CsvWriter writer = new CsvWriter(
+                new OutputStreamWriter(FileUtil.newOutputStream(filePath), Charset.defaultCharset()))) {
+            for (Person person : persons) {
+                writePerson(writer, person, columns);
+            }
+            for (Person person : removedPersons) {
+                writer.beginField().append("name:").append(person.getName().fullName).endField();
+                writer.beginField().append("phone:").append(person.getPhone().value).endField();
+                writer.beginField().append(DELETED_FIELD).endField();
+                writer.endRecord();
+            }
+        }
     }
 
     /**
-     * Creates a person based on the input comma-separated string.
+     * Returns the person in one CSV record, or an empty {@code Optional} if the record is marked as deleted, as
+     * written for removed persons by an export of changes. Such records are ignored, just as the list of deleted
+     * persons in a JSON export is when it is read.
+     */
+    private static Optional<Person> readRecord(List<String> fields) throws ParseException {
+        if (fields.contains(DELETED_FIELD)) {
+            return Optional.empty();
+        }
+        return Optional.of(createNewPerson(fields));
+    }
+
+    /**
+     * Creates a person based on the fields of one CSV record.
      *
-     * @param inputString A comma-separated string of text.
-     * @return the person specified in the string.
+     * @param fields The fields of the record, each of the form "[FIELD_NAME]:[FIELD VALUE]".
+     * @return the person specified in the record.
      */
-    private static Person createNewPerson(String inputString) throws ParseException {
-        requireNonNull(inputString);
+    private static Person createNewPerson(List<String> fields) throws ParseException {
+        requireNonNull(fields);
 
         PersonBuilder builder = new PersonBuilder();
-
-        String[] fieldArray = inputString.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
-        for (String s : fieldArray) {
-            addFieldToPerson(builder, s.substring(1, s.length() - 1).replace("\"\"", "\""));
+        for (String field : fields) {
+            addFieldToPerson(builder, field);
         }
 
         return builder.buildPerson();
@@ -158,10 +297,15 @@ public class CsvUtil {
             builder.setPinned(s.substring(s.indexOf(":") + 1));
             break;
         case "log":
+            // Written as "[time] (type) message", or "[time] message" if the entry has no type.
             String logTime = s.substring(s.indexOf('[') + 1, s.indexOf(']'));
-            String logType = s.substring(s.indexOf('(') + 1, s.indexOf(')'));
-            String logData = s.substring(s.indexOf(')') + 1);
-            builder.setLog(logTime, logType, logData);
+            String logRest = s.substring(s.indexOf(']') + 2);
+            String logType = "";
+            if (logRest.startsWith("(") && logRest.contains(") ")) {
+                logType = logRest.substring(1, logRest.indexOf(") "));
+                logRest = logRest.substring(logRest.indexOf(") ") + 2);
+            }
+            builder.setLog(logTime, logType, logRest);
             break;
         default:
             throw new ParseException("Unknown tag encountered");
@@ -0,0 +1,138 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes comma-separated values one record at a time, enclosing every field in double quotes as in RFC 4180.
+ * <p>
+ * A field is written in parts, between {@link #beginField()} and {@link #endField()}, so that a field made of several
+ * values does not have to be concatenated first. Double quotes in the values are doubled. Records end with the
+ * system line separator.
+ * <p>
+ * Output is collected into large blocks before it is written, so {@code writer} does not need to be buffered.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private final String lineSeparator = System.lineSeparator();
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private boolean isFirstField = true;
+
+    /**
+     * Creates a {@code CsvWriter} that writes to {@code writer}.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Starts a new field of the current record.
+     */
+    public CsvWriter beginField() throws IOException {
+        if (!isFirstField) {
+            put(',');
+        }
+        put('"');
+        isFirstField = false;
+        return this;
+    }
+
+    /**
+     * Appends {@code text} to the current field.
+     */
+    public CsvWriter append(String text) throws IOException {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                put(text, start, i + 1);
+                put('"');
+                start = i + 1;
+            }
+        }
+        put(text, start, text.length());
+        return this;
+    }
+
+    /**
+     * Appends {@code c} to the current field.
+     */
+    public CsvWriter append(char c) throws IOException {
+        put(c);
+        if (c == '"') {
+            put(c);
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current field.
+     */
+    public CsvWriter endField() throws IOException {
+        put('"');
+        return this;
+    }
+
+    /**
+     * Writes a field with the given {@code value}.
+     */
+    public CsvWriter writeField(String value) throws IOException {
+        return beginField().append(value).endField();
+    }
+
+    /**
+     * Ends the current record. The next field starts a new record.
+     */
+    public void endRecord() throws IOException {
+        put(lineSeparator, 0, lineSeparator.length());
+        isFirstField = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBuffer();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void put(char c) throws IOException {
+        if (position == buffer.length) {
+            writeBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void put(String text, int start, int end) throws IOException {
+        while (start < end) {
+            if (position == buffer.length) {
+                writeBuffer();
+            }
+            int count = Math.min(end - start, buffer.length - position);
+            text.getChars(start, start + count, buffer, position);
+            position += count;
+            start += count;
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        writer.write(buffer, 0, position);
+        position = 0;
+    }
+
+}
@@ -1,17 +1,31 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.ProgressMonitor;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String GZIP_FILE_EXTENSION = ".gz";
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
     private static final String CHARSET = "UTF-8";
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +94,134 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Moves {@code source} over {@code target}, replacing it, so that readers of {@code target} see either
+     * the old or the new content but never a partially written file.
+     * Falls back to a plain replacing move if the file system does not support atomic moves.
+     */
+    public static void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Copies {@code file} to a new file next to it and returns the copy, which is named after {@code file} with
+     * {@code .bak} added, or with a number before {@code .bak} if earlier backups already exist.
+     */
+    public static Path backUp(Path file) throws IOException {
+        Path backupFile = file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+        for (int i = 1; Files.exists(backupFile); i++) {
+            backupFile = file.resolveSibling(file.getFileName() + "." + i + BACKUP_FILE_EXTENSION);
+        }
+        Files.copy(file, backupFile);
+        return backupFile;
+    }
+
+    /**
+     * Returns true if {@code file} is gzip-compressed, which is the case if its name ends with {@code .gz}.
+     */
+    public static boolean isGzipFile(Path file) {
+        return file.getFileName() != null && file.getFileName().toString().endsWith(GZIP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if the name of {@code file} ends with {@code extension}, either directly or before a
+     * {@code .gz} extension, e.g. both {@code contacts.csv} and {@code contacts.csv.gz} have extension {@code .csv}.
+     */
+    public static boolean hasExtension(Path file, String extension) {
+        if (file.getFileName() == null) {
+            return false;
+        }
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(extension) || fileName.endsWith(extension + GZIP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns {@code file} with the {@code extension} at the end of its name replaced by {@code newExtension},
+     * or {@code file} itself if its name does not end with {@code extension}.
+     */
+    public static Path replaceExtension(Path file, String extension, String newExtension) {
+        if (file.getFileName() == null || !file.getFileName().toString().endsWith(extension)) {
+            return file;
+        }
+        String fileName = file.getFileName().toString();
+        return file.resolveSibling(fileName.substring(0, fileName.length() - extension.length()) + newExtension);
+    }
+
+    /**
+     * Returns the path of the gzip-compressed file for {@code file}, which is {@code file} itself if it is
+     * already gzip-compressed.
+     */
+    public static Path toGzipFile(Path file) {
+        return isGzipFile(file) ? file : file.resolveSibling(file.getFileName() + GZIP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns whichever of {@code file} and {@code other} was modified last, or {@code file} if both were modified
+     * at the same time or neither exists. A file that does not exist counts as older than one that does.
+     */
+    public static Path getNewerFile(Path file, Path other) throws IOException {
+        if (!Files.exists(other)) {
+            return file;
+        }
+        if (!Files.exists(file)) {
+            return other;
+        }
+        return Files.getLastModifiedTime(other).compareTo(Files.getLastModifiedTime(file)) > 0 ? other : file;
+    }
+
+    /**
+     * Opens a buffered stream that reads {@code file}, decompressing it on the fly if it is a gzip file.
+     * The caller is responsible for closing the returned stream.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        return newInputStream(file, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Similar to {@link #newInputStream(Path)}, but reports the bytes of {@code file} read so far to
+     * {@code monitor}, and stops reading once {@code monitor} is cancelled.
+     */
+    public static InputStream newInputStream(Path file, ProgressMonitor monitor) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        try {
+            if (monitor != ProgressMonitor.NONE) {
+                in = new MonitoredInputStream(in, Files.size(file), monitor);
+            }
+            return isGzipFile(file)
+                    ? new GZIPInputStream(in, FILE_BUFFER_SIZE)
+                    : new BufferedInputStream(in, FILE_BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a buffered stream that writes {@code file}, overwriting it if it exists, and compresses the output on
+     * the fly if {@code isGzip} is true.
+     * The caller is responsible for closing the returned stream, which also completes the compressed file.
+     */
+    public static OutputStream newOutputStream(Path file, boolean isGzip) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        try {
+            return isGzip
+                    ? new GZIPOutputStream(out, FILE_BUFFER_SIZE)
+                    : new BufferedOutputStream(out, FILE_BUFFER_SIZE);
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Similar to {@link #newOutputStream(Path, boolean)}, compressing the output if {@code file} is a gzip file.
+     */
+    public static OutputStream newOutputStream(Path file) throws IOException {
+        return newOutputStream(file, isGzipFile(file));
+    }
+
 }
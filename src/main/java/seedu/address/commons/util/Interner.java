@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizes equal immutable values so that only one instance of each is kept in memory.
+ * Intended for low-cardinality values (e.g. tags, log types) that repeat across many contacts.
+ * Once {@code maxSize} distinct values have been interned, further new values are returned as-is
+ * so that a high-cardinality input cannot grow the table without bound.
+ *
+ * @param <T> type of the value; must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<T, T> canonicalValues = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Creates an {@code Interner} that remembers at most {@code maxSize} distinct values.
+     */
+    public Interner(int maxSize) {
+        checkArgument(maxSize > 0, "Interner size must be positive");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, remembering {@code value} as the
+     * canonical instance if none has been seen before.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T canonical = canonicalValues.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (canonicalValues.size() >= maxSize) {
+            return value;
+        }
+        canonical = canonicalValues.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    /**
+     * Returns the number of distinct values currently interned.
+     */
+    public int size() {
+        return canonicalValues.size();
+    }
+
+}
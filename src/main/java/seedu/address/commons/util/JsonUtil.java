@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,16 +12,22 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressMonitor;
 import seedu.address.commons.exceptions.DataLoadingException;
 
 /**
@@ -39,8 +46,17 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writers are immutable and thread-safe, so they are built once instead of on every save.
+    // Values written into a generator are not flushed individually; the buffer is flushed on close.
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter valueWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize) + "\n");
+        try (JsonGenerator generator = createGenerator(jsonFile, false)) {
+            writeValue(generator, objectToSerialize);
+            generator.writeRaw('\n');
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -92,6 +108,75 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Opens a streaming {@code JsonParser} over the given file, for callers that want to decode
+     * large documents token by token instead of binding the whole file at once. Gzip files are decompressed
+     * on the fly (see {@link FileUtil#isGzipFile(Path)}).
+     * The caller is responsible for closing the returned parser.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        return createParser(filePath, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Similar to {@link #createParser(Path)}, but reports the bytes of the file read so far to {@code monitor},
+     * and stops reading once {@code monitor} is cancelled.
+     */
+    public static JsonParser createParser(Path filePath, ProgressMonitor monitor) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(monitor);
+        return objectMapper.getFactory().createParser(FileUtil.newInputStream(filePath, monitor));
+    }
+
+    /**
+     * Opens a streaming {@code JsonGenerator} that writes UTF-8 JSON to the given file through a buffer,
+     * overwriting the file if it exists. Unless {@code isCompact} is true, the output is pretty-printed
+     * in the same layout as {@link #toJsonString(Object)}. Gzip files are compressed on the fly.
+     * The caller is responsible for closing the returned generator, which also closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        return createGenerator(FileUtil.newOutputStream(filePath), isCompact);
+    }
+
+    /**
+     * Similar to {@link #createGenerator(Path, boolean)}, but writes to {@code outputStream}.
+     * Closing the returned generator also closes {@code outputStream}.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean isCompact) throws IOException {
+        requireNonNull(outputStream);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        if (!isCompact) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        }
+        return generator;
+    }
+
+    /**
+     * Writes {@code value} as JSON at the current position of {@code generator}, using the generator's
+     * own formatting so that values can be nested inside a document written token by token.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        requireNonNull(generator);
+        valueWriter.writeValue(generator, value);
+    }
+
+    /**
+     * Binds the JSON value at the current token of {@code parser} to an instance of the given class,
+     * using the same configuration as {@link #fromJsonString(String, Class)}.
+     * On return, the parser is positioned at the last token of the value that was read.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        requireNonNull(parser);
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -101,6 +186,15 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Similar to {@link #fromJsonString(String, Class)}, but reads the UTF-8 JSON data in the {@code length} bytes
+     * of {@code bytes} at {@code offset}, without decoding them into a string first.
+     */
+    public static <T> T fromJsonBytes(byte[] bytes, int offset, int length, Class<T> instanceClass)
+            throws IOException {
+        return objectMapper.readValue(bytes, offset, length, instanceClass);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -108,7 +202,7 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
     }
 
     /**
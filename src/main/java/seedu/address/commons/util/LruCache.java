@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remembers the values of at most {@code maxSize} keys, forgetting the least recently used key first.
+ * Intended for values that are expensive to load but can always be loaded again (e.g. decoded data).
+ * All methods are thread-safe.
+ *
+ * @param <K> type of the key; compared with {@code equals} and {@code hashCode}.
+ * @param <V> type of the value.
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> values;
+
+    /**
+     * Creates an {@code LruCache} that remembers at most {@code maxSize} values.
+     */
+    public LruCache(int maxSize) {
+        checkArgument(maxSize > 0, "Cache size must be positive");
+        values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the value remembered for {@code key}, and marks it as the most recently used.
+     */
+    public synchronized Optional<V> get(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(values.get(key));
+    }
+
+    /**
+     * Remembers {@code value} for {@code key}, forgetting the least recently used value if the cache is full.
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        values.put(key, value);
+    }
+
+    /**
+     * Returns the number of values currently remembered.
+     */
+    public synchronized int size() {
+        return values.size();
+    }
+
+}
@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CancellationException;
+
+import seedu.address.commons.core.ProgressMonitor;
+
+/**
+ * An input stream that reports how many of a known number of bytes have been read to a {@link ProgressMonitor},
+ * and stops reading once the monitor is cancelled.
+ */
+public class MonitoredInputStream extends FilterInputStream {
+
+    private final ProgressMonitor monitor;
+    private final long totalBytes;
+    private long bytesRead;
+
+    /**
+     * Creates a {@code MonitoredInputStream} that reads {@code totalBytes} from {@code in}.
+     */
+    public MonitoredInputStream(InputStream in, long totalBytes, ProgressMonitor monitor) {
+        super(requireNonNull(in));
+        requireNonNull(monitor);
+        this.monitor = monitor;
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws CancellationException if the monitor has been cancelled.
+     */
+    @Override
+    public int read() throws IOException {
+        monitor.checkCancelled();
+        int b = super.read();
+        if (b >= 0) {
+            advance(1);
+        }
+        return b;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws CancellationException if the monitor has been cancelled.
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        monitor.checkCancelled();
+        int count = super.read(b, off, len);
+        if (count > 0) {
+            advance(count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        advance(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // Bytes read again after a reset would be counted twice.
+        return false;
+    }
+
+    private void advance(long count) {
+        bytesRead += count;
+        monitor.worked(Math.min(bytesRead, totalBytes), totalBytes);
+    }
+
+}
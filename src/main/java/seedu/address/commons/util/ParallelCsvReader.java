@@ -0,0 +1,283 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads a large CSV file on all cores.
+ * <p>
+ * The file is memory-mapped and split into chunks of whole records. The bytes are walked once with the same states as
+ * {@link CsvReader}, so a line break inside a quoted field never splits a chunk. The chunks are then decoded, parsed
+ * and converted in parallel on the common fork/join pool. Records keep their order in the file, and if several are
+ * invalid, the error of the first one is reported, as when reading the file with a single {@code CsvReader}.
+ * <p>
+ * Splitting relies on the quote, comma and line break characters being single bytes that never occur inside other
+ * characters, which holds for ASCII-compatible charsets such as UTF-8 (see {@link #canSplit(Charset)}).
+ */
+public class ParallelCsvReader {
+
+    static final long DEFAULT_CHUNK_BYTES = 4 << 20;
+
+    private static final long MAP_WINDOW_BYTES = 1 << 30;
+    private static final String SPECIAL_CHARACTERS = "\",\r\n";
+
+    private enum State { FIELD_START, UNQUOTED, QUOTED, AFTER_QUOTE }
+
+    /**
+     * Converts the fields of one record.
+     *
+     * @param <T> type of the converted record.
+     */
+    @FunctionalInterface
+    public interface RecordConverter<T> {
+        T convert(List<String> fields) throws IllegalValueException;
+    }
+
+    private ParallelCsvReader() {}
+
+    /**
+     * Returns true if files in {@code charset} can be split by {@code ParallelCsvReader}.
+     */
+    public static boolean canSplit(Charset charset) {
+        requireNonNull(charset);
+        return Arrays.equals(SPECIAL_CHARACTERS.getBytes(charset),
+                SPECIAL_CHARACTERS.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Reads every record of the CSV file at {@code filePath} in {@code charset} and converts it with
+     * {@code converter}, which may be called from several threads at once.
+     *
+     * @return the converted records, in the order of the file.
+     * @throws IOException if the file cannot be read or is not valid CSV.
+     * @throws IllegalValueException if {@code converter} rejects a record.
+     */
+    public static <T> List<T> read(Path filePath, Charset charset, RecordConverter<T> converter)
+            throws IOException, IllegalValueException {
+        return read(filePath, charset, converter, ProgressMonitor.NONE, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Similar to {@link #read(Path, Charset, RecordConverter)}, but reports the bytes of the file read so far to
+     * {@code monitor} as each chunk is done.
+     *
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    public static <T> List<T> read(Path filePath, Charset charset, RecordConverter<T> converter,
+            ProgressMonitor monitor) throws IOException, IllegalValueException {
+        return read(filePath, charset, converter, monitor, DEFAULT_CHUNK_BYTES);
+    }
+
+    static <T> List<T> read(Path filePath, Charset charset, RecordConverter<T> converter, long chunkBytes)
+            throws IOException, IllegalValueException {
+        return read(filePath, charset, converter, ProgressMonitor.NONE, chunkBytes);
+    }
+
+    private static <T> List<T> read(Path filePath, Charset charset, RecordConverter<T> converter,
+            ProgressMonitor monitor, long chunkBytes) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(converter);
+        requireNonNull(monitor);
+        if (!canSplit(charset)) {
+            throw new IllegalArgumentException("Cannot split files in " + charset);
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ChunkProgress progress = new ChunkProgress(monitor, channel.size());
+            List<ChunkTask<T>> tasks = new ArrayList<>();
+            for (Chunk chunk : split(channel, chunkBytes)) {
+                tasks.add(new ChunkTask<>(channel.map(FileChannel.MapMode.READ_ONLY, chunk.start, chunk.length()),
+                        chunk.firstLineNumber, charset, converter, progress));
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            List<T> records = new ArrayList<>();
+            for (ChunkTask<T> task : tasks) {
+                if (task.ioError != null) {
+                    throw task.ioError;
+                }
+                if (task.valueError != null) {
+                    throw task.valueError;
+                }
+                records.addAll(task.getRawResult());
+            }
+            return records;
+        }
+    }
+
+    /**
+     * Returns chunks of whole records that together cover the file, each about {@code chunkBytes} long.
+     */
+    static List<Chunk> split(FileChannel channel, long chunkBytes) throws IOException {
+        long size = channel.size();
+        List<Chunk> chunks = new ArrayList<>();
+        long chunkStart = 0;
+        int chunkFirstLineNumber = 1;
+        int lineNumber = 1;
+        boolean isAfterCarriageReturn = false;
+        State state = State.FIELD_START;
+
+        for (long windowStart = 0; windowStart < size; windowStart += MAP_WINDOW_BYTES) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                    Math.min(MAP_WINDOW_BYTES, size - windowStart));
+            for (int i = 0; i < window.limit(); i++) {
+                byte b = window.get(i);
+                if (isAfterCarriageReturn && b != '\n') {
+                    lineNumber++;
+                }
+                isAfterCarriageReturn = false;
+
+                switch (state) {
+                case QUOTED:
+                    if (b == '"') {
+                        state = State.AFTER_QUOTE;
+                    } else if (b == '\r') {
+                        isAfterCarriageReturn = true;
+                    } else if (b == '\n') {
+                        lineNumber++;
+                    }
+                    continue;
+                case AFTER_QUOTE:
+                    if (b == '"') {
+                        state = State.QUOTED;
+                        continue;
+                    }
+                    break;
+                case FIELD_START:
+                    if (b == '"') {
+                        state = State.QUOTED;
+                        continue;
+                    }
+                    break;
+                default:
+                    break;
+                }
+
+                if (b == ',') {
+                    state = State.FIELD_START;
+                } else if (b == '\r') {
+                    // Counted once the next byte shows whether it starts a CRLF line break.
+                    isAfterCarriageReturn = true;
+                    state = State.FIELD_START;
+                } else if (b == '\n') {
+                    lineNumber++;
+                    state = State.FIELD_START;
+                    long end = windowStart + i + 1;
+                    if (end - chunkStart >= chunkBytes && end < size) {
+                        chunks.add(new Chunk(chunkStart, end, chunkFirstLineNumber));
+                        chunkStart = end;
+                        chunkFirstLineNumber = lineNumber;
+                    }
+                } else {
+                    // Text after a closing quote is invalid, and is left for the CsvReader of its chunk to report.
+                    state = State.UNQUOTED;
+                }
+            }
+        }
+        if (chunkStart < size || chunks.isEmpty()) {
+            chunks.add(new Chunk(chunkStart, size, chunkFirstLineNumber));
+        }
+        return chunks;
+    }
+
+    /**
+     * The bytes from {@code start} to {@code end} of a file, which start on line {@code firstLineNumber}.
+     */
+    static class Chunk {
+        final long start;
+        final long end;
+        final int firstLineNumber;
+
+        Chunk(long start, long end, int firstLineNumber) {
+            this.start = start;
+            this.end = end;
+            this.firstLineNumber = firstLineNumber;
+        }
+
+        long length() {
+            return end - start;
+        }
+    }
+
+    /**
+     * Adds up the bytes of the chunks that are done, which may finish in any order.
+     */
+    private static class ChunkProgress {
+        private final ProgressMonitor monitor;
+        private final long totalBytes;
+        private final AtomicLong bytesDone = new AtomicLong();
+
+        ChunkProgress(ProgressMonitor monitor, long totalBytes) {
+            this.monitor = monitor;
+            this.totalBytes = totalBytes;
+        }
+
+        void chunkDone(long chunkBytes) {
+            monitor.worked(bytesDone.addAndGet(chunkBytes), totalBytes);
+        }
+    }
+
+    /**
+     * Decodes, parses and converts the records of one chunk, stopping at the first error.
+     */
+    private static class ChunkTask<T> extends RecursiveTask<List<T>> {
+        private final MappedByteBuffer bytes;
+        private final int firstLineNumber;
+        private final Charset charset;
+        private final RecordConverter<T> converter;
+        private final ChunkProgress progress;
+        private IOException ioError;
+        private IllegalValueException valueError;
+
+        ChunkTask(MappedByteBuffer bytes, int firstLineNumber, Charset charset, RecordConverter<T> converter,
+                ChunkProgress progress) {
+            this.bytes = bytes;
+            this.firstLineNumber = firstLineNumber;
+            this.charset = charset;
+            this.converter = converter;
+            this.progress = progress;
+        }
+
+        @Override
+        protected List<T> compute() {
+            List<T> records = new ArrayList<>();
+            int chunkBytes = bytes.limit();
+            CharBuffer chars = charset.decode(bytes);
+            CsvReader reader = new CsvReader(new CharArrayReader(chars.array(), chars.arrayOffset(), chars.limit()),
+                    firstLineNumber);
+            List<String> fields = new ArrayList<>();
+            try {
+                while (reader.readRecord(fields)) {
+                    progress.monitor.checkCancelled();
+                    records.add(converter.convert(fields));
+                }
+            } catch (IOException e) {
+                ioError = e;
+            } catch (IllegalValueException e) {
+                valueError = e;
+            }
+            progress.chunkDone(chunkBytes);
+            return records;
+        }
+    }
+
+}
@@ -0,0 +1,185 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs one {@link BackgroundTask} at a time on a background thread.
+ * <p>
+ * Progress is passed on at most every {@link #PROGRESS_INTERVAL_MILLIS} milliseconds, and the progress, completion
+ * and failure of a task are all handed to {@code commandExecutor}, the executor on which commands are executed, so
+ * that the completion of a task can apply its outcome to the model like any other command.
+ */
+public class BackgroundTaskRunner {
+
+    public static final String MESSAGE_TASK_RUNNING = "Another task is still running. "
+            + "Wait for it to finish, or stop it with the cancel command.";
+    public static final String MESSAGE_NO_TASK_RUNNING = "There is no task running to cancel.";
+    public static final String MESSAGE_TASK_CANCELLED = "The task was cancelled.";
+    public static final String MESSAGE_TASK_FAILED = "The task failed: %1$s";
+
+    static final long PROGRESS_INTERVAL_MILLIS = 100;
+
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTaskRunner.class);
+
+    /**
+     * Receives what happens to the tasks started by a {@code BackgroundTaskRunner}.
+     * All methods are called on the executor that commands are executed on.
+     */
+    public interface Listener {
+        /** Reports the progress of the running task. */
+        void progressed(String message);
+
+        /** Reports that the completion of the running task was handed to the command executor. */
+        void completed(BackgroundTask.Completion completion);
+
+        /** Reports that the running task failed or was cancelled. */
+        void failed(String message);
+    }
+
+    private final Executor commandExecutor;
+    private final ExecutorService worker;
+
+    // Guarded by this.
+    private RunningTask runningTask;
+
+    /**
+     * Creates a {@code BackgroundTaskRunner} that reports to {@code commandExecutor}.
+     * The worker thread is started on demand and stops after being idle for a while.
+     */
+    public BackgroundTaskRunner(Executor commandExecutor) {
+        requireNonNull(commandExecutor);
+        this.commandExecutor = commandExecutor;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "background-task");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.worker = executor;
+    }
+
+    /**
+     * Starts {@code task} on the worker thread, reporting what happens to it to {@code listener}.
+     *
+     * @throws CommandException if another task is still running.
+     */
+    public synchronized void start(BackgroundTask task, Listener listener) throws CommandException {
+        requireNonNull(task);
+        requireNonNull(listener);
+
+        if (runningTask != null) {
+            throw new CommandException(MESSAGE_TASK_RUNNING);
+        }
+        RunningTask newTask = new RunningTask(task, listener);
+        runningTask = newTask;
+        worker.execute(newTask::run);
+    }
+
+    /**
+     * Asks the running task to stop.
+     *
+     * @throws CommandException if there is no task running.
+     */
+    public synchronized void cancel() throws CommandException {
+        if (runningTask == null) {
+            throw new CommandException(MESSAGE_NO_TASK_RUNNING);
+        }
+        runningTask.isCancelled = true;
+    }
+
+    /**
+     * Returns true if a task has been started and has not finished yet.
+     */
+    public synchronized boolean isRunning() {
+        return runningTask != null;
+    }
+
+    private synchronized boolean isCurrent(RunningTask task) {
+        return runningTask == task;
+    }
+
+    private synchronized void finish(RunningTask task) {
+        if (runningTask == task) {
+            runningTask = null;
+        }
+    }
+
+    /**
+     * A task that has been started, and the monitor that it reports to.
+     */
+    private class RunningTask implements ProgressMonitor {
+        private final BackgroundTask task;
+        private final Listener listener;
+        private volatile boolean isCancelled;
+        // Progress may be reported from several threads, in which case a race at most sends an extra report.
+        private volatile long lastReportNanos = System.nanoTime();
+
+        RunningTask(BackgroundTask task, Listener listener) {
+            this.task = task;
+            this.listener = listener;
+        }
+
+        void run() {
+            try {
+                BackgroundTask.Completion completion = task.run(this);
+                // A task that is done can no longer be cancelled, and another one may be started.
+                finish(this);
+                commandExecutor.execute(() -> listener.completed(completion));
+            } catch (CancellationException e) {
+                report(MESSAGE_TASK_CANCELLED);
+            } catch (CommandException e) {
+                report(String.format(MESSAGE_TASK_FAILED, e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.warning("Background task failed: " + e);
+                report(String.format(MESSAGE_TASK_FAILED, e));
+            } catch (Error e) {
+                // E.g. running out of memory on a large file, after which other tasks must still be allowed to start.
+                logger.severe("Background task failed: " + e);
+                report(String.format(MESSAGE_TASK_FAILED, e));
+            }
+        }
+
+        private void report(String failure) {
+            finish(this);
+            commandExecutor.execute(() -> listener.failed(failure));
+        }
+
+        @Override
+        public void worked(long done, long total) {
+            long now = System.nanoTime();
+            if (done < total && now - lastReportNanos < TimeUnit.MILLISECONDS.toNanos(PROGRESS_INTERVAL_MILLIS)) {
+                return;
+            }
+            lastReportNanos = now;
+            String message = task.describeProgress(done, total);
+            commandExecutor.execute(() -> {
+                // Progress reported by a straggling thread is dropped once the task has finished.
+                if (isCurrent(this)) {
+                    listener.progressed(message);
+                }
+            });
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+    }
+
+}
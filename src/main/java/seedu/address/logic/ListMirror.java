@@ -0,0 +1,104 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is changed on one thread, for use on another thread, e.g. a list changed
+ * by commands and shown by the UI.
+ * <p>
+ * Changes to the source are recorded on the thread that makes them, and {@link #takeChanges()} hands them over to
+ * be replayed on the copy, in the same order and as equally fine-grained changes, with one change to the copy for
+ * each change to the source. Items that are only moved are kept as they are, so that the UI keeps what is selected.
+ * The source must not hold the same item twice.
+ */
+class ListMirror<T> {
+
+    private final BatchObservableList<T> copy;
+    private final ObservableList<T> unmodifiableCopy;
+
+    // Only used on the thread that changes the source.
+    private List<Consumer<ObservableList<T>>> pendingChanges = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code source}, which must not be changed by another thread until this returns.
+     */
+    ListMirror(ObservableList<T> source) {
+        requireNonNull(source);
+        copy = new BatchObservableList<>(source);
+        unmodifiableCopy = FXCollections.unmodifiableObservableList(copy);
+        source.addListener(this::record);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy, which must only be used on the thread that replays the changes.
+     */
+    ObservableList<T> getList() {
+        return unmodifiableCopy;
+    }
+
+    /**
+     * Returns the changes made to the source since the last call, which bring the copy up to date when run on the
+     * thread that uses it. Must be called on the thread that changes the source.
+     */
+    Runnable takeChanges() {
+        List<Consumer<ObservableList<T>>> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        return () -> changes.forEach(change -> change.accept(copy));
+    }
+
+    private void record(ListChangeListener.Change<? extends T> change) {
+        List<Consumer<ObservableList<T>>> subChanges = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - from];
+                for (int i = 0; i < permutation.length; i++) {
+                    permutation[i] = change.getPermutation(from + i);
+                }
+                subChanges.add(list -> permute(list, from, permutation));
+            } else if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                subChanges.add(list -> {
+                    for (int i = 0; i < added.size(); i++) {
+                        list.set(from + i, added.get(i));
+                    }
+                });
+            } else if (change.wasRemoved() || change.wasAdded()) {
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                subChanges.add(list -> {
+                    list.remove(from, from + removedSize);
+                    list.addAll(from, added);
+                });
+            }
+        }
+        // A change to the source is one change to the copy, e.g. one update of a list view for a batch of changes.
+        // A permutation is never reported together with other changes.
+        pendingChanges.add(list -> copy.batch(() -> subChanges.forEach(subChange -> subChange.accept(list))));
+    }
+
+    /**
+     * Moves the item at each index {@code from + i} of {@code list} to {@code permutation[i]}, as one change.
+     */
+    private static <T> void permute(ObservableList<T> list, int from, int[] permutation) {
+        Map<T, Integer> newIndexes = new IdentityHashMap<>(list.size() * 2);
+        for (int i = 0; i < list.size(); i++) {
+            boolean isMoved = i >= from && i < from + permutation.length;
+            newIndexes.put(list.get(i), isMoved ? permutation[i - from] : i);
+        }
+        // Sorting the whole list by the new indexes reports a permutation, unlike setting the items one by one.
+        list.sort((first, second) -> Integer.compare(newIndexes.get(first), newIndexes.get(second)));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -12,10 +13,55 @@ import seedu.address.model.person.Person;
 
 /**
  * API of the Logic component
+ * <p>
+ * Commands are executed one at a time, in the order they are entered, on a command thread of their own, so that
+ * the UI is never held up by a command. The lists returned by {@link #getFilteredPersonList()} and
+ * {@link #getAddressBook()} are copies that are kept up to date on the UI thread, and must only be used there.
  */
 public interface Logic {
+
+    /**
+     * Receives the outcome of a command submitted with {@link #submit(String, CommandListener)}, on the UI thread.
+     */
+    interface CommandListener {
+        /** Reports that the command was executed with {@code result}. */
+        void succeeded(CommandResult result);
+
+        /** Reports that the command could not be parsed or executed, with the reason why. */
+        void failed(String message);
+    }
+
+    /**
+     * Receives the progress and outcome of the background tasks started by commands, on the UI thread.
+     */
+    interface TaskListener {
+        /** Reports the progress of the running task. */
+        void progressed(String message);
+
+        /** Reports that the running task has finished and its outcome has been applied. */
+        void finished(CommandResult result);
+
+        /** Reports that the running task failed or was cancelled. */
+        void failed(String message);
+    }
+
+    /**
+     * Queues the command to be executed after the commands submitted before it, and reports its outcome to
+     * {@code listener} after the outcomes of those commands. Must be called on the UI thread.
+     * <p>
+     * A read-only command is executed on a snapshot of the model, so the commands after it need not wait for it.
+     */
+    void submit(String commandText, CommandListener listener);
+
+    /**
+     * Returns a property that is true while a submitted command has not reported its outcome yet.
+     * Only changes on the UI thread.
+     */
+    ReadOnlyBooleanProperty busyProperty();
+
     /**
-     * Executes the command and returns the result.
+     * Executes the command after the commands submitted before it, waits for it and returns the result.
+     * Unlike {@link #submit(String, CommandListener)}, this blocks the calling thread, so it is not meant for the UI.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -24,7 +70,18 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
     /**
-     * Returns the AddressBook.
+     * Sets the listener that receives the progress and outcome of the background tasks started by commands.
+     */
+    void setTaskListener(TaskListener taskListener);
+
+    /**
+     * Waits until all submitted commands have been executed, and the changes they made have been saved.
+     * @throws CommandException If saving failed.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Returns the AddressBook as of the last command whose changes have reached the UI thread.
      *
      * @see seedu.address.model.Model#getAddressBook()
      */
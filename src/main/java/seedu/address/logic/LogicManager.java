@@ -1,25 +1,44 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiConsumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * <p>
+ * The model is only changed on the command thread, which executes commands and applies the outcome of background
+ * tasks. After each of them, the changes to the person lists are handed to the UI thread in one go, and the results
+ * of commands are handed over in the order the commands were submitted.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -27,48 +46,241 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_UNEXPECTED_ERROR = "The command failed unexpectedly: %1$s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AsyncAddressBookSaver addressBookSaver;
     private final AddressBookParser addressBookParser;
+    private final BackgroundTaskRunner taskRunner;
+    private final Executor uiExecutor;
+    private final ExecutorService commandThread;
+    private final ExecutorService readOnlyCommandThreads;
+    private volatile TaskListener taskListener = new LoggingTaskListener();
+
+    private final ListMirror<Person> shownPersons;
+    private final ListMirror<Person> shownFilteredPersons;
+    private final ShownAddressBook shownAddressBook = new ShownAddressBook();
+
+    // Only used on the command thread. Completes once the outcome of the last command has been handed over.
+    private CompletableFuture<Void> lastOutcome = CompletableFuture.completedFuture(null);
+
+    // Only used on the UI thread.
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(false);
+    private int pendingCommandCount;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which hands results to
+     * the JavaFX application thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which hands the results of
+     * commands and background tasks, and the changes to its person lists, to {@code uiExecutor}.
+     * The model must not be changed by any other thread from then on.
+     */
+    public LogicManager(Model model, Storage storage, Executor uiExecutor) {
         this.model = model;
-        this.storage = storage;
+        this.uiExecutor = uiExecutor;
+        addressBookSaver = new AsyncAddressBookSaver(storage);
         addressBookParser = new AddressBookParser();
+        commandThread = Executors.newSingleThreadExecutor(daemonThreads("command"));
+        readOnlyCommandThreads = Executors.newCachedThreadPool(daemonThreads("read-only-command"));
+        taskRunner = new BackgroundTaskRunner(commandThread);
+        shownPersons = new ListMirror<>(model.getAddressBook().getPersonList());
+        shownFilteredPersons = new ListMirror<>(model.getFilteredPersonList());
+        shownAddressBook.version = model.getAddressBook().getVersion();
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void submit(String commandText, CommandListener listener) {
+        requireNonNull(commandText);
+        requireNonNull(listener);
+
+        pendingCommandCount++;
+        busy.set(true);
+        enqueue(commandText, (result, error) -> uiExecutor.execute(() -> {
+            pendingCommandCount--;
+            busy.set(pendingCommandCount > 0);
+            if (error == null) {
+                listener.succeeded(result);
+            } else {
+                listener.failed(error.getMessage());
+            }
+        }));
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        CompletableFuture<CommandResult> outcome = new CompletableFuture<>();
+        enqueue(commandText, (result, error) -> {
+            if (error == null) {
+                outcome.complete(result);
+            } else {
+                outcome.completeExceptionally(error);
+            }
+        });
+
+        try {
+            return outcome.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the command on the command thread, and passes its outcome to {@code whenDone} once the outcomes of
+     * all commands queued before it have been passed on.
+     */
+    private void enqueue(String commandText, BiConsumer<CommandResult, Throwable> whenDone) {
+        commandThread.execute(() -> {
+            CompletableFuture<CommandResult> outcome = executeOnCommandThread(commandText);
+            // A read-only command may still be running when the commands after it are done.
+            lastOutcome = lastOutcome.thenCompose(unused -> outcome.<Void>handle((result, error) -> {
+                whenDone.accept(result, error);
+                return null;
+            })).exceptionally(e -> {
+                // The outcomes of later commands are still handed over.
+                logger.warning("Could not hand over the outcome of a command: " + e);
+                return null;
+            });
+        });
+    }
+
+    private CompletableFuture<CommandResult> executeOnCommandThread(String commandText) {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            if (command.isReadOnly()) {
+                return executeReadOnly(command, new ModelSnapshot(model));
+            }
+
+            CommandResult commandResult = command.execute(model);
+            startOrCancelTask(commandResult);
+            saveAddressBook();
+            return CompletableFuture.completedFuture(commandResult);
+        } catch (CommandException | ParseException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (RuntimeException e) {
+            logger.severe("Command failed unexpectedly: " + e);
+            return CompletableFuture.failedFuture(
+                    new CommandException(String.format(MESSAGE_UNEXPECTED_ERROR, e), e));
+        } finally {
+            showChanges();
+        }
+    }
+
+    /**
+     * Executes the read-only {@code command} on {@code snapshot} on another thread.
+     */
+    private CompletableFuture<CommandResult> executeReadOnly(Command command, Model snapshot) {
+        CompletableFuture<CommandResult> outcome = new CompletableFuture<>();
+        readOnlyCommandThreads.execute(() -> {
+            try {
+                CommandResult commandResult = command.execute(snapshot);
+                startOrCancelTask(commandResult);
+                outcome.complete(commandResult);
+            } catch (CommandException e) {
+                outcome.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                logger.severe("Command failed unexpectedly: " + e);
+                outcome.completeExceptionally(new CommandException(String.format(MESSAGE_UNEXPECTED_ERROR, e), e));
+            }
+        });
+        return outcome;
+    }
+
+    private void startOrCancelTask(CommandResult commandResult) throws CommandException {
+        if (commandResult.isCancellingTask()) {
+            taskRunner.cancel();
+        }
+        if (commandResult.getBackgroundTask().isPresent()) {
+            taskRunner.start(commandResult.getBackgroundTask().get(), new TaskCallbacks());
+        }
+    }
 
+    /**
+     * Hands the changes made to the person lists since the last call to the UI thread.
+     * Must be called on the command thread.
+     */
+    private void showChanges() {
+        Runnable personChanges = shownPersons.takeChanges();
+        Runnable filteredPersonChanges = shownFilteredPersons.takeChanges();
+        long version = model.getAddressBook().getVersion();
+        uiExecutor.execute(() -> {
+            personChanges.run();
+            filteredPersonChanges.run();
+            shownAddressBook.version = version;
+        });
+    }
+
+    @Override
+    public void setTaskListener(TaskListener taskListener) {
+        requireNonNull(taskListener);
+        this.taskListener = taskListener;
+    }
+
+    /**
+     * Saves the address book on a background thread; a failed write is reported by the next command.
+     */
+    private void saveAddressBook() throws CommandException {
+        try {
+            addressBookSaver.save(model.getAddressBook().getSnapshot(), model.getAddressBookFilePath());
+        } catch (IOException ioe) {
+            throw toCommandException(ioe);
+        }
+    }
+
+    @Override
+    public void flush() throws CommandException {
+        // Waits for the commands queued so far, including any that queue the saves of their changes.
+        CompletableFuture.runAsync(() -> {}, commandThread).join();
         try {
-            storage.saveAddressBook(model.getAddressBook(), model.getAddressBookFilePath());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            addressBookSaver.flush();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+    }
 
-        return commandResult;
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return model.getAddressBook();
+        return shownAddressBook;
     }
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return shownFilteredPersons.getList();
     }
 
     @Override
@@ -83,6 +295,70 @@ public class LogicManager implements Logic {
 
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
+        requireNonNull(guiSettings);
+        commandThread.execute(() -> model.setGuiSettings(guiSettings));
+    }
+
+    /**
+     * The address book as the UI thread has been told about it.
+     */
+    private class ShownAddressBook implements ReadOnlyAddressBook {
+        // Only used on the UI thread, apart from being set before the command thread starts.
+        private long version;
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return shownPersons.getList();
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * Applies the outcome of background tasks to the model on the command thread, and passes on what happens to
+     * them to the UI thread.
+     */
+    private class TaskCallbacks implements BackgroundTaskRunner.Listener {
+        @Override
+        public void progressed(String message) {
+            uiExecutor.execute(() -> taskListener.progressed(message));
+        }
+
+        @Override
+        public void completed(BackgroundTask.Completion completion) {
+            try {
+                CommandResult result = completion.complete(model);
+                saveAddressBook();
+                logger.info("Background task finished: " + result.getFeedbackToUser());
+                showChanges();
+                uiExecutor.execute(() -> taskListener.finished(result));
+            } catch (CommandException e) {
+                showChanges();
+                failed(e.getMessage());
+            }
+        }
+
+        @Override
+        public void failed(String message) {
+            logger.info("Background task failed: " + message);
+            uiExecutor.execute(() -> taskListener.failed(message));
+        }
+    }
+
+    /**
+     * Ignores background tasks until a listener is set, as their outcome is already logged.
+     */
+    private static class LoggingTaskListener implements TaskListener {
+        @Override
+        public void progressed(String message) {}
+
+        @Override
+        public void finished(CommandResult result) {}
+
+        @Override
+        public void failed(String message) {}
     }
 }
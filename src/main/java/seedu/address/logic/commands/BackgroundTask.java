@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.CancellationException;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Long-running work, such as reading or writing a large file, that a command hands over to be done in the
+ * background so that the application stays responsive.
+ * <p>
+ * The work is done by {@link #run(ProgressMonitor)} on a background thread, which must not touch the model. It
+ * returns a {@link Completion} that applies the outcome to the model in one step, on the thread that executes
+ * commands, once the work is done.
+ */
+public interface BackgroundTask {
+
+    /**
+     * Applies the outcome of a {@code BackgroundTask} to the model.
+     */
+    @FunctionalInterface
+    interface Completion {
+        /**
+         * Applies the outcome to {@code model} and returns the result to show to the user.
+         *
+         * @throws CommandException if the outcome cannot be applied.
+         */
+        CommandResult complete(Model model) throws CommandException;
+    }
+
+    /**
+     * Does the work of this task, reporting its progress to {@code monitor}.
+     *
+     * @throws CommandException if the work failed.
+     * @throws CancellationException if {@code monitor} was cancelled before the work was done.
+     */
+    Completion run(ProgressMonitor monitor) throws CommandException;
+
+    /**
+     * Returns a message describing the progress of this task, after {@code done} out of {@code total} units of
+     * work reported to the monitor.
+     */
+    String describeProgress(long done, long total);
+
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Stops the import or export that is running in the background.
+ */
+public class CancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Stops the import or export that is running.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_CANCELLING = "Cancelling the running task...";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return CommandResult.forCancellingTask(MESSAGE_CANCELLING);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof CancelCommand;
+    }
+}
@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +22,28 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command only reads the model. A read-only command may be executed on a snapshot of the
+     * model, at the same time as the commands entered after it.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns the persons of the filtered person list of {@code model} that are in {@code targetIndexes}.
+     *
+     * @throws CommandException if the range goes beyond the list, or there are no persons in it.
+     */
+    protected static List<Person> getTargetPersons(Model model, IndexRange targetIndexes) throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (!targetIndexes.isWithin(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_DISPLAYED);
+        }
+        return targetIndexes.select(lastShownList);
+    }
+
 }
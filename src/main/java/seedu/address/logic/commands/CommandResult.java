@@ -31,6 +31,12 @@ public class CommandResult {
 
     private final Optional<Person> personToSelect;
 
+    /** Work to be done in the background once the command has returned. */
+    private final Optional<BackgroundTask> backgroundTask;
+
+    /** The background task that is running should be cancelled. */
+    private final boolean isCancellingTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields with inline edit disabled, stats disabled.
      */
@@ -42,6 +48,8 @@ public class CommandResult {
         this.editData = "";
         this.isShowingStats = false;
         this.personToSelect = Optional.empty();
+        this.backgroundTask = Optional.empty();
+        this.isCancellingTask = false;
     }
 
     /**
@@ -55,6 +63,8 @@ public class CommandResult {
         this.isInlineEdit = false;
         this.editData = "";
         this.personToSelect = Optional.empty();
+        this.backgroundTask = Optional.empty();
+        this.isCancellingTask = false;
     }
 
     /**
@@ -78,6 +88,8 @@ public class CommandResult {
         this.editData = editData;
         this.isShowingStats = false;
         this.personToSelect = Optional.empty();
+        this.backgroundTask = Optional.empty();
+        this.isCancellingTask = false;
     }
 
     /**
@@ -91,6 +103,34 @@ public class CommandResult {
         this.isInlineEdit = false;
         this.editData = "";
         this.personToSelect = Optional.ofNullable(person);
+        this.backgroundTask = Optional.empty();
+        this.isCancellingTask = false;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that starts {@code backgroundTask}, or cancels the running background task
+     * if {@code backgroundTask} is null and {@code isCancellingTask} is true.
+     */
+    private CommandResult(String feedbackToUser, BackgroundTask backgroundTask, boolean isCancellingTask) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.isExit = false;
+        this.isShowingStats = false;
+        this.isInlineEdit = false;
+        this.editData = "";
+        this.personToSelect = Optional.empty();
+        this.backgroundTask = Optional.ofNullable(backgroundTask);
+        this.isCancellingTask = isCancellingTask;
+    }
+
+    /** Creates a result that starts {@code backgroundTask} once the command has returned. */
+    public static CommandResult forBackgroundTask(String feedbackToUser, BackgroundTask backgroundTask) {
+        return new CommandResult(feedbackToUser, requireNonNull(backgroundTask), false);
+    }
+
+    /** Creates a result that cancels the background task that is running. */
+    public static CommandResult forCancellingTask(String feedbackToUser) {
+        return new CommandResult(feedbackToUser, null, true);
     }
 
     private static String formatPersonForEdit(Person person, int index) {
@@ -142,6 +182,14 @@ public class CommandResult {
         return personToSelect;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return backgroundTask;
+    }
+
+    public boolean isCancellingTask() {
+        return isCancellingTask;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.model.Model;
+import seedu.address.model.person.DuplicateDetector;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds contacts that are likely to be the same person entered more than once, and lists them.
+ */
+public class DedupeCommand extends Command {
+
+    public static final String COMMAND_WORD = "dedupe";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists contacts that are likely to be the same "
+            + "person entered more than once, such as contacts with similar names and the same phone number or email.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_STARTED = "Looking for duplicate contacts in the background...";
+    public static final String MESSAGE_PROGRESS = "Looking for duplicate contacts: %1$d of %2$d contacts checked";
+    public static final String MESSAGE_NO_DUPLICATES = "No duplicate contacts found.";
+    public static final String MESSAGE_DUPLICATES_FOUND = "%1$d contacts in %2$d groups may be duplicates, "
+            + "and are listed:";
+
+    private static final int MAX_GROUPS_SHOWN = 10;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // The contacts are compared in the background, in a snapshot taken now.
+        List<Person> persons = model.getAddressBook().getSnapshot().getPersonList();
+        return CommandResult.forBackgroundTask(MESSAGE_STARTED, new DedupeTask(persons));
+    }
+
+    /**
+     * Finds the groups of likely duplicates in a snapshot of the contacts, and lists them once they are found.
+     */
+    private static class DedupeTask implements BackgroundTask {
+        private final List<Person> persons;
+
+        DedupeTask(List<Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public Completion run(ProgressMonitor monitor) {
+            List<List<Person>> groups = DuplicateDetector.findDuplicates(persons, monitor);
+            if (groups.isEmpty()) {
+                return model -> new CommandResult(MESSAGE_NO_DUPLICATES);
+            }
+
+            // The snapshot holds the same person objects as the model, and hashing them by identity avoids loading
+            // logs that are loaded on demand.
+            Set<Person> duplicates = Collections.newSetFromMap(new IdentityHashMap<>());
+            groups.forEach(duplicates::addAll);
+            return model -> {
+                model.updateFilteredPersonList(duplicates::contains);
+                return new CommandResult(describeGroups(groups, duplicates.size()));
+            };
+        }
+
+        @Override
+        public String describeProgress(long done, long total) {
+            return String.format(MESSAGE_PROGRESS, done, total);
+        }
+    }
+
+    private static String describeGroups(List<List<Person>> groups, int duplicateCount) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_DUPLICATES_FOUND, duplicateCount,
+                groups.size()));
+        groups.stream().limit(MAX_GROUPS_SHOWN).forEach(group -> message.append('\n').append(group.stream()
+                .map(person -> person.getName() + " (" + person.getPhone() + ")")
+                .collect(Collectors.joining(", "))));
+        if (groups.size() > MAX_GROUPS_SHOWN) {
+            message.append("\n...");
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof DedupeCommand;
+    }
+}
@@ -1,24 +1,38 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLUMN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SINCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.CancellationException;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.HasAllTagsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChanges;
+import seedu.address.model.person.PersonColumn;
 import seedu.address.model.tag.Tag;
 import seedu.address.storage.CsvAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonLinesAddressBookStorage;
 
 /**
  * Exports the save file as a .csv file
@@ -27,52 +41,157 @@ public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the address book to a .json or .csv file.\n"
-            + "Parameters: " + PREFIX_FILE + "FILEPATH [" + PREFIX_TAG + "TAG]...\n"
-            + "Example: " + COMMAND_WORD + PREFIX_FILE + "data/linkedup.json "
-            + PREFIX_TAG + "tag1 " + PREFIX_TAG + "tag2";
-
-    public static final String MESSAGE_SUCCESS = "Save data exported to %1$s";
-
-    public static final String INVALID_EXPORT_FORMAT = "Target file should be .csv or .json!";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the address book to a .json, .jsonl or .csv "
+            + "file, compressed if the file name ends with .gz. With " + PREFIX_SINCE + ", exports only the contacts "
+            + "added, changed or deleted after that version.\n"
+            + "Parameters: " + PREFIX_FILE + "FILEPATH [" + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]...] ["
+            + PREFIX_TAG + "TAG]... [" + PREFIX_COLUMN + "COLUMN]... [" + PREFIX_SINCE + "VERSION]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/linkedup.json "
+            + PREFIX_TAG + "tag1 " + PREFIX_TAG + "tag2 " + PREFIX_COLUMN + "name " + PREFIX_COLUMN + "email";
+
+    public static final String MESSAGE_STARTED = "Exporting to %1$s in the background...";
+    public static final String MESSAGE_PROGRESS = "Exporting to %1$s: %2$d of %3$d contacts checked";
+    public static final String MESSAGE_SUCCESS = "Save data exported to %1$s at version %2$d";
+    public static final String MESSAGE_CHANGES_SUCCESS =
+            "%1$d changed and %2$d deleted contacts since version %3$d exported to %4$s at version %5$d";
+    public static final String MESSAGE_UNKNOWN_VERSION = "The changes since version %1$d are not known, as only "
+            + "versions reached since the application was started can be used. Export without " + PREFIX_SINCE
+            + " to get every contact.";
+
+    public static final String INVALID_EXPORT_FORMAT = "Target file should be .csv, .json, .jsonl, .csv.gz, .json.gz "
+            + "or .jsonl.gz!";
 
     private Path exportName;
-    private Set<Tag> tags;
+    private Predicate<Person> predicate;
+    private Set<PersonColumn> columns;
+    private OptionalLong sinceVersion;
 
     /**
-     * Initializes the export command object.
+     * Initializes an export command that writes every column of the contacts with all of {@code tags}.
      *
      * @param exportName Relative path of the export file from the working directory.
      * @param tags Set of tags that all exported contacts should have.
      */
     public ExportCommand(Path exportName, Set<Tag> tags) {
-        requireNonNull(exportName);
-        //ExportCommandParser should only allow .json or .csv files to pass
-        assert(exportName.toString().endsWith(".json") || exportName.toString().endsWith(".csv"));
+        this(exportName, hasAllTags(tags), PersonColumn.ALL, OptionalLong.empty());
+    }
+
+    /**
+     * Initializes the export command object.
+     *
+     * @param exportName Relative path of the export file from the working directory.
+     * @param predicate Contacts to export. Commands are only equal if their predicates are, so this should be a
+     *     predicate that implements {@code equals}, such as {@link HasAllTagsPredicate}.
+     * @param columns Columns of each contact to write.
+     * @param sinceVersion If present, the version after which contacts must have been changed to be exported, with
+     *     the contacts deleted after it written as deleted.
+     */
+    public ExportCommand(Path exportName, Predicate<Person> predicate, Set<PersonColumn> columns,
+            OptionalLong sinceVersion) {
+        requireAllNonNull(exportName, predicate, columns, sinceVersion);
+        //ExportCommandParser should only allow .json, .jsonl or .csv files to pass
+        assert(isSupportedFile(exportName));
 
         this.exportName = exportName;
-        this.tags = tags;
+        this.predicate = predicate;
+        this.columns = columns;
+        this.sinceVersion = sinceVersion;
+    }
+
+    /**
+     * Returns a predicate that tests if a person has all of {@code tags}.
+     */
+    public static Predicate<Person> hasAllTags(Set<Tag> tags) {
+        return new HasAllTagsPredicate(tags);
+    }
+
+    /**
+     * Returns true if {@code file} is a .json, .jsonl or .csv file, which may be gzip-compressed.
+     */
+    public static boolean isSupportedFile(Path file) {
+        return FileUtil.hasExtension(file, ".json") || FileUtil.hasExtension(file, ".csv")
+                || FileUtil.hasExtension(file, JsonLinesAddressBookStorage.FILE_EXTENSION);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        PersonChanges changes = null;
+        if (sinceVersion.isPresent()) {
+            changes = addressBook.getChangesSince(sinceVersion.getAsLong()).orElseThrow(() ->
+                    new CommandException(String.format(MESSAGE_UNKNOWN_VERSION, sinceVersion.getAsLong())));
+        }
+
         initializeExport();
 
-        ObservableList<Person> personList = model.getAddressBook().getPersonList();
+        // The contacts are written in the background from a snapshot, so later commands cannot change what is written.
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        return CommandResult.forBackgroundTask(String.format(MESSAGE_STARTED, exportName),
+                new ExportTask(snapshot.getPersonList(), snapshot.getVersion(), changes));
+    }
 
-        Stream<Person> filteredPersonStream = personList.stream().filter(this::hasTags);
+    /**
+     * Writes the matching contacts of a snapshot of the address book to the export file.
+     */
+    private class ExportTask implements BackgroundTask {
+        private final List<Person> personList;
+        private final long version;
+        // Null if every matching contact is written.
+        private final PersonChanges changes;
+        private long writtenCount;
+
+        ExportTask(List<Person> personList, long version, PersonChanges changes) {
+            this.personList = personList;
+            this.version = version;
+            this.changes = changes;
+        }
 
-        assert(exportName.toString().endsWith(".json") || exportName.toString().endsWith(".csv"));
+        @Override
+        public Completion run(ProgressMonitor monitor) throws CommandException {
+            Predicate<Person> isExported = changes == null ? predicate : predicate.and(changes::isChanged);
+            // Matching persons are taken from the list only as they are written, so no copy of them is made.
+            Iterable<Person> filteredPersons = () -> IntStream.range(0, personList.size())
+                    .mapToObj(index -> {
+                        monitor.checkCancelled();
+                        monitor.worked(index + 1, personList.size());
+                        return personList.get(index);
+                    })
+                    .filter(isExported)
+                    .peek(person -> writtenCount++)
+                    .iterator();
+            List<Person> removedPersons = changes == null ? List.of() : changes.getRemovedPersons();
+
+            assert(isSupportedFile(exportName));
+
+            try {
+                if (FileUtil.hasExtension(exportName, ".csv")) {
+                    new CsvAddressBookStorage(exportName).savePersons(filteredPersons, removedPersons, columns);
+                } else if (FileUtil.hasExtension(exportName, JsonLinesAddressBookStorage.FILE_EXTENSION)) {
+                    new JsonLinesAddressBookStorage(exportName).savePersons(filteredPersons, removedPersons, columns);
+                } else {
+                    new JsonAddressBookStorage(exportName).savePersons(filteredPersons, removedPersons, columns);
+                }
+            } catch (IOException e) {
+                throw new CommandException(e.getMessage());
+            } catch (CancellationException e) {
+                // A partly written export is of no use.
+                exportName.toFile().delete();
+                throw e;
+            }
 
-        if (exportName.toString().endsWith(".csv")) {
-            this.saveAsCsv(filteredPersonStream);
-        } else {
-            this.saveAsJson(filteredPersonStream);
+            if (changes == null) {
+                return model -> new CommandResult(String.format(MESSAGE_SUCCESS, exportName, version));
+            }
+            return model -> new CommandResult(String.format(MESSAGE_CHANGES_SUCCESS, writtenCount,
+                    removedPersons.size(), changes.getSinceVersion(), exportName, version));
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, exportName));
+        @Override
+        public String describeProgress(long done, long total) {
+            return String.format(MESSAGE_PROGRESS, exportName, done, total);
+        }
     }
 
     /**
@@ -93,46 +212,6 @@ public class ExportCommand extends Command {
         }
     }
 
-    /**
-     * Writes a stream of people into the .csv file.
-     * @param people stream of people to be saved in the .csv file
-     */
-    private void saveAsCsv(Stream<Person> people) throws CommandException {
-        AddressBook addressBook = new AddressBook();
-        people.forEach(addressBook::addPerson);
-
-        try {
-            new CsvAddressBookStorage(exportName).saveAddressBook(addressBook);
-        } catch (IOException e) {
-            throw new CommandException(e.getMessage());
-        }
-    }
-
-    /**
-     * Writes a stream of people into the .json file.
-     * @param people stream of people to be saved in the .json file.
-     * @throws CommandException if a write error occurs.
-     */
-    private void saveAsJson(Stream<Person> people) throws CommandException {
-        AddressBook addressBook = new AddressBook();
-        people.forEach(addressBook::addPerson);
-
-        try {
-            new JsonAddressBookStorage(exportName).saveAddressBook(addressBook);
-        } catch (IOException e) {
-            throw new CommandException(e.getMessage());
-        }
-    }
-
-    /**
-     * Checks if a person has all the tags in the tag list
-     * @param person Person to be checked
-     * @return True if person has all tags
-     */
-    private boolean hasTags(Person person) {
-        return tags.stream().allMatch(person::hasTag);
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -140,12 +219,24 @@ public class ExportCommand extends Command {
         }
 
         // instanceof handles nulls
-        return other instanceof ExportCommand;
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return exportName.equals(otherExportCommand.exportName)
+                && predicate.equals(otherExportCommand.predicate)
+                && columns.equals(otherExportCommand.columns)
+                && sinceVersion.equals(otherExportCommand.sinceVersion);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
+                .add("exportName", exportName)
+                .add("predicate", predicate)
+                .add("columns", columns)
+                .add("sinceVersion", sinceVersion)
                 .toString();
     }
 }
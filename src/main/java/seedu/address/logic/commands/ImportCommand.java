@@ -4,16 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.core.ProgressMonitor;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.storage.AddressBookStorage;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMerge;
 import seedu.address.storage.CsvAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonLinesAddressBookStorage;
 
 /**
  * Imports a save file to the address book.
@@ -22,86 +29,266 @@ public class ImportCommand extends Command {
 
     public static final String COMMAND_WORD = "import";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports a specified .json or .csv file. "
-            + "\nParameters: "
+    public static final String MERGE_KEYWORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports a specified .json, .jsonl or .csv file, "
+            + "which may be compressed as .json.gz, .jsonl.gz or .csv.gz. "
+            + "With " + MERGE_KEYWORD + ", the contacts in the file are added to the existing ones, "
+            + "replacing contacts with the same name and phone number. "
+            + "\nParameters: [" + MERGE_KEYWORD + "] "
             + PREFIX_FILE + "FILEPATH \n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_FILE + "data/linkedup.json";
 
+    public static final String MESSAGE_STARTED = "Importing %1$s in the background...";
+    public static final String MESSAGE_PROGRESS = "Importing %1$s: %2$d%% read";
     public static final String MESSAGE_SUCCESS = "Save data imported: %1$s";
+    public static final String MESSAGE_MERGE_SUCCESS = "Save data merged from %1$s: "
+            + "%2$d contacts added, %3$d updated, %4$d unchanged.";
+    public static final String MESSAGE_MERGE_CONFLICTS = "\n%1$d contacts were skipped, as the file has a different "
+            + "contact with the same name and phone number earlier: %2$s";
+    public static final String MESSAGE_SKIPPED_LINES = "\n%1$d lines were skipped, as they are not valid "
+            + "contacts: %2$s";
     public static final String MESSAGE_PARSE_ERROR = "Error occurred when parsing file."
             + "Check if the file is not corrupted.";
     public static final String MESSAGE_INVALID_FILE = "This file cannot be found, "
             + "check if the relative path is correct.";
     public static final String MESSAGE_INVALID_FILETYPE = "Invalid filetype specified, "
-            + "filetype must be .json or .csv";
+            + "filetype must be .json, .jsonl, .csv, .json.gz, .jsonl.gz or .csv.gz";
+
+    private static final int MAX_CONFLICTS_SHOWN = 5;
 
     private Path filepath;
+    private boolean isMerge;
 
     /**
      * Creates an ImportCommand to import the specified save file
      */
     public ImportCommand(Path filepath) {
+        this(filepath, false);
+    }
+
+    /**
+     * Creates an ImportCommand to import the specified save file, merging it into the existing contacts if
+     * {@code isMerge} is true.
+     */
+    public ImportCommand(Path filepath, boolean isMerge) {
         requireNonNull(filepath);
         this.filepath = filepath;
+        this.isMerge = isMerge;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // throw exception if file is not a csv or json file
-        if (!this.filepath.toString().endsWith(".csv") && !this.filepath.toString().endsWith(".json")) {
+        // throw exception if file is not a csv, json or json lines file
+        if (!FileUtil.hasExtension(filepath, ".csv") && !FileUtil.hasExtension(filepath, ".json")
+                && !FileUtil.hasExtension(filepath, JsonLinesAddressBookStorage.FILE_EXTENSION)) {
             throw new CommandException(MESSAGE_INVALID_FILETYPE);
         }
 
-        if (this.filepath.toString().endsWith(".csv")) {
-            model.saveAddressBookState();
-            return importCsv(model);
+        if (!FileUtil.isFileExists(filepath)) {
+            throw new CommandException(MESSAGE_INVALID_FILE);
+        }
+
+        // The file is read in the background, and the address book is only replaced once all of it has been read.
+        BackgroundTask task = isMerge ? new MergeTask(model.getAddressBook().getSnapshot())
+                : new ImportTask();
+        return CommandResult.forBackgroundTask(String.format(MESSAGE_STARTED, toDisplayPath(filepath)), task);
+    }
+
+    /**
+     * Reads the import file, and replaces the address book with its contents once it has been read.
+     */
+    private class ImportTask implements BackgroundTask {
+        @Override
+        public Completion run(ProgressMonitor monitor) throws CommandException {
+            if (FileUtil.hasExtension(filepath, ".csv")) {
+                ReadOnlyAddressBook newAddressBook = readCsv(monitor);
+                return model -> {
+                    model.saveAddressBookState();
+                    model.setAddressBook(newAddressBook);
+                    return new CommandResult(String.format(MESSAGE_SUCCESS, toDisplayPath(filepath)));
+                };
+            }
+
+            if (FileUtil.hasExtension(filepath, JsonLinesAddressBookStorage.FILE_EXTENSION)) {
+                // Unlike a .json file, a .jsonl file is not used as the data file, as some lines may have been skipped.
+                JsonLinesAddressBookStorage.ReadResult result = readJsonLines(monitor);
+                PersonMerge merge = PersonMerge.of(List.of(), result.getPersons());
+                monitor.checkCancelled();
+                return model -> {
+                    model.saveAddressBookState();
+                    model.setAddressBook(AddressBookSnapshot.of(merge.getPersons()));
+                    return new CommandResult(String.format(MESSAGE_SUCCESS, toDisplayPath(filepath))
+                            + describeSkippedLines(result.getSkippedLines()) + describeConflicts(merge));
+                };
+            }
+
+            ReadOnlyAddressBook newAddressBook = readJson(monitor);
+            return model -> {
+                model.saveAddressBookState();
+                model.setAddressBook(newAddressBook);
+                model.setAddressBookFilePath(filepath);
+                return new CommandResult(String.format(MESSAGE_SUCCESS, toDisplayPath(filepath)),
+                        false, false, true);
+            };
+        }
+
+        @Override
+        public String describeProgress(long done, long total) {
+            return describeReadProgress(done, total);
+        }
+    }
+
+    /**
+     * Reads the import file and merges it into a snapshot of the existing contacts, and replaces the address book
+     * with the merged contacts once that is done.
+     */
+    private class MergeTask implements BackgroundTask {
+        private final ReadOnlyAddressBook existing;
+
+        MergeTask(ReadOnlyAddressBook existing) {
+            this.existing = existing;
+        }
+
+        @Override
+        public Completion run(ProgressMonitor monitor) throws CommandException {
+            // Persons in .csv and .jsonl files are read as they are, so that conflicting ones can be reported.
+            List<Person> imported;
+            List<String> skippedLines = List.of();
+            if (FileUtil.hasExtension(filepath, ".csv")) {
+                imported = readCsvPersons(monitor);
+            } else if (FileUtil.hasExtension(filepath, JsonLinesAddressBookStorage.FILE_EXTENSION)) {
+                JsonLinesAddressBookStorage.ReadResult result = readJsonLines(monitor);
+                imported = result.getPersons();
+                skippedLines = result.getSkippedLines();
+            } else {
+                imported = readJson(monitor).getPersonList();
+            }
+            PersonMerge mergeWithSnapshot = PersonMerge.of(existing.getPersonList(), imported);
+            monitor.checkCancelled();
+            List<String> skippedLinesInFile = skippedLines;
+
+            return model -> {
+                // The contacts may have been changed by other commands while the file was read.
+                PersonMerge merge = model.getAddressBook().getVersion() == existing.getVersion()
+                        ? mergeWithSnapshot
+                        : PersonMerge.of(model.getAddressBook().getPersonList(), imported);
+                model.saveAddressBookState();
+                model.setAddressBook(AddressBookSnapshot.of(merge.getPersons()));
+                return new CommandResult(describeMerge(merge) + describeSkippedLines(skippedLinesInFile));
+            };
+        }
+
+        @Override
+        public String describeProgress(long done, long total) {
+            return describeReadProgress(done, total);
+        }
+    }
+
+    private String describeReadProgress(long done, long total) {
+        return String.format(MESSAGE_PROGRESS, toDisplayPath(filepath), total == 0 ? 100 : done * 100 / total);
+    }
+
+    private String describeMerge(PersonMerge merge) {
+        return String.format(MESSAGE_MERGE_SUCCESS, toDisplayPath(filepath), merge.getAddedCount(),
+                merge.getUpdatedCount(), merge.getUnchangedCount()) + describeConflicts(merge);
+    }
+
+    private static String describeConflicts(PersonMerge merge) {
+        List<Person> conflicts = merge.getConflicts();
+        if (conflicts.isEmpty()) {
+            return "";
+        }
+
+        String shownConflicts = conflicts.stream()
+                .limit(MAX_CONFLICTS_SHOWN)
+                .map(person -> person.getName() + " (" + person.getPhone() + ")")
+                .collect(Collectors.joining(", "));
+        if (conflicts.size() > MAX_CONFLICTS_SHOWN) {
+            shownConflicts += ", ...";
         }
+        return String.format(MESSAGE_MERGE_CONFLICTS, conflicts.size(), shownConflicts);
+    }
 
-        model.saveAddressBookState();
-        return importJson(model);
+    private static String describeSkippedLines(List<String> skippedLines) {
+        if (skippedLines.isEmpty()) {
+            return "";
+        }
+
+        String shownLines = skippedLines.stream()
+                .limit(MAX_CONFLICTS_SHOWN)
+                .collect(Collectors.joining("; "));
+        if (skippedLines.size() > MAX_CONFLICTS_SHOWN) {
+            shownLines += "; ...";
+        }
+        return String.format(MESSAGE_SKIPPED_LINES, skippedLines.size(), shownLines);
+    }
+
+    /**
+     * Reads a .json file
+     *
+     * @param monitor {@code ProgressMonitor} to report the bytes read to
+     * @return the address book in the file
+     * @throws CommandException if an invalid file was provided
+     */
+    private ReadOnlyAddressBook readJson(ProgressMonitor monitor) throws CommandException {
+        try {
+            return new JsonAddressBookStorage(filepath).readAddressBook(filepath, monitor).get();
+        } catch (DataLoadingException | NoSuchElementException e) {
+            throw new CommandException(ImportCommand.MESSAGE_INVALID_FILE);
+        }
     }
 
     /**
-     * Imports a .json file
+     * Reads the persons in a .jsonl file as they are, which may include duplicate persons, skipping invalid lines.
      *
-     * @param model {@code Model} to which the file should be imported to
-     * @return feedback message of the operation result for display
+     * @param monitor {@code ProgressMonitor} to report the bytes read to
+     * @return the persons in the file, and the lines that were skipped
      * @throws CommandException if an invalid file was provided
      */
-    public CommandResult importJson(Model model) throws CommandException {
-        AddressBookStorage newAddressStorage = new JsonAddressBookStorage(filepath);
+    private JsonLinesAddressBookStorage.ReadResult readJsonLines(ProgressMonitor monitor) throws CommandException {
         try {
-            ReadOnlyAddressBook newAddressBook = newAddressStorage.readAddressBook().get();
-            model.setAddressBook(newAddressBook);
-            model.setAddressBookFilePath(filepath);
+            return new JsonLinesAddressBookStorage(filepath).readPersons(filepath, monitor).get();
         } catch (DataLoadingException | NoSuchElementException e) {
             throw new CommandException(ImportCommand.MESSAGE_INVALID_FILE);
         }
+    }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, filepath.toString().replace('\\',
-                '/'), false, false, true));
+    /**
+     * Reads a .csv file
+     *
+     * @param monitor {@code ProgressMonitor} to report the bytes read to
+     * @return the address book in the file
+     * @throws CommandException if an invalid file was provided
+     */
+    private ReadOnlyAddressBook readCsv(ProgressMonitor monitor) throws CommandException {
+        try {
+            return new CsvAddressBookStorage(filepath).readAddressBook(filepath, monitor).get();
+        } catch (DataLoadingException | NoSuchElementException e) {
+            throw new CommandException(ImportCommand.MESSAGE_INVALID_FILE);
+        }
     }
 
     /**
-     * Imports a .csv file
+     * Reads the persons in a .csv file as they are, which may include duplicate persons.
      *
-     * @param model {@code Model} to which the file should be imported to
-     * @return feedback message of the operation result for display
+     * @param monitor {@code ProgressMonitor} to report the bytes read to
+     * @return the persons in the file
      * @throws CommandException if an invalid file was provided
      */
-    public CommandResult importCsv(Model model) throws CommandException {
-        AddressBookStorage newAddressStorage = new CsvAddressBookStorage(filepath);
+    private List<Person> readCsvPersons(ProgressMonitor monitor) throws CommandException {
         try {
-            ReadOnlyAddressBook newAddressBook = newAddressStorage.readAddressBook().get();
-            model.setAddressBook(newAddressBook);
+            return new CsvAddressBookStorage(filepath).readPersons(filepath, monitor).get();
         } catch (DataLoadingException | NoSuchElementException e) {
             throw new CommandException(ImportCommand.MESSAGE_INVALID_FILE);
         }
+    }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, filepath.toString().replace('\\', '/')));
+    private static String toDisplayPath(Path path) {
+        return path.toString().replace('\\', '/');
     }
 
     @Override
@@ -116,13 +303,15 @@ public class ImportCommand extends Command {
         }
 
         ImportCommand otherImportCommand = (ImportCommand) other;
-        return filepath.equals(otherImportCommand.filepath);
+        return filepath.equals(otherImportCommand.filepath)
+                && isMerge == otherImportCommand.isMerge;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("filepath", filepath.toString().replace('\\', '/'))
+                .add("filepath", toDisplayPath(filepath))
+                .add("isMerge", isMerge)
                 .toString();
     }
 }
@@ -3,9 +3,11 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -14,21 +16,23 @@ import seedu.address.model.person.LogEntry;
 import seedu.address.model.person.Person;
 
 /**
- * Adds a log entry to document an interaction with an existing contact in the address book.
+ * Adds a log entry to document an interaction with existing contacts in the address book.
  */
 public class LogCommand extends Command {
     public static final String COMMAND_WORD = "log";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Logs an interaction with the contact identified "
-            + "by the index number used in the last person listing. "
+            + "by the index number used in the last person listing, the contacts in a range of index numbers, "
+            + "or all listed contacts. "
             + "The log entry will be added to the interaction log.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer), FIRST-LAST or all "
             + "m/MESSAGE [t/TYPE]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + "m/Called about catering quote, they'll email by Friday t/call";
     public static final String MESSAGE_SUCCESS = "Added log entry to Person: %1$s";
+    public static final String MESSAGE_SUCCESS_MANY = "Added log entry to %1$d persons";
 
-    private final Index index;
+    private final IndexRange targetIndexes;
     private final String message;
     private final String type;
 
@@ -40,62 +44,78 @@ public class LogCommand extends Command {
      * @param type the type of interaction (e.g., "call", "meeting", "email"). It can be an empty string.
      */
     public LogCommand(Index index, String message, String type) {
-        requireAllNonNull(index, message, type);
+        this(IndexRange.of(index), message, type);
+    }
+
+    /**
+     * Constructs a LogCommand to add a log entry to the interaction log of several persons.
+     *
+     * @param targetIndexes the indexes of the persons in the filtered person list
+     * @param message the log message describing the interaction
+     * @param type the type of interaction (e.g., "call", "meeting", "email"). It can be an empty string.
+     */
+    public LogCommand(IndexRange targetIndexes, String message, String type) {
+        requireAllNonNull(targetIndexes, message, type);
 
-        this.index = index;
+        this.targetIndexes = targetIndexes;
         this.message = message;
         this.type = type;
     }
 
     /**
-     * Executes the command and adds a log entry to the person's interaction log.
+     * Executes the command and adds a log entry to the interaction log of each person.
      *
      * @param model the model which the command should operate on
      * @return the result of command execution containing a success message
-     * @throws CommandException if the provided index is invalid
+     * @throws CommandException if the provided indexes are invalid
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         assert model != null : "model must not be null";
 
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToEdit = lastShownList.get(index.getZeroBased());
+        List<Person> personsToEdit = getTargetPersons(model, targetIndexes);
 
         model.saveAddressBookState();
 
         // Create new log entry
         LogEntry newEntry = new LogEntry(message, type);
 
-        // Add log entry to existing logs
-        InteractionLog updatedLogs = personToEdit.getLogs().addLogEntry(newEntry);
-
-        // Create new person with updated logs
-        Person editedPerson = new Person(
-                personToEdit.getName(),
-                personToEdit.getPhone(),
-                personToEdit.getTelegramHandle(),
-                personToEdit.getEmail(),
-                personToEdit.getAddress(),
-                personToEdit.getTags(),
-                personToEdit.getNote(),
-                updatedLogs,
-                personToEdit.isPinned()
-        );
-
-        model.setPerson(personToEdit, editedPerson);
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person personToEdit : personsToEdit) {
+            // Add log entry to existing logs
+            InteractionLog updatedLogs = personToEdit.getLogs().addLogEntry(newEntry);
+
+            // Create new person with updated logs
+            editedPersons.add(new Person(
+                    personToEdit.getName(),
+                    personToEdit.getPhone(),
+                    personToEdit.getTelegramHandle(),
+                    personToEdit.getEmail(),
+                    personToEdit.getAddress(),
+                    personToEdit.getTags(),
+                    personToEdit.getNote(),
+                    updatedLogs,
+                    personToEdit.isPinned()
+            ));
+        }
+
+        model.batch(transaction -> {
+            for (int i = 0; i < personsToEdit.size(); i++) {
+                transaction.setPerson(personsToEdit.get(i), editedPersons.get(i));
+            }
+        });
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
+        if (editedPersons.size() > 1) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS_MANY, editedPersons.size()));
+        }
+        Person editedPerson = editedPersons.get(0);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(editedPerson)));
     }
 
     /**
      * Checks whether this LogCommand is equal to another object.
-     * Two LogCommands are equal if they have the same index, message, and type.
+     * Two LogCommands are equal if they have the same indexes, message, and type.
      *
      * @param other the object to compare with
      * @return true if equal, false otherwise
@@ -111,7 +131,7 @@ public class LogCommand extends Command {
         }
 
         LogCommand otherCommand = (LogCommand) other;
-        return index.equals(otherCommand.index)
+        return targetIndexes.equals(otherCommand.targetIndexes)
                 && message.equals(otherCommand.message)
                 && type.equals(otherCommand.type);
     }
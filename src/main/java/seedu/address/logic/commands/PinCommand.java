@@ -2,9 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,7 +14,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Pins a person identified using their displayed index from the address book.
+ * Pins the persons identified using their displayed indexes from the address book.
  * Pinned persons will appear at the top of the contact list.
  */
 public class PinCommand extends Command {
@@ -20,49 +22,68 @@ public class PinCommand extends Command {
     public static final String COMMAND_WORD = "pin";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Pins the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Pins the person identified by the index number used in the displayed person list, "
+            + "the persons in a range of index numbers, or all displayed persons.\n"
+            + "Parameters: INDEX (must be a positive integer), FIRST-LAST or all\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " all";
 
     public static final String MESSAGE_PIN_PERSON_SUCCESS = "Pinned Person: %1$s";
+    public static final String MESSAGE_PIN_PERSONS_SUCCESS = "Pinned %1$d persons";
     public static final String MESSAGE_PERSON_ALREADY_PINNED = "This person is already pinned.";
+    public static final String MESSAGE_PERSONS_ALREADY_PINNED = "These persons are already pinned.";
 
-    private final Index targetIndex;
+    private final IndexRange targetIndexes;
 
     public PinCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexRange.of(targetIndex));
+    }
+
+    public PinCommand(IndexRange targetIndexes) {
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> targetPersons = getTargetPersons(model, targetIndexes);
+
+        // Persons that are already pinned are skipped.
+        List<Person> personsToPin = new ArrayList<>();
+        for (Person person : targetPersons) {
+            if (!person.isPinned()) {
+                personsToPin.add(person);
+            }
         }
-
-        Person personToPin = lastShownList.get(targetIndex.getZeroBased());
-
-        if (personToPin.isPinned()) {
-            throw new CommandException(MESSAGE_PERSON_ALREADY_PINNED);
+        if (personsToPin.isEmpty()) {
+            throw new CommandException(targetPersons.size() == 1
+                    ? MESSAGE_PERSON_ALREADY_PINNED : MESSAGE_PERSONS_ALREADY_PINNED);
         }
 
-        Person pinnedPerson = new Person(
-                personToPin.getName(),
-                personToPin.getPhone(),
-                personToPin.getTelegramHandle(),
-                personToPin.getEmail(),
-                personToPin.getAddress(),
-                personToPin.getTags(),
-                personToPin.getNote(),
-                personToPin.getLogs(),
-                true
-        );
+        List<Person> pinnedPersons = new ArrayList<>();
+        for (Person personToPin : personsToPin) {
+            pinnedPersons.add(new Person(
+                    personToPin.getName(),
+                    personToPin.getPhone(),
+                    personToPin.getTelegramHandle(),
+                    personToPin.getEmail(),
+                    personToPin.getAddress(),
+                    personToPin.getTags(),
+                    personToPin.getNote(),
+                    personToPin.getLogs(),
+                    true
+            ));
+        }
 
         model.saveAddressBookState();
-        model.setPerson(personToPin, pinnedPerson);
-        return new CommandResult(String.format(MESSAGE_PIN_PERSON_SUCCESS, Messages.format(pinnedPerson)));
+        model.batch(transaction -> {
+            for (int i = 0; i < personsToPin.size(); i++) {
+                transaction.setPerson(personsToPin.get(i), pinnedPersons.get(i));
+            }
+        });
+        if (pinnedPersons.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_PIN_PERSON_SUCCESS, Messages.format(pinnedPersons.get(0))));
+        }
+        return new CommandResult(String.format(MESSAGE_PIN_PERSONS_SUCCESS, pinnedPersons.size()));
     }
 
     @Override
@@ -77,13 +98,13 @@ public class PinCommand extends Command {
         }
 
         PinCommand otherPinCommand = (PinCommand) other;
-        return targetIndex.equals(otherPinCommand.targetIndex);
+        return targetIndexes.equals(otherPinCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
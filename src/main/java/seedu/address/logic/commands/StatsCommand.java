@@ -22,4 +22,9 @@ public class StatsCommand extends Command {
         requireNonNull(model);
         return new CommandResult(MESSAGE_SUCCESS, false, false, true);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
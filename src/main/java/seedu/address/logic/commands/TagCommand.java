@@ -0,0 +1,130 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds tags to, or removes tags from, the persons identified using their displayed indexes, keeping their other tags.
+ */
+public class TagCommand extends Command {
+
+    public static final String COMMAND_WORD = "tag";
+    public static final String ADD_KEYWORD = "add";
+    public static final String REMOVE_KEYWORD = "remove";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds tags to, or removes tags from, the person identified by the index number used in the displayed "
+            + "person list, the persons in a range of index numbers, or all displayed persons. "
+            + "Their other tags are kept.\n"
+            + "Parameters: " + ADD_KEYWORD + "|" + REMOVE_KEYWORD + " "
+            + "INDEX (must be a positive integer), FIRST-LAST or all "
+            + PREFIX_TAG + "TAG [" + PREFIX_TAG + "MORE_TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " " + ADD_KEYWORD + " all " + PREFIX_TAG + "vendor";
+
+    public static final String MESSAGE_ADD_SUCCESS = "Added tags %1$s to %2$d persons";
+    public static final String MESSAGE_REMOVE_SUCCESS = "Removed tags %1$s from %2$d persons";
+    public static final String MESSAGE_ALREADY_TAGGED = "The persons already have these tags.";
+    public static final String MESSAGE_NOT_TAGGED = "The persons do not have these tags.";
+
+    private final IndexRange targetIndexes;
+    private final Set<Tag> tags;
+    private final boolean isAdding;
+
+    /**
+     * Creates a TagCommand that adds {@code tags} to the persons at {@code targetIndexes} if {@code isAdding} is
+     * true, or removes them otherwise.
+     */
+    public TagCommand(IndexRange targetIndexes, Set<Tag> tags, boolean isAdding) {
+        requireAllNonNull(targetIndexes, tags);
+        this.targetIndexes = targetIndexes;
+        this.tags = Set.copyOf(tags);
+        this.isAdding = isAdding;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> targetPersons = getTargetPersons(model, targetIndexes);
+
+        // Persons whose tags would not change are skipped.
+        List<Person> personsToEdit = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person person : targetPersons) {
+            Set<Tag> updatedTags = new HashSet<>(person.getTags());
+            boolean isChanged = isAdding ? updatedTags.addAll(tags) : updatedTags.removeAll(tags);
+            if (isChanged) {
+                personsToEdit.add(person);
+                editedPersons.add(new Person(
+                        person.getName(),
+                        person.getPhone(),
+                        person.getTelegramHandle(),
+                        person.getEmail(),
+                        person.getAddress(),
+                        updatedTags,
+                        person.getNote(),
+                        person.getLogs(),
+                        person.isPinned()
+                ));
+            }
+        }
+        if (personsToEdit.isEmpty()) {
+            throw new CommandException(isAdding ? MESSAGE_ALREADY_TAGGED : MESSAGE_NOT_TAGGED);
+        }
+
+        model.saveAddressBookState();
+        model.batch(transaction -> {
+            for (int i = 0; i < personsToEdit.size(); i++) {
+                transaction.setPerson(personsToEdit.get(i), editedPersons.get(i));
+            }
+        });
+        return new CommandResult(String.format(isAdding ? MESSAGE_ADD_SUCCESS : MESSAGE_REMOVE_SUCCESS,
+                formatTags(tags), personsToEdit.size()));
+    }
+
+    /**
+     * Returns the names of {@code tags} in alphabetical order, separated by commas.
+     */
+    private static String formatTags(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagCommand)) {
+            return false;
+        }
+
+        TagCommand otherTagCommand = (TagCommand) other;
+        return targetIndexes.equals(otherTagCommand.targetIndexes)
+                && tags.equals(otherTagCommand.tags)
+                && isAdding == otherTagCommand.isAdding;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndexes", targetIndexes)
+                .add("tags", tags)
+                .add("isAdding", isAdding)
+                .toString();
+    }
+}
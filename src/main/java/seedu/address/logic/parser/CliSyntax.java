@@ -18,5 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_NOTE = new Prefix("note/");
     public static final Prefix PREFIX_MESSAGE = new Prefix("m/");
     public static final Prefix PREFIX_TYPE = new Prefix("t/");
+    public static final Prefix PREFIX_COLUMN = new Prefix("col/");
+    public static final Prefix PREFIX_SINCE = new Prefix("since/");
 
 }
@@ -1,15 +1,27 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLUMN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SINCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.MatchesAllPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -24,23 +36,41 @@ public class ExportCommandParser implements Parser<ExportCommand> {
      */
     public ExportCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_FILE, PREFIX_TAG);
+                ArgumentTokenizer.tokenize(args, PREFIX_FILE, PREFIX_NAME, PREFIX_TAG, PREFIX_COLUMN, PREFIX_SINCE);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_FILE)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE, PREFIX_NAME, PREFIX_SINCE);
         Path exportName = ParserUtil.parsePath(argMultimap.getValue(PREFIX_FILE).get());
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Set<PersonColumn> columns = ParserUtil.parseColumns(argMultimap.getAllValues(PREFIX_COLUMN));
 
-        if (!exportName.toString().endsWith(".json")
-                && !exportName.toString().endsWith(".csv")) {
+        if (!ExportCommand.isSupportedFile(exportName)) {
             throw new ParseException(ExportCommand.INVALID_EXPORT_FORMAT);
         }
 
-        return new ExportCommand(exportName, tagList);
+        Predicate<Person> predicate = ExportCommand.hasAllTags(tagList);
+        Optional<String> names = argMultimap.getValue(PREFIX_NAME);
+        if (names.isPresent()) {
+            String trimmedNames = names.get().trim();
+            if (trimmedNames.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+            }
+            predicate = new MatchesAllPredicate(List.of(predicate,
+                    new NameContainsKeywordsPredicate(Arrays.asList(trimmedNames.split("\\s+")))));
+        }
+
+        OptionalLong sinceVersion = OptionalLong.empty();
+        if (argMultimap.getValue(PREFIX_SINCE).isPresent()) {
+            sinceVersion = OptionalLong.of(ParserUtil.parseVersion(argMultimap.getValue(PREFIX_SINCE).get()));
+        }
+
+        return new ExportCommand(exportName, predicate, columns.isEmpty() ? PersonColumn.ALL : columns,
+                sinceVersion);
     }
 
     /**
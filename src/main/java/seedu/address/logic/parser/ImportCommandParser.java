@@ -23,15 +23,17 @@ public class ImportCommandParser implements Parser<ImportCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_FILE);
 
+        String preamble = argMultimap.getPreamble();
+        boolean isMerge = preamble.equals(ImportCommand.MERGE_KEYWORD);
         if (!arePrefixesPresent(argMultimap, PREFIX_FILE)
-                || !argMultimap.getPreamble().isEmpty()) {
+                || !preamble.isEmpty() && !isMerge) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
         Path filepath = ParserUtil.parsePath(argMultimap.getValue(PREFIX_FILE).get());
 
-        return new ImportCommand(filepath);
+        return new ImportCommand(filepath, isMerge);
     }
 
     /**
@@ -5,7 +5,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MESSAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.LogCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,9 +27,9 @@ public class LogCommandParser implements Parser<LogCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
                 PREFIX_MESSAGE, PREFIX_TYPE);
 
-        Index index;
+        IndexRange targetIndexes;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            targetIndexes = ParserUtil.parseIndexRange(argMultimap.getPreamble());
         } catch (IllegalValueException ive) {
             throw new ParseException(ive.getMessage() + "\n" + String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     LogCommand.MESSAGE_USAGE), ive);
@@ -49,6 +49,6 @@ public class LogCommandParser implements Parser<LogCommand> {
             type = ParserUtil.parseLogType(argMultimap.getValue(PREFIX_TYPE).get());
         }
 
-        return new LogCommand(index, message, type);
+        return new LogCommand(targetIndexes, message, type);
     }
 }
@@ -6,10 +6,12 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,6 +21,7 @@ import seedu.address.model.person.Field;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Order;
+import seedu.address.model.person.PersonColumn;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TelegramHandle;
 import seedu.address.model.tag.Tag;
@@ -29,8 +32,12 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range should be FIRST-LAST, where FIRST is not greater than LAST.";
+    public static final String KEYWORD_ALL = "all";
     public static final String MESSAGE_INVALID_INPUT = "Invalid input syntax - please refer to the syntax below.";
     /** The confirmation keyword required from the user to proceed with destructive operations like clear. */
+    public static final String MESSAGE_INVALID_VERSION = "Version should be a non-negative whole number.";
     public static final String CLEAR_CONFIRMATION_MESSAGE = "confirm";
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -50,6 +57,30 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code targets} into an {@code IndexRange} and returns it: a one-based index, a range of them such as
+     * {@code 1-500}, or {@code all}. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if {@code targets} is none of these.
+     */
+    public static IndexRange parseIndexRange(String targets) throws ParseException {
+        requireNonNull(targets);
+        String trimmedTargets = targets.trim();
+        if (trimmedTargets.equals(KEYWORD_ALL)) {
+            return IndexRange.all();
+        }
+
+        int dashIndex = trimmedTargets.indexOf('-');
+        if (dashIndex == -1) {
+            return IndexRange.of(parseIndex(trimmedTargets));
+        }
+        Index first = parseIndex(trimmedTargets.substring(0, dashIndex));
+        Index last = parseIndex(trimmedTargets.substring(dashIndex + 1));
+        if (first.getZeroBased() > last.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        return IndexRange.between(first, last);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -163,6 +194,25 @@ public class ParserUtil {
         return order;
     }
 
+    /**
+     * Parses {@code Collection<String> columns} into a {@code Set<PersonColumn>}.
+     * Column names are case-insensitive.
+     *
+     * @throws ParseException if any of the given {@code columns} is invalid.
+     */
+    public static Set<PersonColumn> parseColumns(Collection<String> columns) throws ParseException {
+        requireNonNull(columns);
+        final Set<PersonColumn> columnSet = EnumSet.noneOf(PersonColumn.class);
+        for (String columnName : columns) {
+            PersonColumn column = PersonColumn.of(columnName);
+            if (column == null) {
+                throw new ParseException(PersonColumn.MESSAGE_CONSTRAINTS);
+            }
+            columnSet.add(column);
+        }
+        return columnSet;
+    }
+
     /**
      * Parses a {@code String filepath} into a {@code Path}.
      * Leading and trailing whitespaces will be trimmed.
@@ -179,6 +229,26 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String version} into an address book version.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code version} is not a non-negative whole number.
+     */
+    public static long parseVersion(String version) throws ParseException {
+        requireNonNull(version);
+        String trimmedVersion = version.trim();
+        try {
+            long parsedVersion = Long.parseLong(trimmedVersion);
+            if (parsedVersion >= 0) {
+                return parsedVersion;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below, as for a negative version.
+        }
+        throw new ParseException(MESSAGE_INVALID_VERSION);
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
@@ -191,7 +261,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
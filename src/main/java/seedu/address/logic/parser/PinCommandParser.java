@@ -2,7 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.commands.PinCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -18,8 +18,8 @@ public class PinCommandParser implements Parser<PinCommand> {
      */
     public PinCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new PinCommand(index);
+            IndexRange targetIndexes = ParserUtil.parseIndexRange(args);
+            return new PinCommand(targetIndexes);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(pe.getMessage() + "\n" + MESSAGE_INVALID_COMMAND_FORMAT, PinCommand.MESSAGE_USAGE),
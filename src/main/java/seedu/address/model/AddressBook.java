@@ -2,20 +2,39 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeTracker;
+import seedu.address.model.person.PersonChanges;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * <p>
+ * An address book must only be changed and read by one thread at a time, except for {@link #getSnapshot()}, which
+ * any thread can call at any time. After every change, an immutable snapshot of the persons is published, so that
+ * other threads read a consistent state without locking.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Versions are drawn from one counter for all address books, so equal versions always mean equal persons.
+    // The counter starts from the clock, so that versions from an earlier run are older than any from this one.
+    private static final AtomicLong NEXT_VERSION = new AtomicLong(System.currentTimeMillis() * 1000);
+
     private final UniquePersonList persons;
+    private final PersonChangeTracker changes;
+    private long version;
+    private volatile AddressBookSnapshot snapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,14 +47,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
     }
 
-    public AddressBook() {}
+    /**
+     * Creates an empty AddressBook.
+     */
+    public AddressBook() {
+        changes = new PersonChangeTracker(version);
+        publishSnapshot();
+    }
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * Only changes made to the copy afterwards are tracked.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
-        this();
-        resetData(toBeCopied);
+        requireNonNull(toBeCopied);
+        persons.setPersons(toBeCopied.getPersonList());
+        version = nextVersion();
+        changes = new PersonChangeTracker(version);
+        publishSnapshot();
+    }
+
+    /**
+     * Returns a version that no address book has reported yet.
+     */
+    static long nextVersion() {
+        return NEXT_VERSION.incrementAndGet();
     }
 
     //// list overwrite operations
@@ -45,7 +81,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = new ArrayList<>(this.persons.asUnmodifiableObservableList());
         this.persons.setPersons(persons);
+        version = nextVersion();
+        changes.recordReplaced(oldPersons, persons, version);
+        publishSnapshot();
     }
 
     /**
@@ -73,6 +113,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version = nextVersion();
+        changes.recordChanged(p, version);
+        publishSnapshot();
     }
 
     /**
@@ -84,6 +127,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version = nextVersion();
+        if (!target.isSamePerson(editedPerson)) {
+            changes.recordRemoved(target, version);
+        }
+        changes.recordChanged(editedPerson, version);
+        publishSnapshot();
     }
 
     /**
@@ -92,6 +141,63 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version = nextVersion();
+        changes.recordRemoved(key, version);
+        publishSnapshot();
+    }
+
+    /**
+     * Makes the changes that {@code makeChanges} makes to the given transaction as one change: the persons are
+     * checked for duplicates once, the version changes once, and listeners of the person list are notified once.
+     * If {@code makeChanges} throws, or the persons would have duplicates, the address book is left unchanged.
+     *
+     * @throws DuplicatePersonException if two persons would have the same identity.
+     * @throws PersonNotFoundException if a person to be replaced or removed does not exist.
+     */
+    public void batch(Consumer<? super AddressBookTransaction> makeChanges) {
+        requireNonNull(makeChanges);
+
+        UniquePersonList.Batch batch = persons.startBatch();
+        // The changes are tracked in the order they were made, once they have all been made.
+        List<Consumer<Long>> records = new ArrayList<>();
+        makeChanges.accept(new AddressBookTransaction() {
+            @Override
+            public void addPerson(Person person) {
+                batch.add(person);
+                records.add(newVersion -> changes.recordChanged(person, newVersion));
+            }
+
+            @Override
+            public void setPerson(Person target, Person editedPerson) {
+                batch.setPerson(target, editedPerson);
+                if (!target.isSamePerson(editedPerson)) {
+                    records.add(newVersion -> changes.recordRemoved(target, newVersion));
+                }
+                records.add(newVersion -> changes.recordChanged(editedPerson, newVersion));
+            }
+
+            @Override
+            public void deletePerson(Person target) {
+                batch.remove(target);
+                records.add(newVersion -> changes.recordRemoved(target, newVersion));
+            }
+        });
+        if (records.isEmpty()) {
+            return;
+        }
+
+        batch.apply();
+        version = nextVersion();
+        records.forEach(record -> record.accept(version));
+        publishSnapshot();
+    }
+
+    /**
+     * Publishes the current persons and version for {@link #getSnapshot()}.
+     * Copying the references costs about as much as the search for duplicates that every change already makes.
+     */
+    private void publishSnapshot() {
+        snapshot = new AddressBookSnapshot(List.copyOf(persons.asUnmodifiableObservableList()), version);
     }
 
     //// util methods
@@ -108,6 +214,34 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike the other methods, this can be called on any thread while the address book is being changed, and takes
+     * constant time.
+     */
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The changes are known for any version from when this address book was created or copied up to its current
+     * version.
+     */
+    @Override
+    public Optional<PersonChanges> getChangesSince(long version) {
+        if (version > this.version) {
+            return Optional.empty();
+        }
+        return changes.getChangesSince(version);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of an address book as it was at one point in time.
+ * Persons are immutable, so taking a snapshot only copies references to them, and the snapshot can be handed to
+ * another thread while the original address book keeps changing.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final long version;
+
+    /**
+     * Creates a snapshot of the persons in {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(source.getPersonList())));
+        version = source.getVersion();
+    }
+
+    /**
+     * Creates a snapshot holding {@code persons} without copying them.
+     * {@code persons} must not contain duplicate persons and must not change afterwards.
+     */
+    AddressBookSnapshot(List<Person> persons, long version) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.version = version;
+    }
+
+    /**
+     * Returns a snapshot holding {@code persons} without copying them, e.g. a list decoded from a data file on
+     * demand. {@code persons} must not contain duplicate persons and must not change afterwards.
+     */
+    public static AddressBookSnapshot of(List<Person> persons) {
+        requireNonNull(persons);
+        return new AddressBookSnapshot(persons, AddressBook.nextVersion());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+
+}
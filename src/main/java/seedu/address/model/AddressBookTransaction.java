@@ -0,0 +1,31 @@
+package seedu.address.model;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Changes to the persons of an address book that are made together, as one change, by {@link Model#batch}.
+ * Each change sees the changes made before it in the same transaction.
+ */
+public interface AddressBookTransaction {
+
+    /**
+     * Adds the given person.
+     * {@code person} must not have the same identity as another person once all the changes are made.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another person once all the changes are
+     * made.
+     */
+    void setPerson(Person target, Person editedPerson);
+
+    /**
+     * Deletes the given person.
+     * The person must exist in the address book.
+     */
+    void deletePerson(Person target);
+
+}
@@ -5,6 +5,7 @@ import java.util.Stack;
 /**
  * Manages version history of AddressBook states for undo/redo functionality.
  * Maintains two stacks: one for past states (undo) and one for future states (redo).
+ * States are kept as immutable snapshots, so saving the state of an {@code AddressBook} does not copy it.
  */
 public class AddressBookVersionHistory {
 
@@ -26,7 +27,7 @@ public class AddressBookVersionHistory {
      * @param currentState The current state to save.
      */
     public void saveState(ReadOnlyAddressBook currentState) {
-        undoStack.push(new AddressBook(currentState));
+        undoStack.push(currentState.getSnapshot());
         redoStack.clear();
         if (undoStack.size() > MAX_HISTORY_SIZE) {
             undoStack.remove(0);
@@ -58,7 +59,7 @@ public class AddressBookVersionHistory {
      * @return The previous state from undo stack.
      */
     public ReadOnlyAddressBook undo(ReadOnlyAddressBook currentState) {
-        redoStack.push(new AddressBook(currentState));
+        redoStack.push(currentState.getSnapshot());
         return undoStack.pop();
     }
 
@@ -69,7 +70,7 @@ public class AddressBookVersionHistory {
      * @return The previous state from redo stack.
      */
     public ReadOnlyAddressBook redo(ReadOnlyAddressBook currentState) {
-        undoStack.push(new AddressBook(currentState));
+        undoStack.push(currentState.getSnapshot());
         return redoStack.pop();
     }
 
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -36,7 +37,7 @@ public interface Model {
     void setGuiSettings(GuiSettings guiSettings);
 
     /**
-     * Returns the user prefs' address book file path.
+     * Returns the file the address book is saved to, as given by {@link ReadOnlyUserPrefs#getDataFilePath()}.
      */
     Path getAddressBookFilePath();
 
@@ -77,6 +78,14 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Makes all the changes that {@code makeChanges} makes to the given transaction as one change to the address
+     * book, e.g. for a command that changes many persons: the persons are checked for duplicates once, and the
+     * filtered person list is updated once. Unlike {@link #addPerson}, the filter is kept.
+     * If {@code makeChanges} throws, or the persons would have duplicates, the address book is left unchanged.
+     */
+    void batch(Consumer<? super AddressBookTransaction> makeChanges);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -18,6 +19,8 @@ import seedu.address.model.person.Person;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The model must only be used by one thread at a time, e.g. the thread that executes commands. Other threads can
+ * read a consistent {@link ReadOnlyAddressBook#getSnapshot() snapshot} of {@link #getAddressBook()} at any time.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -80,7 +83,7 @@ public class ModelManager implements Model {
 
     @Override
     public Path getAddressBookFilePath() {
-        return userPrefs.getAddressBookFilePath();
+        return userPrefs.getDataFilePath();
     }
 
     @Override
@@ -125,6 +128,12 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void batch(Consumer<? super AddressBookTransaction> makeChanges) {
+        requireNonNull(makeChanges);
+        addressBook.batch(makeChanges);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -0,0 +1,154 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
+
+/**
+ * A read-only copy of a {@code Model} as it was at one point in time, which can be read on another thread while
+ * the original model keeps changing. Any attempt to change it throws {@code UnsupportedOperationException}.
+ */
+public final class ModelSnapshot implements Model {
+
+    static final String MESSAGE_READ_ONLY = "A snapshot of the model cannot be changed.";
+
+    private final ReadOnlyAddressBook addressBook;
+    private final ObservableList<Person> filteredPersons;
+    private final UserPrefs userPrefs;
+    private final boolean canUndo;
+    private final boolean canRedo;
+
+    /**
+     * Creates a snapshot of {@code model}.
+     */
+    public ModelSnapshot(Model model) {
+        requireNonNull(model);
+        addressBook = model.getAddressBook().getSnapshot();
+        filteredPersons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(model.getFilteredPersonList())));
+        userPrefs = new UserPrefs(model.getUserPrefs());
+        canUndo = model.canUndoAddressBook();
+        canRedo = model.canRedoAddressBook();
+    }
+
+    @Override
+    public ObservableList<Person> getSortedPersonList() {
+        return filteredPersons;
+    }
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return new UserPrefs(userPrefs);
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getDataFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getPersonList().stream().anyMatch(person::isSamePerson);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void batch(Consumer<? super AddressBookTransaction> makeChanges) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return filteredPersons;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void saveAddressBookState() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return canUndo;
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return canRedo;
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+}
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChanges;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +17,28 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the modification version of this address book.
+     * The version increases whenever the persons list is changed, and two address books with the same version
+     * hold the same persons, e.g. an address book and an {@link AddressBookSnapshot} of it.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable snapshot of this address book as it is now, e.g. to hand to another thread.
+     * By default, the persons are copied.
+     */
+    default AddressBookSnapshot getSnapshot() {
+        return new AddressBookSnapshot(this);
+    }
+
+    /**
+     * Returns the persons added, changed or removed after {@code version}, or an empty {@code Optional} if those
+     * changes are not known, e.g. because {@code version} is from an earlier run of the application.
+     * By default, changes are not tracked.
+     */
+    default Optional<PersonChanges> getChangesSince(long version) {
+        return Optional.empty();
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,52 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book data file should be saved without indentation or line breaks.
+     */
+    boolean isDataFileCompact();
+
+    /**
+     * Returns true if changes should be appended to a journal next to the data file instead of rewriting it.
+     */
+    boolean isDataFileJournaled();
+
+    /**
+     * Returns true if the address book should be saved in the compact binary format instead of JSON.
+     */
+    boolean isDataFileBinary();
+
+    /**
+     * Returns true if the address book should be saved as one record per person in a data directory, so that
+     * each save only writes the persons that changed.
+     */
+    boolean isDataFileLogStructured();
+
+    /**
+     * Returns true if the JSON data file should be gzip-compressed.
+     */
+    boolean isDataFileCompressed();
+
+    /**
+     * Returns the file the address book is saved to, which is {@link #getAddressBookFilePath()} except that
+     * <ul>
+     * <li>a log-structured data directory is saved without the {@code .json} extension, and a binary data file with
+     * {@code .bin} in its place, since files whose name ends with {@code .json} are always saved as JSON, and</li>
+     * <li>a compressed data file is saved to the gzip-compressed file for it. Compression is only supported for
+     * plain JSON and JSON Lines data files, and is ignored for other formats.</li>
+     * </ul>
+     */
+    default Path getDataFilePath() {
+        if (isDataFileLogStructured()) {
+            return FileUtil.replaceExtension(getAddressBookFilePath(), ".json", "");
+        }
+        if (isDataFileBinary()) {
+            return FileUtil.replaceExtension(getAddressBookFilePath(), ".json", ".bin");
+        }
+        if (isDataFileCompressed() && !isDataFileJournaled()) {
+            return FileUtil.toGzipFile(getAddressBookFilePath());
+        }
+        return getAddressBookFilePath();
+    }
+
 }
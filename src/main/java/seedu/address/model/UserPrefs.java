@@ -15,6 +15,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean isDataFileCompact = false;
+    private boolean isDataFileJournaled = false;
+    private boolean isDataFileBinary = false;
+    private boolean isDataFileLogStructured = false;
+    private boolean isDataFileCompressed = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setDataFileCompact(newUserPrefs.isDataFileCompact());
+        setDataFileJournaled(newUserPrefs.isDataFileJournaled());
+        setDataFileBinary(newUserPrefs.isDataFileBinary());
+        setDataFileLogStructured(newUserPrefs.isDataFileLogStructured());
+        setDataFileCompressed(newUserPrefs.isDataFileCompressed());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,46 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isDataFileCompact() {
+        return isDataFileCompact;
+    }
+
+    public void setDataFileCompact(boolean isDataFileCompact) {
+        this.isDataFileCompact = isDataFileCompact;
+    }
+
+    public boolean isDataFileJournaled() {
+        return isDataFileJournaled;
+    }
+
+    public void setDataFileJournaled(boolean isDataFileJournaled) {
+        this.isDataFileJournaled = isDataFileJournaled;
+    }
+
+    public boolean isDataFileBinary() {
+        return isDataFileBinary;
+    }
+
+    public void setDataFileBinary(boolean isDataFileBinary) {
+        this.isDataFileBinary = isDataFileBinary;
+    }
+
+    public boolean isDataFileLogStructured() {
+        return isDataFileLogStructured;
+    }
+
+    public void setDataFileLogStructured(boolean isDataFileLogStructured) {
+        this.isDataFileLogStructured = isDataFileLogStructured;
+    }
+
+    public boolean isDataFileCompressed() {
+        return isDataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean isDataFileCompressed) {
+        this.isDataFileCompressed = isDataFileCompressed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +119,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && isDataFileCompact == otherUserPrefs.isDataFileCompact
+                && isDataFileJournaled == otherUserPrefs.isDataFileJournaled
+                && isDataFileBinary == otherUserPrefs.isDataFileBinary
+                && isDataFileLogStructured == otherUserPrefs.isDataFileLogStructured
+                && isDataFileCompressed == otherUserPrefs.isDataFileCompressed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isDataFileCompact, isDataFileJournaled,
+                isDataFileBinary, isDataFileLogStructured, isDataFileCompressed);
     }
 
     @Override
@@ -82,6 +138,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact data file : " + isDataFileCompact);
+        sb.append("\nJournaled data file : " + isDataFileJournaled);
+        sb.append("\nBinary data file : " + isDataFileBinary);
+        sb.append("\nLog-structured data file : " + isDataFileLogStructured);
+        sb.append("\nCompressed data file : " + isDataFileCompressed);
         return sb.toString();
     }
 
@@ -0,0 +1,317 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import seedu.address.commons.core.ProgressMonitor;
+
+/**
+ * Finds groups of persons that are likely to be the same person entered more than once, e.g. with the name spelt
+ * slightly differently, or the phone number written with a country code.
+ * <p>
+ * Comparing every pair of persons would take quadratic time, so persons are first put into blocks of candidates that
+ * share a blocking key: the phonetic key of their name, their normalized email or the last digits of their phone
+ * number. Only persons in the same block are compared, and blocks that are too large to say anything about a person,
+ * such as the phonetic key of a very common name, are skipped. Names and addresses are compared by the estimated
+ * Jaccard similarity of their character shingles, using MinHash signatures that are computed once per person.
+ * <p>
+ * Two persons are taken to be duplicates if their names are similar and either their phone numbers or emails match,
+ * or their names are very similar and their addresses are similar.
+ */
+public class DuplicateDetector {
+
+    static final double NAME_SIMILARITY_THRESHOLD = 0.4;
+    static final double CLOSE_NAME_SIMILARITY_THRESHOLD = 0.8;
+    static final double ADDRESS_SIMILARITY_THRESHOLD = 0.5;
+
+    /** Phone numbers are matched by their last digits, so that country codes and formatting are ignored. */
+    static final int PHONE_SUFFIX_LENGTH = 8;
+
+    /** Blocks with more persons than this are skipped, so that the number of comparisons stays linear. */
+    static final int MAX_BLOCK_SIZE = 100;
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final long[] SIGNATURE_SEEDS = new long[SIGNATURE_LENGTH];
+    private static final char[] SOUNDEX_CODES = "01230120022455012623010202".toCharArray();
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            seed = mix(seed + i);
+            SIGNATURE_SEEDS[i] = seed;
+        }
+    }
+
+    private final List<Person> persons;
+    private final ProgressMonitor monitor;
+    // Signatures are only computed for persons that share a block with another person.
+    private final int[][] nameSignatures;
+    private final int[][] addressSignatures;
+    private final String[] phoneKeys;
+    private final String[] emailKeys;
+    private final String[] nameKeys;
+    private final int[] parents;
+
+    private DuplicateDetector(List<Person> persons, ProgressMonitor monitor) {
+        this.persons = persons;
+        this.monitor = monitor;
+        nameSignatures = new int[persons.size()][];
+        addressSignatures = new int[persons.size()][];
+        phoneKeys = new String[persons.size()];
+        emailKeys = new String[persons.size()];
+        nameKeys = new String[persons.size()];
+        parents = new int[persons.size()];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+    }
+
+    /**
+     * Returns the groups of likely duplicates among {@code persons}, each in the order of {@code persons}, ordered by
+     * their first person. The progress is reported to {@code monitor} as the number of persons compared.
+     *
+     * @throws CancellationException if {@code monitor} is cancelled before all persons are compared.
+     */
+    public static List<List<Person>> findDuplicates(List<Person> persons, ProgressMonitor monitor) {
+        requireNonNull(persons);
+        requireNonNull(monitor);
+        return new DuplicateDetector(persons, monitor).findGroups();
+    }
+
+    private List<List<Person>> findGroups() {
+        for (int i = 0; i < persons.size(); i++) {
+            phoneKeys[i] = "p:" + normalizePhone(persons.get(i).getPhone().value);
+            emailKeys[i] = "e:" + normalizeEmail(persons.get(i).getEmail().value);
+            nameKeys[i] = "n:" + phoneticKey(persons.get(i).getName().fullName);
+        }
+
+        Map<String, int[]> blocks = createBlocks();
+        int size = persons.size();
+        for (int i = 0; i < size; i++) {
+            monitor.checkCancelled();
+            compareWithLaterInBlock(i, blocks.get(phoneKeys[i]));
+            compareWithLaterInBlock(i, blocks.get(emailKeys[i]));
+            compareWithLaterInBlock(i, blocks.get(nameKeys[i]));
+            monitor.worked(i + 1, size);
+        }
+
+        int[] groupSizes = new int[size];
+        for (int i = 0; i < size; i++) {
+            groupSizes[find(i)]++;
+        }
+        Map<Integer, List<Person>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            int root = find(i);
+            if (groupSizes[root] > 1) {
+                groups.computeIfAbsent(root, unused -> new ArrayList<>(groupSizes[root])).add(persons.get(i));
+            }
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * Returns the blocks of persons that share a blocking key, leaving out blocks of a single person and blocks that
+     * are too large. The persons of each block are in ascending order.
+     */
+    private Map<String, int[]> createBlocks() {
+        Map<String, List<Integer>> members = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            members.computeIfAbsent(phoneKeys[i], unused -> new ArrayList<>(1)).add(i);
+            members.computeIfAbsent(emailKeys[i], unused -> new ArrayList<>(1)).add(i);
+            members.computeIfAbsent(nameKeys[i], unused -> new ArrayList<>(1)).add(i);
+        }
+
+        Map<String, int[]> blocks = new HashMap<>();
+        members.forEach((key, indexes) -> {
+            if (indexes.size() > 1 && indexes.size() <= MAX_BLOCK_SIZE) {
+                blocks.put(key, indexes.stream().mapToInt(Integer::intValue).toArray());
+            }
+        });
+        return blocks;
+    }
+
+    private void compareWithLaterInBlock(int index, int[] block) {
+        if (block == null) {
+            return;
+        }
+        for (int other : block) {
+            if (other > index && find(other) != find(index) && isDuplicate(index, other)) {
+                union(index, other);
+            }
+        }
+    }
+
+    private boolean isDuplicate(int first, int second) {
+        double nameSimilarity = similarity(nameSignature(first), nameSignature(second));
+        if (nameSimilarity < NAME_SIMILARITY_THRESHOLD) {
+            return false;
+        }
+        if (phoneKeys[first].equals(phoneKeys[second]) || emailKeys[first].equals(emailKeys[second])) {
+            return true;
+        }
+        return nameSimilarity >= CLOSE_NAME_SIMILARITY_THRESHOLD
+                && similarity(addressSignature(first), addressSignature(second)) >= ADDRESS_SIMILARITY_THRESHOLD;
+    }
+
+    private int[] nameSignature(int index) {
+        if (nameSignatures[index] == null) {
+            nameSignatures[index] = minHash(persons.get(index).getName().fullName);
+        }
+        return nameSignatures[index];
+    }
+
+    private int[] addressSignature(int index) {
+        if (addressSignatures[index] == null) {
+            addressSignatures[index] = minHash(persons.get(index).getAddress().value);
+        }
+        return addressSignatures[index];
+    }
+
+    private int find(int index) {
+        int root = index;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        while (parents[index] != root) {
+            int next = parents[index];
+            parents[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    private void union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        // The smaller index becomes the root, so each group is keyed by its first person.
+        parents[Math.max(firstRoot, secondRoot)] = Math.min(firstRoot, secondRoot);
+    }
+
+    //// normalization
+
+    /**
+     * Returns the last {@link #PHONE_SUFFIX_LENGTH} digits of {@code phone}, ignoring any other characters.
+     */
+    static String normalizePhone(String phone) {
+        String digits = phone.replaceAll("\\D", "");
+        return digits.substring(Math.max(0, digits.length() - PHONE_SUFFIX_LENGTH));
+    }
+
+    /**
+     * Returns {@code email} in lower case, without the sub-address after a '+' in its local part.
+     */
+    static String normalizeEmail(String email) {
+        String lowerCaseEmail = email.toLowerCase(Locale.ROOT);
+        int at = lowerCaseEmail.indexOf('@');
+        int plus = lowerCaseEmail.indexOf('+');
+        if (plus >= 0 && plus < at) {
+            return lowerCaseEmail.substring(0, plus) + lowerCaseEmail.substring(at);
+        }
+        return lowerCaseEmail;
+    }
+
+    /**
+     * Returns a key that is equal for names whose words sound alike in any order, made of the Soundex codes of the
+     * words of {@code name}.
+     */
+    static String phoneticKey(String name) {
+        String[] words = name.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        List<String> codes = new ArrayList<>(words.length);
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                codes.add(soundex(word));
+            }
+        }
+        codes.sort(null);
+        return String.join(" ", codes);
+    }
+
+    /**
+     * Returns the Soundex code of a lower case {@code word}, or the word itself if it does not start with a letter
+     * from a to z.
+     */
+    private static String soundex(String word) {
+        char first = word.charAt(0);
+        if (first < 'a' || first > 'z') {
+            return word;
+        }
+
+        StringBuilder code = new StringBuilder(4).append(Character.toUpperCase(first));
+        char lastDigit = SOUNDEX_CODES[first - 'a'];
+        for (int i = 1; i < word.length() && code.length() < 4; i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                continue;
+            }
+            char digit = SOUNDEX_CODES[c - 'a'];
+            if (digit != '0' && digit != lastDigit) {
+                code.append(digit);
+            }
+            // 'h' and 'w' do not separate letters with the same code, but vowels do.
+            if (c != 'h' && c != 'w') {
+                lastDigit = digit;
+            }
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    //// similarity
+
+    /**
+     * Returns the MinHash signature of the character shingles of the words in {@code text}, ignoring case and
+     * punctuation.
+     */
+    static int[] minHash(String text) {
+        String normalized = " " + text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim() + " ";
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingleCount = Math.max(1, normalized.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingleCount; start++) {
+            int end = Math.min(normalized.length(), start + SHINGLE_LENGTH);
+            long shingleHash = normalized.substring(start, end).hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = (int) mix(shingleHash ^ SIGNATURE_SEEDS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the estimated Jaccard similarity of the shingles behind two MinHash signatures.
+     */
+    static double similarity(int[] first, int[] second) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    /**
+     * Scrambles the bits of {@code value} (the finalizer of SplitMix64).
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -31,6 +31,7 @@ public class Email {
     private static final String DOMAIN_REGEX = DOMAIN_PART_REGEX + "(\\." + DOMAIN_PART_REGEX + ")*"
             + "\\.[A-Za-z0-9]{2,}";
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX + "$";
+    public static final FieldValidator VALIDATOR = FieldValidator.of(VALIDATION_REGEX);
 
     public final String value;
 
@@ -49,7 +50,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
     }
 
     @Override
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks values of a field against a validation regex, which is compiled only once.
+ * <p>
+ * Each thread reuses one matcher, so checking a value does not allocate. All methods are thread-safe.
+ */
+public final class FieldValidator {
+
+    private final Pattern pattern;
+    private final ThreadLocal<Matcher> matchers;
+
+    private FieldValidator(Pattern pattern) {
+        this.pattern = pattern;
+        matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    /**
+     * Returns a {@code FieldValidator} that accepts values matching the whole of {@code regex}.
+     */
+    public static FieldValidator of(String regex) {
+        requireNonNull(regex);
+        return new FieldValidator(Pattern.compile(regex));
+    }
+
+    /**
+     * Returns true if the whole of {@code value} matches the validation regex.
+     */
+    public boolean isValid(CharSequence value) {
+        requireNonNull(value);
+        return matchers.get().reset(value).matches();
+    }
+
+    @Override
+    public String toString() {
+        return pattern.pattern();
+    }
+
+}
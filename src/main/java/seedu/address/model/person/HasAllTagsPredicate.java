@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has all of the {@code Tag}s given, which every person does if none are given.
+ */
+public class HasAllTagsPredicate implements Predicate<Person> {
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a {@code HasAllTagsPredicate} that tests for all of {@code tags}.
+     */
+    public HasAllTagsPredicate(Set<Tag> tags) {
+        requireNonNull(tags);
+        this.tags = Set.copyOf(tags);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return tags.stream().allMatch(person::hasTag);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HasAllTagsPredicate)) {
+            return false;
+        }
+
+        HasAllTagsPredicate otherHasAllTagsPredicate = (HasAllTagsPredicate) other;
+        return tags.equals(otherHasAllTagsPredicate.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return tags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tags", tags).toString();
+    }
+}
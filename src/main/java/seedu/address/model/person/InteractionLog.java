@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.LruCache;
 
 /**
  * Represents a collection of log entries documenting interactions with a contact.
@@ -11,15 +15,27 @@ import java.util.Objects;
  * This class is immutable. Once constructed, the list of log entries cannot be modified directly.
  * To add a log entry, use {@code addLogEntry} which returns a new InteractionLog instance.
  * The internal list is never {@code null}.
+ *
+ * An InteractionLog can also be created with a loader that produces its entries on demand, so that the entries of
+ * contacts that are never looked at do not take up memory. Loaded entries are kept in a cache shared by all such
+ * logs, which only remembers the most recently used ones.
  */
 public class InteractionLog {
+
+    private static final int MAX_LOADED_LOGS = 256;
+    private static final LruCache<Supplier<List<LogEntry>>, List<LogEntry>> loadedLogs =
+            new LruCache<>(MAX_LOADED_LOGS);
+
+    // Exactly one of logs and loader is non-null.
     private final List<LogEntry> logs;
+    private final Supplier<List<LogEntry>> loader;
+    private final int size;
 
     /**
      * Creates an empty InteractionLog with no log entries.
      */
     public InteractionLog() {
-        this.logs = new ArrayList<>();
+        this(null);
     }
 
     /**
@@ -34,6 +50,44 @@ public class InteractionLog {
         } else {
             this.logs = new ArrayList<>(logs);
         }
+        this.loader = null;
+        this.size = this.logs.size();
+    }
+
+    private InteractionLog(int size, Supplier<List<LogEntry>> loader) {
+        this.logs = null;
+        this.loader = loader;
+        this.size = size;
+    }
+
+    /**
+     * Returns an InteractionLog of {@code size} entries that are produced by {@code loader} when first needed.
+     * {@code loader} may be called more than once, and must return the same entries, newest first, every time.
+     * Loaders that are equal must return equal entries, so that logs with equal loaders can be compared without
+     * loading them.
+     *
+     * @param size the number of entries {@code loader} returns
+     * @param loader produces the entries of the log; it must not be null
+     * @return an InteractionLog that loads its entries on demand
+     */
+    public static InteractionLog loadedOnDemand(int size, Supplier<List<LogEntry>> loader) {
+        requireNonNull(loader);
+        return size == 0 ? new InteractionLog() : new InteractionLog(size, loader);
+    }
+
+    /**
+     * Returns the log entries, loading them if necessary.
+     */
+    private List<LogEntry> entries() {
+        if (logs != null) {
+            return logs;
+        }
+        return loadedLogs.get(loader).orElseGet(() -> {
+            List<LogEntry> loaded = List.copyOf(loader.get());
+            assert loaded.size() == size : "Loader should return the number of entries it was created with";
+            loadedLogs.put(loader, loaded);
+            return loaded;
+        });
     }
 
     /**
@@ -43,7 +97,7 @@ public class InteractionLog {
      * @return an unmodifiable list of log entries
      */
     public List<LogEntry> getLogs() {
-        return Collections.unmodifiableList(logs);
+        return Collections.unmodifiableList(entries());
     }
 
     /**
@@ -59,7 +113,7 @@ public class InteractionLog {
 
         List<LogEntry> updatedLogs = new ArrayList<>();
         updatedLogs.add(entry); // Add new entry at the beginning
-        updatedLogs.addAll(logs); // Add existing entries after
+        updatedLogs.addAll(entries()); // Add existing entries after
         return new InteractionLog(updatedLogs);
     }
 
@@ -69,7 +123,7 @@ public class InteractionLog {
      * @return true if there are no log entries, false otherwise
      */
     public boolean isEmpty() {
-        return logs.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -78,7 +132,7 @@ public class InteractionLog {
      * @return the size of the log entries list
      */
     public int size() {
-        return logs.size();
+        return size;
     }
 
     /**
@@ -93,10 +147,11 @@ public class InteractionLog {
             return "No interaction logs";
         }
 
+        List<LogEntry> logEntries = entries();
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < logs.size(); i++) {
-            sb.append(logs.get(i).toString());
-            if (i < logs.size() - 1) {
+        for (int i = 0; i < logEntries.size(); i++) {
+            sb.append(logEntries.get(i).toString());
+            if (i < logEntries.size() - 1) {
                 sb.append("\n");
             }
         }
@@ -121,16 +176,23 @@ public class InteractionLog {
         }
 
         InteractionLog otherLog = (InteractionLog) other;
-        return logs.equals(otherLog.logs);
+        if (size != otherLog.size) {
+            return false;
+        }
+        if (loader != null && loader.equals(otherLog.loader)) {
+            return true;
+        }
+        return entries().equals(otherLog.entries());
     }
 
     /**
      * Computes the hash code for this InteractionLog.
+     * Only the number of entries is hashed, so that hashing a log does not load its entries.
      *
-     * @return the hash code derived from the list of log entries
+     * @return the hash code derived from the number of log entries
      */
     @Override
     public int hashCode() {
-        return Objects.hash(logs);
+        return Integer.hashCode(size);
     }
 }
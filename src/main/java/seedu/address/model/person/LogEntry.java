@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a single log entry documenting an interaction with a contact.
  *
@@ -14,6 +16,8 @@ import java.util.Objects;
 public class LogEntry {
     private static final DateTimeFormatter DISPLAY_FORMATTER =
             DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm");
+    /** Only a handful of interaction types are ever used, so equal type strings share a single instance. */
+    private static final Interner<String> TYPE_INTERNER = new Interner<>(256);
 
     private final String message;
     private final String type;
@@ -43,7 +47,7 @@ public class LogEntry {
         assert timestamp != null : "LogEntry timestamp should not be null";
 
         this.message = message;
-        this.type = type;
+        this.type = TYPE_INTERNER.intern(type);
         this.timestamp = timestamp;
     }
 
@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches all of the predicates given.
+ * Unlike {@link Predicate#and(Predicate)}, two of these are equal if their predicates are equal.
+ */
+public class MatchesAllPredicate implements Predicate<Person> {
+    private final List<Predicate<Person>> predicates;
+
+    /**
+     * Creates a {@code MatchesAllPredicate} that tests for all of {@code predicates}, in order.
+     */
+    public MatchesAllPredicate(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = List.copyOf(predicates);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicates.stream().allMatch(predicate -> predicate.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchesAllPredicate)) {
+            return false;
+        }
+
+        MatchesAllPredicate otherMatchesAllPredicate = (MatchesAllPredicate) other;
+        return predicates.equals(otherMatchesAllPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
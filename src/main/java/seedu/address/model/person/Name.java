@@ -18,6 +18,7 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[\\p{L}\\p{M}\\p{N}][\\p{L}\\p{M}\\p{N}'`’\\-\\.\\,\\s@()]*$";
+    public static final FieldValidator VALIDATOR = FieldValidator.of(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -36,7 +37,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
     }
 
 
@@ -2,9 +2,9 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -119,26 +119,17 @@ public class Person {
     }
 
     /**
-     * Retrieve all fields related to the person
-     * Each element of the ArrayList will be of the form "[FIELD_NAME]:[FIELD VALUE]"
-     * @return Field name and field details
+     * Returns a key that is equal for two persons exactly when {@link #isSamePerson(Person)} holds for them, so that
+     * persons can be checked for uniqueness with a hash set.
      */
-    public ArrayList<String> getFields() {
-        ArrayList<String> fieldList = new ArrayList<>();
-        fieldList.add("name:" + this.name);
-        fieldList.add("phone:" + this.phone);
-        fieldList.add("address:" + this.address);
-        fieldList.add("email:" + this.email);
-        fieldList.add("telegram:" + this.telegramHandle);
-        tags.forEach((Tag t) -> {
-            fieldList.add("tag:" + t);
-        });
-        fieldList.add("isPinned:" + this.isPinned);
-        logs.getLogs().forEach((LogEntry l) -> {
-            fieldList.add("log:" + l);
-        });
-        fieldList.add("note:" + this.note);
-        return fieldList;
+    List<String> getIdentityKey() {
+        // Folds each character the same way String#equalsIgnoreCase compares them.
+        String fullName = name.fullName;
+        StringBuilder foldedName = new StringBuilder(fullName.length());
+        for (int i = 0; i < fullName.length(); i++) {
+            foldedName.append(Character.toLowerCase(Character.toUpperCase(fullName.charAt(i))));
+        }
+        return List.of(foldedName.toString(), phone.value);
     }
 
     /**
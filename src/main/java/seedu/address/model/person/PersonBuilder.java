@@ -2,7 +2,9 @@ package seedu.address.model.person;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
@@ -26,7 +28,8 @@ public class PersonBuilder {
     private Set<Tag> tags = new HashSet<>();
     private Note note;
     private boolean isPinned;
-    private InteractionLog interactionLog;
+    // Log entries in the order they are set, newest first.
+    private List<LogEntry> logEntries;
 
     /**
      * Initializes a person builder
@@ -35,7 +38,7 @@ public class PersonBuilder {
         // initialize optional fields
         this.telegramHandle = new TelegramHandle("");
         // initialize collection of logs
-        this.interactionLog = new InteractionLog();
+        this.logEntries = new ArrayList<>();
     }
 
     public void setName(String name) {
@@ -59,7 +62,7 @@ public class PersonBuilder {
     }
 
     public void setTag(String tag) {
-        tags.add(new Tag(tag));
+        tags.add(Tag.of(tag));
     }
 
     public void setNote(String note) {
@@ -70,11 +73,13 @@ public class PersonBuilder {
         this.isPinned = isPinned.equals("true");
     }
 
-    // add log to log collection
+    /**
+     * Adds a log entry after the ones already set, so entries must be set newest first.
+     */
     public void setLog(String time, String type, String log) {
         DateTimeFormatter dateTimeFormatter =
                 DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm", Locale.ENGLISH);
-        this.interactionLog.addLogEntry(new LogEntry(log, type, LocalDateTime.parse(time, dateTimeFormatter)));
+        logEntries.add(new LogEntry(log, type, LocalDateTime.parse(time, dateTimeFormatter)));
     }
 
     /**
@@ -82,7 +87,8 @@ public class PersonBuilder {
      * @return person with specified parameters
      */
     public Person buildPerson() {
-        return new Person(name, phone, telegramHandle, email, address, tags, note, interactionLog, isPinned);
+        return new Person(name, phone, telegramHandle, email, address, tags, note, new InteractionLog(logEntries),
+                isPinned);
     }
 
     /**
@@ -107,7 +113,7 @@ public class PersonBuilder {
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
                 && tags.equals(otherPerson.tags)
-                && interactionLog.equals(otherPerson.interactionLog)
+                && logEntries.equals(otherPerson.logEntries)
                 && note.equals(otherPerson.note)
                 && isPinned == otherPerson.isPinned;
     }
@@ -115,7 +121,7 @@ public class PersonBuilder {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, telegramHandle, email, address, tags, note, interactionLog, isPinned);
+        return Objects.hash(name, phone, telegramHandle, email, address, tags, note, logEntries, isPinned);
     }
 
     @Override
@@ -128,7 +134,7 @@ public class PersonBuilder {
                 .add("address", address)
                 .add("tags", tags)
                 .add("isPinned", isPinned)
-                .add("log", interactionLog)
+                .add("log", logEntries)
                 .add("note", note)
                 .toString();
     }
@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps the version at which each person of an address book was last added, changed or removed, so that the changes
+ * after any version since tracking started can be found.
+ * <p>
+ * Persons are tracked by their identity key, so a person that is replaced by an equal copy, e.g. by an undo, is not
+ * changed. Only persons changed since tracking started are kept, and a removed person is kept as a tombstone until a
+ * person with the same identity is added again. Filling an empty address book, as when it is read from a file, only
+ * records the version at which it was filled.
+ */
+public class PersonChangeTracker {
+
+    private final long startVersion;
+    private final Map<List<String>, Long> changedVersions = new HashMap<>();
+    // In the order the persons were removed, which is also the order of their versions.
+    private final Map<List<String>, Tombstone> tombstones = new LinkedHashMap<>();
+    // Persons that are not in changedVersions were last changed at or before this version.
+    private long fillVersion;
+
+    /**
+     * Creates a {@code PersonChangeTracker} for an address book at {@code startVersion}.
+     */
+    public PersonChangeTracker(long startVersion) {
+        this.startVersion = startVersion;
+        this.fillVersion = startVersion;
+    }
+
+    /**
+     * Records that {@code person} was added, or replaced a person with the same identity, at {@code version}.
+     */
+    public void recordChanged(Person person, long version) {
+        requireNonNull(person);
+        List<String> identityKey = person.getIdentityKey();
+        changedVersions.put(identityKey, version);
+        tombstones.remove(identityKey);
+    }
+
+    /**
+     * Records that {@code person} was removed at {@code version}.
+     */
+    public void recordRemoved(Person person, long version) {
+        requireNonNull(person);
+        List<String> identityKey = person.getIdentityKey();
+        changedVersions.remove(identityKey);
+        tombstones.remove(identityKey);
+        tombstones.put(identityKey, new Tombstone(person, version));
+    }
+
+    /**
+     * Records that {@code oldPersons} were replaced by {@code newPersons} at {@code version}, which changes only the
+     * persons that are not in both lists as equal persons. Neither list may contain duplicate persons.
+     */
+    public void recordReplaced(List<Person> oldPersons, List<Person> newPersons, long version) {
+        requireNonNull(oldPersons);
+        requireNonNull(newPersons);
+
+        if (oldPersons.isEmpty() && tombstones.isEmpty()) {
+            // Nothing is known about the new persons, and no person was removed that one of them could bring back.
+            changedVersions.clear();
+            fillVersion = version;
+            return;
+        }
+
+        // Copies of an address book share their persons, so an undo usually differs from the current persons only in
+        // a few persons in the middle. The unchanged ends are skipped without computing any identity keys.
+        int start = 0;
+        int oldEnd = oldPersons.size();
+        int newEnd = newPersons.size();
+        while (start < oldEnd && start < newEnd && oldPersons.get(start) == newPersons.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && oldPersons.get(oldEnd - 1) == newPersons.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        Map<List<String>, Person> oldPersonsByIdentity = new HashMap<>(capacityFor(oldEnd - start));
+        for (Person person : oldPersons.subList(start, oldEnd)) {
+            oldPersonsByIdentity.put(person.getIdentityKey(), person);
+        }
+        for (Person person : newPersons.subList(start, newEnd)) {
+            Person oldPerson = oldPersonsByIdentity.remove(person.getIdentityKey());
+            if (oldPerson != person && !person.equals(oldPerson)) {
+                recordChanged(person, version);
+            }
+        }
+        for (Person removedPerson : oldPersonsByIdentity.values()) {
+            recordRemoved(removedPerson, version);
+        }
+    }
+
+    /**
+     * Returns the changes after {@code version}, or an empty {@code Optional} if {@code version} is from before
+     * tracking started, in which case the changes are not known.
+     */
+    public Optional<PersonChanges> getChangesSince(long version) {
+        if (version < startVersion) {
+            return Optional.empty();
+        }
+        if (fillVersion > version) {
+            return Optional.of(PersonChanges.everyPersonChanged(version, getRemovedPersonsSince(version)));
+        }
+
+        Set<List<String>> changedIdentityKeys = new HashSet<>();
+        changedVersions.forEach((identityKey, changedVersion) -> {
+            if (changedVersion > version) {
+                changedIdentityKeys.add(identityKey);
+            }
+        });
+        return Optional.of(new PersonChanges(version, changedIdentityKeys, getRemovedPersonsSince(version)));
+    }
+
+    private List<Person> getRemovedPersonsSince(long version) {
+        List<Person> removedPersons = new ArrayList<>();
+        for (Tombstone tombstone : tombstones.values()) {
+            if (tombstone.version > version) {
+                removedPersons.add(tombstone.person);
+            }
+        }
+        return removedPersons;
+    }
+
+    /**
+     * Returns the capacity of a hash map that holds {@code size} entries without being resized.
+     */
+    private static int capacityFor(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) size * 4 / 3 + 1);
+    }
+
+    /**
+     * A removed person, and the version at which it was removed.
+     */
+    private static class Tombstone {
+        private final Person person;
+        private final long version;
+
+        Tombstone(Person person, long version) {
+            this.person = person;
+            this.version = version;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The persons of an address book that were added, changed or removed after a given version.
+ */
+public class PersonChanges {
+
+    private final long sinceVersion;
+    private final boolean isEveryPersonChanged;
+    private final Set<List<String>> changedIdentityKeys;
+    private final List<Person> removedPersons;
+
+    /**
+     * Creates the changes in which only the persons with {@code changedIdentityKeys} were added or changed.
+     */
+    PersonChanges(long sinceVersion, Set<List<String>> changedIdentityKeys, List<Person> removedPersons) {
+        this(sinceVersion, false, changedIdentityKeys, removedPersons);
+    }
+
+    private PersonChanges(long sinceVersion, boolean isEveryPersonChanged, Set<List<String>> changedIdentityKeys,
+            List<Person> removedPersons) {
+        requireAllNonNull(changedIdentityKeys, removedPersons);
+        this.sinceVersion = sinceVersion;
+        this.isEveryPersonChanged = isEveryPersonChanged;
+        this.changedIdentityKeys = changedIdentityKeys;
+        this.removedPersons = Collections.unmodifiableList(removedPersons);
+    }
+
+    /**
+     * Returns the changes in which every person of the address book was added or changed.
+     */
+    static PersonChanges everyPersonChanged(long sinceVersion, List<Person> removedPersons) {
+        return new PersonChanges(sinceVersion, true, Collections.emptySet(), removedPersons);
+    }
+
+    public long getSinceVersion() {
+        return sinceVersion;
+    }
+
+    /**
+     * Returns true if {@code person}, a person of the address book, was added or changed after the version.
+     */
+    public boolean isChanged(Person person) {
+        return isEveryPersonChanged
+                || !changedIdentityKeys.isEmpty() && changedIdentityKeys.contains(person.getIdentityKey());
+    }
+
+    /**
+     * Returns the persons that were removed after the version and are no longer in the address book, in the order
+     * they were removed. Each is the person as it was just before it was removed.
+     */
+    public List<Person> getRemovedPersons() {
+        return removedPersons;
+    }
+
+}
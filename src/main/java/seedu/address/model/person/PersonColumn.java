@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a column of a person that can be exported, in the order the columns are written.
+ */
+public enum PersonColumn {
+    NAME("name"),
+    PHONE("phone"),
+    ADDRESS("address"),
+    EMAIL("email"),
+    TELEGRAM("telegram"),
+    TAG("tag"),
+    PINNED("pinned"),
+    LOG("log"),
+    NOTE("note");
+
+    public static final String MESSAGE_CONSTRAINTS = "Column should be one of ("
+            + Arrays.stream(values()).map(PersonColumn::toString).collect(Collectors.joining(", ")) + ")";
+
+    /** Every column, in the order they are written. */
+    public static final Set<PersonColumn> ALL = Collections.unmodifiableSet(EnumSet.allOf(PersonColumn.class));
+
+    private final String columnName;
+
+    PersonColumn(String columnName) {
+        this.columnName = columnName;
+    }
+
+    /**
+     * Returns the column called {@code columnName}, ignoring case, or null if there is none.
+     */
+    public static PersonColumn of(String columnName) {
+        requireNonNull(columnName);
+        for (PersonColumn column : values()) {
+            if (column.columnName.equalsIgnoreCase(columnName.trim())) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return columnName;
+    }
+}
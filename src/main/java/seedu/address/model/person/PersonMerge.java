@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of merging imported persons into an existing list of persons.
+ * <p>
+ * An imported person that is the same person as an existing one, by {@link Person#isSamePerson(Person)}, replaces it
+ * in place; any other imported person is added at the end. An imported person that is the same person as an earlier
+ * imported one but differs from it is a conflict, and is left out.
+ * <p>
+ * Persons are matched by their identity key in a hash map, so merging takes time linear in the number of persons.
+ */
+public class PersonMerge {
+
+    private final List<Person> persons;
+    private final int addedCount;
+    private final int updatedCount;
+    private final int unchangedCount;
+    private final List<Person> conflicts;
+
+    private PersonMerge(List<Person> persons, int addedCount, int updatedCount, int unchangedCount,
+            List<Person> conflicts) {
+        this.persons = persons;
+        this.addedCount = addedCount;
+        this.updatedCount = updatedCount;
+        this.unchangedCount = unchangedCount;
+        this.conflicts = conflicts;
+    }
+
+    /**
+     * Merges {@code imported} into {@code existing}, which must not contain duplicate persons.
+     */
+    public static PersonMerge of(List<Person> existing, List<Person> imported) {
+        requireNonNull(existing);
+        requireNonNull(imported);
+
+        Map<List<String>, Integer> existingIndexes = new HashMap<>(capacityFor(existing.size()));
+        for (int i = 0; i < existing.size(); i++) {
+            existingIndexes.put(existing.get(i).getIdentityKey(), i);
+        }
+
+        List<Person> persons = new ArrayList<>(existing.size() + imported.size());
+        persons.addAll(existing);
+        Map<List<String>, Person> importedPersons = new HashMap<>(capacityFor(imported.size()));
+        List<Person> conflicts = new ArrayList<>();
+        int addedCount = 0;
+        int updatedCount = 0;
+        int unchangedCount = 0;
+
+        for (Person person : imported) {
+            List<String> identityKey = person.getIdentityKey();
+            Person earlierImport = importedPersons.putIfAbsent(identityKey, person);
+            if (earlierImport != null) {
+                if (!earlierImport.equals(person)) {
+                    conflicts.add(person);
+                }
+                continue;
+            }
+
+            Integer existingIndex = existingIndexes.get(identityKey);
+            if (existingIndex == null) {
+                persons.add(person);
+                addedCount++;
+            } else if (persons.get(existingIndex).equals(person)) {
+                unchangedCount++;
+            } else {
+                persons.set(existingIndex, person);
+                updatedCount++;
+            }
+        }
+
+        return new PersonMerge(persons, addedCount, updatedCount, unchangedCount,
+                Collections.unmodifiableList(conflicts));
+    }
+
+    /**
+     * Returns the capacity of a hash map that holds {@code size} entries without being resized.
+     */
+    private static int capacityFor(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) size * 4 / 3 + 1);
+    }
+
+    /**
+     * Returns the merged persons, which contain no duplicate persons. The list must not be changed.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    /**
+     * Returns the imported persons that were left out because they conflict with an earlier imported person.
+     */
+    public List<Person> getConflicts() {
+        return conflicts;
+    }
+
+}
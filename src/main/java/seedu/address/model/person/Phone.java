@@ -14,6 +14,7 @@ public class Phone {
             "Phone numbers may be short codes or international numbers "
                     + "with an optional +, and may include digits, parentheses, dashes, or dots.";
     public static final String VALIDATION_REGEX = "^(?:\\d{3,4}|\\+?\\(?\\d[\\d()\\-\\.]{3,18}\\d)$";
+    public static final FieldValidator VALIDATOR = FieldValidator.of(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -31,7 +32,25 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.replaceAll("\\s+", "").matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(removeWhitespace(test));
+    }
+
+    /**
+     * Returns {@code test} without the whitespace characters matched by {@code \s}.
+     * Most phone numbers have none, and are returned without being copied.
+     */
+    private static CharSequence removeWhitespace(String test) {
+        StringBuilder stripped = null;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            boolean isWhitespace = c == ' ' || (c >= '\t' && c <= '\r');
+            if (isWhitespace && stripped == null) {
+                stripped = new StringBuilder(test.length()).append(test, 0, i);
+            } else if (!isWhitespace && stripped != null) {
+                stripped.append(c);
+            }
+        }
+        return stripped == null ? test : stripped;
     }
 
     @Override
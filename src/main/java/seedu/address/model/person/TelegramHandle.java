@@ -14,6 +14,7 @@ public class TelegramHandle {
             + "start with a letter, are you sure you entered it correctly?";
 
     public static final String VALIDATION_REGEX = "^@?[a-zA-Z][a-zA-Z0-9_]{4,31}$";
+    public static final FieldValidator VALIDATOR = FieldValidator.of(VALIDATION_REGEX);
     public final String value;
     public final boolean isValid;
 
@@ -38,7 +39,7 @@ public class TelegramHandle {
      * Returns true if a given string is a valid Telegram handle.
      */
     public static boolean isValidHandle(String test) {
-        return test.isEmpty() || test.matches(VALIDATION_REGEX);
+        return test.isEmpty() || VALIDATOR.isValid(test);
     }
 
     @Override
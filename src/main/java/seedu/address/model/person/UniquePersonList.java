@@ -3,11 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,13 +24,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations, and a {@link Batch} of them that is checked for duplicates and notified
+ * to listeners once.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Person> internalList = new BatchObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -97,6 +104,14 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.setAll(persons);
     }
 
+    /**
+     * Starts a batch of changes to this list, which are only made when {@link Batch#apply()} is called.
+     * The list must not be changed otherwise until then.
+     */
+    public Batch startBatch() {
+        return new Batch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -135,16 +150,128 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns true if {@code persons} contains only unique persons, ignoring nulls.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<List<String>> identityKeys = new HashSet<>();
+        for (Person person : persons) {
+            if (person != null && !identityKeys.add(person.getIdentityKey())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Changes to a {@code UniquePersonList} that are made together. The persons are checked for duplicates once, when
+     * the changes are applied, and listeners of the list are notified once of all the changes.
+     */
+    public class Batch {
+        // The persons as they will be, with null for removed persons. Added persons come after the existing ones.
+        private final List<Person> persons = new ArrayList<>(internalList);
+        private final int existingSize = persons.size();
+        // Built when first needed, as commands usually pass persons taken from the list itself.
+        private Map<Person, Integer> indexes;
+        private boolean mayHaveDuplicates;
+
+        private Batch() {}
+
+        /**
+         * Adds a person to the list.
+         * The person must not have the same identity as another person when the batch is applied.
+         */
+        public void add(Person toAdd) {
+            requireNonNull(toAdd);
+            persons.add(toAdd);
+            if (indexes != null) {
+                indexes.put(toAdd, persons.size() - 1);
+            }
+            mayHaveDuplicates = true;
+        }
+
+        /**
+         * Replaces the person {@code target} with {@code editedPerson}.
+         * {@code target} must be in the list with the changes so far.
+         * The person identity of {@code editedPerson} must not be the same as another person in the list when the
+         * batch is applied.
+         */
+        public void setPerson(Person target, Person editedPerson) {
+            requireAllNonNull(target, editedPerson);
+            int index = indexOf(target);
+            indexes.remove(persons.set(index, editedPerson));
+            indexes.put(editedPerson, index);
+            mayHaveDuplicates |= !target.isSamePerson(editedPerson);
+        }
+
+        /**
+         * Removes the equivalent person from the list.
+         * The person must be in the list with the changes so far.
+         */
+        public void remove(Person toRemove) {
+            requireNonNull(toRemove);
+            int index = indexOf(toRemove);
+            indexes.remove(persons.set(index, null));
+        }
+
+        private int indexOf(Person person) {
+            if (indexes == null) {
+                indexes = new IdentityHashMap<>(persons.size() * 2);
+                for (int i = 0; i < persons.size(); i++) {
+                    if (persons.get(i) != null) {
+                        indexes.put(persons.get(i), i);
+                    }
+                }
+            }
+            Integer index = indexes.get(person);
+            if (index == null) {
+                // An equal person that is not the same object.
+                index = persons.indexOf(person);
+            }
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            return index;
+        }
+
+        /**
+         * Makes the changes to the list, as one change to its listeners.
+         * If the persons would then have duplicates, the list is left unchanged.
+         *
+         * @throws DuplicatePersonException if two persons would have the same identity.
+         */
+        public void apply() {
+            List<Person> added = new ArrayList<>();
+            for (Person person : persons.subList(existingSize, persons.size())) {
+                if (person != null) {
+                    added.add(person);
+                }
+            }
+            if (mayHaveDuplicates && !personsAreUnique(persons)) {
+                throw new DuplicatePersonException();
+            }
+
+            internalList.batch(() -> {
+                int listIndex = 0;
+                int i = 0;
+                while (i < existingSize) {
+                    if (persons.get(i) == null) {
+                        // Consecutive removed persons are removed in one step.
+                        int end = i;
+                        while (end < existingSize && persons.get(end) == null) {
+                            end++;
+                        }
+                        internalList.remove(listIndex, listIndex + end - i);
+                        i = end;
+                    } else {
+                        if (internalList.get(listIndex) != persons.get(i)) {
+                            internalList.set(listIndex, persons.get(i));
+                        }
+                        listIndex++;
+                        i++;
+                    }
+                }
+                internalList.addAll(added);
+            });
+        }
+    }
 }
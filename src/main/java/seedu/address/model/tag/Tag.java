@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.model.person.FieldValidator;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,6 +14,10 @@ public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    public static final FieldValidator VALIDATOR = FieldValidator.of(VALIDATION_REGEX);
+
+    /** Tags repeat across many contacts, so equal tags share a single instance. */
+    private static final Interner<Tag> TAG_INTERNER = new Interner<>(4096);
 
     public final String tagName;
 
@@ -25,11 +32,21 @@ public class Tag {
         this.tagName = tagName.toLowerCase();
     }
 
+    /**
+     * Returns the shared {@code Tag} instance for {@code tagName}.
+     * Prefer this over the constructor when creating tags in bulk, e.g. when loading data.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return TAG_INTERNER.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.isValid(test);
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -30,6 +31,14 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns a message for each record of the data file that could not be read, and so was left out of the address
+     * book, when the data file was last read. The data file is backed up before such records are saved over.
+     */
+    default List<String> getSkippedRecords() {
+        return List.of();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +51,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Completes any pending writes and releases resources held by this storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void close() throws IOException;
+
 }
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@link AddressBookStorage} on a background writer thread.
+ * <p>
+ * Callers hand over immutable address books (e.g. snapshots) and return immediately. If several saves arrive
+ * while a write is in progress, only the latest one is written once that write completes. A failed write is
+ * reported to the caller of the next {@link #save} or {@link #flush()}.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer;
+
+    // Guarded by this. pendingSave is non-null exactly when a write task is queued that has not taken it yet.
+    private PendingSave pendingSave;
+    private boolean isWriting;
+    private IOException failure;
+    private int coalescedSaveCount;
+
+    /**
+     * Creates an {@code AsyncAddressBookSaver} that writes to {@code storage}.
+     * The writer thread is started on demand and stops after being idle for a while.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "storage-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.writer = executor;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved to {@code filePath}, replacing any save that has not started yet.
+     * {@code addressBook} must not be modified afterwards.
+     *
+     * @throws IOException if an earlier save failed. {@code addressBook} is still scheduled to be saved.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isWriteQueued = pendingSave != null;
+        pendingSave = new PendingSave(addressBook, filePath);
+        if (isWriteQueued) {
+            coalescedSaveCount++;
+        } else {
+            writer.execute(this::writePendingSave);
+        }
+        throwFailure();
+    }
+
+    /**
+     * Waits until every scheduled save has been written.
+     *
+     * @throws IOException if the last save failed.
+     */
+    public synchronized void flush() throws IOException {
+        try {
+            awaitIdle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+        }
+        throwFailure();
+    }
+
+    /**
+     * Waits until every scheduled save has been written, without reporting failures.
+     */
+    synchronized void awaitIdle() throws InterruptedException {
+        while (pendingSave != null || isWriting) {
+            wait();
+        }
+    }
+
+    private void throwFailure() throws IOException {
+        IOException toThrow = failure;
+        failure = null;
+        if (toThrow != null) {
+            throw toThrow;
+        }
+    }
+
+    /**
+     * Writes the latest scheduled save. Runs on the writer thread.
+     */
+    private void writePendingSave() {
+        PendingSave save;
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = null;
+            isWriting = true;
+        }
+
+        IOException saveFailure = null;
+        try {
+            storage.saveAddressBook(save.addressBook, save.filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error saving data to " + save.filePath + ": " + ioe);
+            saveFailure = ioe;
+        } finally {
+            synchronized (this) {
+                isWriting = false;
+                if (saveFailure != null) {
+                    failure = saveFailure;
+                }
+                if (coalescedSaveCount > 0) {
+                    logger.fine(coalescedSaveCount + " saves superseded by later ones so far");
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * An address book to be saved, and where to save it.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+
+        PendingSave(ReadOnlyAddressBook addressBook, Path filePath) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+        }
+    }
+
+}
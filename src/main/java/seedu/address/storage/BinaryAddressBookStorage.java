@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file is read into memory in one go, and persons are only decoded when they are first accessed.
+ * JSON data files are still understood: a JSON file at the data file path is read as JSON, files whose name ends
+ * with {@code .json} are saved as JSON, and if the JSON file with the same name next to the data file (e.g.
+ * {@code addressbook.json} for {@code addressbook.bin}) was modified more recently, or the data file does not exist
+ * yet, the JSON file is read instead, so that existing data is carried over to the binary file on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for {@code filePath}.
+     *
+     * @param isCompact if true, data files that are saved as JSON are saved without indentation or line breaks.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isCompact) {
+        this.filePath = filePath;
+        this.jsonStorage = new JsonAddressBookStorage(filePath, isCompact);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path jsonFilePath = getJsonSibling(filePath);
+        if (!jsonFilePath.equals(filePath) && isNewer(jsonFilePath, filePath)) {
+            logger.info("JSON file " + jsonFilePath + " is newer than " + filePath + ", reading it instead.");
+            return jsonStorage.readAddressBook(jsonFilePath);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                return jsonStorage.readAddressBook(filePath);
+            }
+            logger.info("Binary file " + filePath + " found.");
+            return Optional.of(AddressBookSnapshot.of(MappedPersonList.open(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files whose name ends with {@code .json} are saved as JSON. Other files are written to a temporary file first
+     * and then moved over {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            BinaryAddressBookWriter.write(addressBook.getPersonList(), tempPath);
+            FileUtil.replaceAtomically(tempPath, filePath);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Every save is written to the file immediately, so there is nothing to complete.
+    }
+
+    private static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return MappedPersonList.isBinary(ByteBuffer.wrap(in.readNBytes(Integer.BYTES)));
+        }
+    }
+
+    /**
+     * Returns true if {@code file} was modified after {@code other}, or only {@code file} exists.
+     *
+     * @throws DataLoadingException if the modification times could not be read.
+     */
+    static boolean isNewer(Path file, Path other) throws DataLoadingException {
+        try {
+            return FileUtil.getNewerFile(other, file).equals(file) && !file.equals(other);
+        } catch (IOException ioe) {
+            logger.warning("Error reading the modification time of " + file + " or " + other + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Returns the path of the binary file that the data in the JSON file {@code filePath}, which may be
+     * gzip-compressed, is saved to when binary data files are turned on, e.g. {@code addressbook.bin} for
+     * {@code addressbook.json}. Returns {@code filePath} itself if it is not a JSON file.
+     */
+    static Path getBinarySibling(Path filePath) {
+        Path uncompressedFilePath = JsonAddressBookStorage.getUncompressedSibling(filePath);
+        if (!uncompressedFilePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION)) {
+            return filePath;
+        }
+        return FileUtil.replaceExtension(uncompressedFilePath, JSON_FILE_EXTENSION, FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the JSON file with the same name as {@code filePath}, in the same directory.
+     */
+    static Path getJsonSibling(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + JSON_FILE_EXTENSION);
+    }
+
+}
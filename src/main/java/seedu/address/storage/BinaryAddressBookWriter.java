@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in the binary snapshot format read by {@link MappedPersonList}.
+ * <p>
+ * All numbers are big-endian. The file starts with a fixed-size header, followed by these sections:
+ * <ol>
+ *     <li>string offsets: an {@code int} per string, relative to the start of the string data</li>
+ *     <li>string data: each distinct string once, as an {@code int} byte length followed by its UTF-8 bytes</li>
+ *     <li>persons: a fixed-size record of {@value #PERSON_RECORD_INTS} {@code int}s per person</li>
+ *     <li>tags: the string id of every tag, grouped by person</li>
+ *     <li>logs: columns of {@code long} epoch seconds, {@code int} nanoseconds, {@code int} message string ids and
+ *     {@code int} type string ids, grouped by person</li>
+ * </ol>
+ * The header holds the counts needed to locate each section and a CRC32 of everything after the header.
+ */
+class BinaryAddressBookWriter {
+
+    static final int MAGIC = 0x4C4E4B55;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+
+    /** Name, phone, telegram, email, address and note string ids, flags, first tag, tag count, first log, log count. */
+    static final int PERSON_RECORD_INTS = 11;
+    static final int PINNED_FLAG = 1;
+
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code persons} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(List<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        StringTable strings = new StringTable();
+        // Log entries may be loaded on demand, so each person's entries are only fetched once.
+        List<List<LogEntry>> logs = new ArrayList<>(persons.size());
+        int tagCount = 0;
+        int logCount = 0;
+        for (Person person : persons) {
+            List<LogEntry> personLogs = person.getLogs().getLogs();
+            logs.add(personLogs);
+            strings.add(person.getName().fullName);
+            strings.add(person.getPhone().value);
+            strings.add(person.getTelegramHandle().value);
+            strings.add(person.getEmail().value);
+            strings.add(person.getAddress().value);
+            strings.add(person.getNote().value);
+            for (Tag tag : person.getTags()) {
+                strings.add(tag.tagName);
+            }
+            for (LogEntry log : personLogs) {
+                strings.add(log.getMessage());
+                strings.add(log.getType());
+            }
+            tagCount += person.getTags().size();
+            logCount += personLogs.size();
+        }
+
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_BYTES);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), FILE_BUFFER_SIZE), crc));
+            strings.writeTo(out);
+            writePersons(persons, strings, out);
+            writeTags(persons, strings, out);
+            writeLogs(logs, strings, out);
+            out.flush();
+            long bodyLength = out.size() & 0xFFFFFFFFL;
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(persons.size())
+                    .putInt(strings.size())
+                    .putInt(tagCount)
+                    .putInt(logCount)
+                    .putLong(strings.getDataLength())
+                    .putLong(bodyLength)
+                    .putLong(crc.getValue());
+            header.rewind();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    private static void writePersons(List<Person> persons, StringTable strings, DataOutputStream out)
+            throws IOException {
+        int firstTag = 0;
+        int firstLog = 0;
+        for (Person person : persons) {
+            out.writeInt(strings.getId(person.getName().fullName));
+            out.writeInt(strings.getId(person.getPhone().value));
+            out.writeInt(strings.getId(person.getTelegramHandle().value));
+            out.writeInt(strings.getId(person.getEmail().value));
+            out.writeInt(strings.getId(person.getAddress().value));
+            out.writeInt(strings.getId(person.getNote().value));
+            out.writeInt(person.isPinned() ? PINNED_FLAG : 0);
+            out.writeInt(firstTag);
+            out.writeInt(person.getTags().size());
+            out.writeInt(firstLog);
+            out.writeInt(person.getLogs().size());
+            firstTag += person.getTags().size();
+            firstLog += person.getLogs().size();
+        }
+    }
+
+    private static void writeTags(List<Person> persons, StringTable strings, DataOutputStream out)
+            throws IOException {
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                out.writeInt(strings.getId(tag.tagName));
+            }
+        }
+    }
+
+    private static void writeLogs(List<List<LogEntry>> logs, StringTable strings, DataOutputStream out)
+            throws IOException {
+        for (List<LogEntry> personLogs : logs) {
+            for (LogEntry log : personLogs) {
+                out.writeLong(log.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+            }
+        }
+        for (List<LogEntry> personLogs : logs) {
+            for (LogEntry log : personLogs) {
+                out.writeInt(log.getTimestamp().getNano());
+            }
+        }
+        for (List<LogEntry> personLogs : logs) {
+            for (LogEntry log : personLogs) {
+                out.writeInt(strings.getId(log.getMessage()));
+            }
+        }
+        for (List<LogEntry> personLogs : logs) {
+            for (LogEntry log : personLogs) {
+                out.writeInt(strings.getId(log.getType()));
+            }
+        }
+    }
+
+    /**
+     * The distinct strings of an address book, numbered in the order they are first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<byte[]> encodedStrings = new ArrayList<>();
+        private long dataLength;
+
+        void add(String value) {
+            if (ids.putIfAbsent(value, ids.size()) == null) {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                encodedStrings.add(encoded);
+                dataLength += Integer.BYTES + encoded.length;
+            }
+        }
+
+        int getId(String value) {
+            return ids.get(value);
+        }
+
+        int size() {
+            return encodedStrings.size();
+        }
+
+        long getDataLength() {
+            return dataLength;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            int offset = 0;
+            for (byte[] encoded : encodedStrings) {
+                out.writeInt(offset);
+                offset += Integer.BYTES + encoded.length;
+            }
+            for (byte[] encoded : encodedStrings) {
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+        }
+    }
+
+}
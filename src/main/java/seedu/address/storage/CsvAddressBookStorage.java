@@ -4,14 +4,20 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressMonitor;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.CsvUtil;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
 
 /**
  * A class to access AddressBook data stored as a csv file on the hard disk.
@@ -42,11 +48,22 @@ public class CsvAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but reports the bytes of the file read so far to {@code monitor}.
+     *
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ProgressMonitor monitor)
+            throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(monitor);
 
         try {
             Optional<ReadOnlyAddressBook> csvAddressBook = CsvUtil.readCsvFile(
-                    filePath);
+                    filePath, monitor);
             return csvAddressBook;
         } catch (DataLoadingException e) {
             logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
@@ -54,6 +71,19 @@ public class CsvAddressBookStorage implements AddressBookStorage {
         }
     }
 
+    /**
+     * Reads the persons in {@code filePath} as they are, which may include duplicate persons, and reports the bytes
+     * of the file read so far to {@code monitor}.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    public Optional<List<Person>> readPersons(Path filePath, ProgressMonitor monitor) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(monitor);
+        return CsvUtil.readCsvPersons(filePath, monitor);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -72,4 +102,31 @@ public class CsvAddressBookStorage implements AddressBookStorage {
         CsvUtil.saveCsvFile(addressBook, filePath);
     }
 
+    /**
+     * Writes {@code persons} to {@link #getAddressBookFilePath()} as they are iterated, with only the fields in
+     * {@code columns}.
+     */
+    public void savePersons(Iterable<Person> persons, Set<PersonColumn> columns) throws IOException {
+        savePersons(persons, List.of(), columns);
+    }
+
+    /**
+     * Similar to {@link #savePersons(Iterable, Set)}, but also writes {@code removedPersons} after the persons, each
+     * as a record of its name and phone marked as deleted.
+     */
+    public void savePersons(Iterable<Person> persons, List<Person> removedPersons, Set<PersonColumn> columns)
+            throws IOException {
+        requireNonNull(persons);
+        requireNonNull(removedPersons);
+        requireNonNull(columns);
+
+        FileUtil.createIfMissing(filePath);
+        CsvUtil.writeCsvFile(persons, removedPersons, columns, filePath);
+    }
+
+    @Override
+    public void close() {
+        // Every save is written to the file immediately, so there is nothing to complete.
+    }
+
 }
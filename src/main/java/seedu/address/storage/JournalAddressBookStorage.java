@@ -0,0 +1,422 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.JsonAdaptedJournalRecord.Operation;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * <p>
+ * Each save compares the person list against the one last persisted and appends only the changed persons to
+ * {@code <data file>.journal}, as a single line that is forced to disk once. When the journal grows large, it is
+ * folded into a new snapshot on a background thread. Reading loads the snapshot and replays the journal on top.
+ * The snapshot records the sequence number of the last journal record it contains, so a compaction interrupted
+ * half way never applies a record twice.
+ * <p>
+ * The snapshot is an ordinary address book json file, but it only holds the saved data once the journal has been
+ * compacted, e.g. by {@link #close()}.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_CORRUPTED_JOURNAL = "Journal %s is corrupted.";
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String ROTATED_JOURNAL_SUFFIX = ".journal.1";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final long DEFAULT_MIN_COMPACTION_BYTES = 256 * 1024;
+    private static final int MIN_OPERATIONS_PER_RECORD = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final long minCompactionBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // What is on disk after the last successful read or save; persistedPersons is never modified.
+    private Path persistedFilePath;
+    private List<Person> persistedPersons;
+    private long sequence;
+    private long journalBytes;
+    private volatile long snapshotBytes;
+    private boolean needsSnapshot;
+    private Future<?> pendingCompaction = CompletableFuture.completedFuture(null);
+
+    public JournalAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_MIN_COMPACTION_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts the journal once it holds at least
+     * {@code minCompactionBytes}, or half the size of the snapshot if that is larger.
+     */
+    JournalAddressBookStorage(Path filePath, boolean isCompact, long minCompactionBytes) {
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.minCompactionBytes = minCompactionBytes;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The snapshot at {@code filePath} is read first, then any journal records that it does not contain yet.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            AddressBook addressBook = JsonAddressBookStreamReader.read(filePath);
+            long snapshotSequence = JsonAddressBookStreamReader.readJournalSequence(filePath);
+            List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+
+            Path journalPath = getJournalPath(filePath);
+            Path rotatedJournalPath = getRotatedJournalPath(filePath);
+            needsSnapshot = Files.exists(rotatedJournalPath);
+            long replayedSequence = replay(rotatedJournalPath, persons, snapshotSequence);
+            replayedSequence = replay(journalPath, persons, replayedSequence);
+            if (replayedSequence != snapshotSequence) {
+                addressBook = new AddressBook();
+                addressBook.setPersons(persons);
+                logger.info("Replayed journal of " + filePath + " from record " + snapshotSequence
+                        + " to " + replayedSequence);
+            }
+
+            persistedFilePath = filePath;
+            persistedPersons = persons;
+            sequence = replayedSequence;
+            journalBytes = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+            snapshotBytes = Files.size(filePath);
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Appends the changes since the last read or save of {@code filePath} to its journal, or writes a new
+     * snapshot if there is nothing to append to or too much has changed.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (pendingCompaction.isDone()) {
+            awaitCompaction();
+        }
+        if (needsSnapshot || persistedPersons == null || !filePath.equals(persistedFilePath)) {
+            writeSnapshot(persons, filePath);
+            return;
+        }
+
+        List<Operation> operations = diff(persistedPersons, persons);
+        if (operations.isEmpty()) {
+            return;
+        }
+        if (operations.size() > MIN_OPERATIONS_PER_RECORD + persons.size() / 4) {
+            writeSnapshot(persons, filePath);
+            return;
+        }
+
+        try {
+            appendRecord(new JsonAdaptedJournalRecord(sequence + 1, persons.size(), operations), filePath);
+        } catch (IOException ioe) {
+            needsSnapshot = true;
+            throw ioe;
+        }
+        sequence++;
+        persistedPersons = persons;
+
+        if (journalBytes >= Math.max(minCompactionBytes, snapshotBytes / 2) && pendingCompaction.isDone()) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Waits for any running compaction, then folds the journal into the snapshot and stops the background thread.
+     * This storage must not be used after it is closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            awaitCompaction();
+            if (persistedPersons != null && (journalBytes > 0 || needsSnapshot)) {
+                writeSnapshot(persistedPersons, persistedFilePath);
+            }
+        } finally {
+            compactor.shutdown();
+        }
+    }
+
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    static Path getRotatedJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ROTATED_JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Applies the records in {@code journalPath} with sequence numbers after {@code sequence} to {@code persons}.
+     * An unreadable last line is the remains of an interrupted append and is ignored.
+     *
+     * @return the sequence number of the last record applied, or {@code sequence} if none was.
+     */
+    private long replay(Path journalPath, List<Person> persons, long sequence)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return sequence;
+        }
+
+        boolean hasIncompleteRecord = false;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (hasIncompleteRecord) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_JOURNAL, journalPath));
+                }
+
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (JsonProcessingException e) {
+                    hasIncompleteRecord = true;
+                    continue;
+                }
+                if (record.getSequence() > sequence) {
+                    record.applyTo(persons);
+                    sequence = record.getSequence();
+                }
+            }
+        }
+
+        if (hasIncompleteRecord || !endsWithNewline(journalPath)) {
+            logger.warning("Ignoring incomplete last record in " + journalPath);
+            needsSnapshot = true;
+        }
+        return sequence;
+    }
+
+    private static boolean endsWithNewline(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, channel.size() - 1);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    /**
+     * Returns the operations that turn {@code oldPersons} into {@code newPersons}.
+     * Persons are immutable, so a person is unchanged exactly when it is the same instance. Only the range between
+     * the longest common prefix and suffix is compared, which covers the single add, edit or delete of a command.
+     */
+    private static List<Operation> diff(List<Person> oldPersons, List<Person> newPersons) {
+        int maxCommon = Math.min(oldPersons.size(), newPersons.size());
+        int prefix = 0;
+        while (prefix < maxCommon && oldPersons.get(prefix) == newPersons.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix && oldPersons.get(oldPersons.size() - 1 - suffix)
+                == newPersons.get(newPersons.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int oldEnd = oldPersons.size() - suffix;
+        int newEnd = newPersons.size() - suffix;
+        List<Operation> operations = new ArrayList<>();
+        int index = prefix;
+        for (; index < oldEnd && index < newEnd; index++) {
+            if (oldPersons.get(index) != newPersons.get(index)) {
+                operations.add(Operation.set(index, newPersons.get(index)));
+            }
+        }
+        for (int i = index; i < oldEnd; i++) {
+            operations.add(Operation.remove(index));
+        }
+        for (; index < newEnd; index++) {
+            operations.add(Operation.add(index, newPersons.get(index)));
+        }
+        return operations;
+    }
+
+    /**
+     * Appends {@code record} to the journal of {@code filePath} as one line and forces it to disk.
+     */
+    private void appendRecord(JsonAdaptedJournalRecord record, Path filePath) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(buffer, true)) {
+            JsonUtil.writeValue(generator, record);
+            generator.writeRaw('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(getJournalPath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+        journalBytes += buffer.size();
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with {@code persons} and discards its journal.
+     */
+    private void writeSnapshot(List<Person> persons, Path filePath) throws IOException {
+        awaitCompaction();
+        needsSnapshot = true;
+        if (!filePath.equals(persistedFilePath)) {
+            // Any journal next to a file this storage has not read belongs to data that is being overwritten.
+            deleteJournals(filePath);
+        }
+
+        long snapshotSequence = sequence + 1;
+        writeSnapshotFile(persons, filePath, snapshotSequence);
+        deleteJournals(filePath);
+
+        persistedFilePath = filePath;
+        persistedPersons = persons;
+        sequence = snapshotSequence;
+        journalBytes = 0;
+        needsSnapshot = false;
+    }
+
+    /**
+     * Moves the journal aside and writes the persisted persons as a new snapshot on the background thread.
+     * Saves made in the meantime go to a new journal.
+     */
+    private void startCompaction() {
+        Path snapshotPath = persistedFilePath;
+        Path rotatedJournalPath = getRotatedJournalPath(snapshotPath);
+        try {
+            Files.move(getJournalPath(snapshotPath), rotatedJournalPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioe) {
+            logger.warning("Could not rotate journal of " + snapshotPath + ": " + ioe);
+            return;
+        }
+        journalBytes = 0;
+
+        List<Person> snapshotPersons = persistedPersons;
+        long snapshotSequence = sequence;
+        pendingCompaction = compactor.submit(() -> {
+            writeSnapshotFile(snapshotPersons, snapshotPath, snapshotSequence);
+            Files.delete(rotatedJournalPath);
+            logger.info("Compacted journal of " + snapshotPath + " up to record " + snapshotSequence);
+            return null;
+        });
+    }
+
+    /**
+     * Waits for the running compaction, if any. If it failed, the next save writes a full snapshot instead.
+     */
+    private void awaitCompaction() throws IOException {
+        try {
+            pendingCompaction.get();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+            needsSnapshot = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for journal compaction");
+        }
+        pendingCompaction = CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Writes {@code persons} to a temporary file, forces it to disk, then moves it over {@code filePath}.
+     */
+    private void writeSnapshotFile(List<Person> persons, Path filePath, long snapshotSequence) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        JsonAddressBookStreamWriter.write(persons, tempPath, isCompact, OptionalLong.of(snapshotSequence));
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        FileUtil.replaceAtomically(tempPath, filePath);
+        snapshotBytes = Files.size(filePath);
+    }
+
+    private static void deleteJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getRotatedJournalPath(filePath));
+    }
+
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one group of changes appended to an address book journal by a single save.
+ * Applying the operations in order to the person list left by the previous record gives a list of {@code size}
+ * persons.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_RECORD_MISMATCH = "Journal record %d does not match the data file.";
+
+    private final long seq;
+    private final int size;
+    private final List<Operation> ops = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("seq") long seq, @JsonProperty("size") int size,
+            @JsonProperty("ops") List<Operation> ops) {
+        this.seq = seq;
+        this.size = size;
+        if (ops != null) {
+            this.ops.addAll(ops);
+        }
+    }
+
+    public long getSequence() {
+        return seq;
+    }
+
+    /**
+     * Applies the operations of this record to {@code persons}, in order.
+     *
+     * @throws IllegalValueException if an operation does not fit {@code persons}, or a person is invalid.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        requireNonNull(persons);
+        for (Operation operation : ops) {
+            operation.applyTo(persons, seq);
+        }
+        if (persons.size() != size) {
+            throw new IllegalValueException(String.format(MESSAGE_RECORD_MISMATCH, seq));
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a single change to the person list at a position.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class Operation {
+
+        private static final String ADD = "add";
+        private static final String SET = "set";
+        private static final String REMOVE = "remove";
+
+        private final String op;
+        private final int index;
+        private final JsonAdaptedPerson person;
+
+        /**
+         * Constructs an {@code Operation} with the given details.
+         */
+        @JsonCreator
+        public Operation(@JsonProperty("op") String op, @JsonProperty("index") int index,
+                @JsonProperty("person") JsonAdaptedPerson person) {
+            this.op = op;
+            this.index = index;
+            this.person = person;
+        }
+
+        /**
+         * Returns an operation that inserts {@code person} at {@code index}.
+         */
+        static Operation add(int index, Person person) {
+            return new Operation(ADD, index, new JsonAdaptedPerson(person));
+        }
+
+        /**
+         * Returns an operation that replaces the person at {@code index} with {@code person}.
+         */
+        static Operation set(int index, Person person) {
+            return new Operation(SET, index, new JsonAdaptedPerson(person));
+        }
+
+        /**
+         * Returns an operation that removes the person at {@code index}.
+         */
+        static Operation remove(int index) {
+            return new Operation(REMOVE, index, null);
+        }
+
+        private void applyTo(List<Person> persons, long seq) throws IllegalValueException {
+            boolean isExistingIndex = index >= 0 && index < persons.size();
+            if (ADD.equals(op) && index >= 0 && index <= persons.size() && person != null) {
+                persons.add(index, person.toModelType());
+            } else if (SET.equals(op) && isExistingIndex && person != null) {
+                persons.set(index, person.toModelType());
+            } else if (REMOVE.equals(op) && isExistingIndex) {
+                persons.remove(index);
+            } else {
+                throw new IllegalValueException(String.format(MESSAGE_RECORD_MISMATCH, seq));
+            }
+        }
+    }
+
+}
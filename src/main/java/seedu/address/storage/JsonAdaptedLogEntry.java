@@ -44,6 +44,22 @@ public class JsonAdaptedLogEntry {
      * @throws IllegalValueException if there were any data constraints violated in the adapted log entry.
      */
     public LogEntry toModelType() throws IllegalValueException {
+        return new LogEntry(message, type, toModelTimestamp());
+    }
+
+    /**
+     * Adds this log entry to {@code logs}, without creating the model's {@code LogEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted log entry.
+     */
+    public void packInto(PackedLogEntries.Builder logs) throws IllegalValueException {
+        logs.add(toModelTimestamp(), message, type);
+    }
+
+    /**
+     * Checks that all fields are present, and returns the parsed timestamp.
+     */
+    private LocalDateTime toModelTimestamp() throws IllegalValueException {
         if (message == null) {
             throw new IllegalValueException("Log entry message cannot be null");
         }
@@ -56,13 +72,10 @@ public class JsonAdaptedLogEntry {
             throw new IllegalValueException("Log entry timestamp cannot be null");
         }
 
-        LocalDateTime parsedTimestamp;
         try {
-            parsedTimestamp = LocalDateTime.parse(timestamp);
+            return LocalDateTime.parse(timestamp);
         } catch (DateTimeParseException e) {
             throw new IllegalValueException("Invalid timestamp format: " + timestamp);
         }
-
-        return new LogEntry(message, type, parsedTimestamp);
     }
 }
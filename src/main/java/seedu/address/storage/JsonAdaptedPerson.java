@@ -13,7 +13,6 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.InteractionLog;
-import seedu.address.model.person.LogEntry;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Person;
@@ -141,11 +140,13 @@ class JsonAdaptedPerson {
         }
         final Note modelNote = new Note(note);
 
-        final List<LogEntry> logEntries = new ArrayList<>();
+        // Log entries are kept packed until they are needed, as most are never looked at. This saves memory only:
+        // they are still parsed and checked here, so loading takes longer the more entries there are.
+        final PackedLogEntries.Builder packedLogs = new PackedLogEntries.Builder();
         for (JsonAdaptedLogEntry log : logs) {
-            logEntries.add(log.toModelType());
+            log.packInto(packedLogs);
         }
-        final InteractionLog modelLogs = new InteractionLog(logEntries);
+        final InteractionLog modelLogs = packedLogs.build();
 
         return new Person(modelName, modelPhone, modelTelegramHandle,
                 modelEmail, modelAddress, modelTags, modelNote, modelLogs, isPinned);
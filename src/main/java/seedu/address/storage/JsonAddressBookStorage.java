@@ -3,28 +3,63 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressMonitor;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Files whose name ends with {@code .gz} are gzip-compressed. If the uncompressed file with the same name (e.g.
+ * {@code addressbook.json} for {@code addressbook.json.gz}) was modified more recently, or the compressed file does
+ * not exist yet, the uncompressed file is read instead, so that existing data is carried over to the compressed file
+ * on the next save. Likewise, a more recently modified compressed file is read in place of an uncompressed one, and
+ * a more recently modified binary file (e.g. {@code addressbook.bin}) or log-structured data directory (e.g.
+ * {@code addressbook}) in place of the data file, so that no changes are lost when compression, binary or
+ * log-structured data files are turned off again.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
     private Path filePath;
+    private final boolean isCompact;
+
+    // Digest of the content last written by this storage, used to skip rewriting identical content.
+    private Path lastSavedFilePath;
+    private byte[] lastSavedDigest;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath}.
+     *
+     * @param isCompact if true, the data file is saved without indentation or line breaks.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -43,16 +78,47 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
+        return readAddressBook(filePath, ProgressMonitor.NONE);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but reports the bytes of the file read so far to {@code monitor}.
+     *
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ProgressMonitor monitor)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(monitor);
+
+        Path newerFilePath = getNewerCompressionSibling(filePath);
+        Path binaryFilePath = BinaryAddressBookStorage.getBinarySibling(filePath);
+        if (filePath.equals(this.filePath) && BinaryAddressBookStorage.isNewer(binaryFilePath, newerFilePath)) {
+            // The data was last saved while binary data files were turned on.
+            logger.info("Binary file " + binaryFilePath + " is newer than " + filePath + ", reading it instead.");
+            return new BinaryAddressBookStorage(binaryFilePath, isCompact).readAddressBook();
+        }
+        Path storeDirectory = LogStructuredAddressBookStorage.getStoreSibling(filePath);
+        if (filePath.equals(this.filePath) && !storeDirectory.equals(filePath)
+                && isStoreNewer(storeDirectory, newerFilePath)) {
+            // The data was last saved while log-structured data files were turned on.
+            logger.info("Data directory " + storeDirectory + " is newer than " + filePath + ", reading it instead.");
+            return LogStructuredAddressBookStorage.readStore(storeDirectory, isCompact);
+        }
+        if (!newerFilePath.equals(filePath)) {
+            logger.info("JSON file " + newerFilePath + " is newer than " + filePath + ", reading it instead.");
+            return readAddressBook(newerFilePath, monitor);
+        }
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookStreamReader.read(filePath, monitor));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +132,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is written to a temporary file first and then moved over {@code filePath}, unless it is identical
+     * to what this storage last wrote there, in which case the data file is left untouched.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +141,101 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        MessageDigest digest = createDigest();
+        try {
+            // The digest is of the uncompressed content, which is what decides if the data changed.
+            JsonAddressBookStreamWriter.write(addressBook, new DigestOutputStream(
+                    FileUtil.newOutputStream(tempPath, FileUtil.isGzipFile(filePath)), digest), isCompact);
+            byte[] contentDigest = digest.digest();
+            if (filePath.equals(lastSavedFilePath) && Arrays.equals(contentDigest, lastSavedDigest)
+                    && Files.exists(filePath)) {
+                logger.fine("Content unchanged, skipped replacing " + filePath);
+                return;
+            }
+            FileUtil.replaceAtomically(tempPath, filePath);
+            lastSavedFilePath = filePath;
+            lastSavedDigest = contentDigest;
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@link #getAddressBookFilePath()} as they are iterated, with only the fields in
+     * {@code columns}. Unlike {@link #saveAddressBook(ReadOnlyAddressBook)}, the file is written in place, as it
+     * is an export rather than the data file.
+     */
+    public void savePersons(Iterable<Person> persons, Set<PersonColumn> columns) throws IOException {
+        savePersons(persons, List.of(), columns);
+    }
+
+    /**
+     * Similar to {@link #savePersons(Iterable, Set)}, but also writes {@code removedPersons} as a list of deleted
+     * persons, each with only its name and phone.
+     */
+    public void savePersons(Iterable<Person> persons, List<Person> removedPersons, Set<PersonColumn> columns)
+            throws IOException {
+        requireNonNull(persons);
+        requireNonNull(removedPersons);
+        requireNonNull(columns);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonAddressBookStreamWriter.write(persons, removedPersons, columns, FileUtil.newOutputStream(filePath),
+                isCompact);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Returns whichever of {@code filePath} and its compressed or uncompressed sibling was modified last, so that
+     * the changes saved while compression was turned on are not lost when it is turned off again, and vice versa.
+     *
+     * @throws DataLoadingException if the modification times could not be read.
+     */
+    static Path getNewerCompressionSibling(Path filePath) throws DataLoadingException {
+        Path sibling = FileUtil.isGzipFile(filePath) ? getUncompressedSibling(filePath) : FileUtil.toGzipFile(filePath);
+        try {
+            return FileUtil.getNewerFile(filePath, sibling);
+        } catch (IOException ioe) {
+            logger.warning("Error reading the modification time of " + filePath + " or " + sibling + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    private static boolean isStoreNewer(Path directory, Path filePath) throws DataLoadingException {
+        try {
+            return LogStructuredAddressBookStorage.isStoreNewer(directory, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading the modification time of " + directory + " or " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Returns the path of {@code filePath} without its {@code .gz} extension, or {@code filePath} itself if it is not
+     * a gzip file.
+     */
+    static Path getUncompressedSibling(Path filePath) {
+        if (!FileUtil.isGzipFile(filePath)) {
+            return filePath;
+        }
+        String fileName = filePath.getFileName().toString();
+        return filePath.resolveSibling(
+                fileName.substring(0, fileName.length() - FileUtil.GZIP_FILE_EXTENSION.length()));
+    }
+
+    @Override
+    public void close() {
+        // Every save is written to the file immediately, so there is nothing to complete.
     }
 
 }
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book JSON file one person at a time.
+ * Accepts the same documents as {@link JsonSerializableAddressBook}, but only holds the
+ * {@code JsonAdaptedPerson}s that are waiting to be converted in memory, so loading does not
+ * need a copy of the whole file or of its intermediate object tree.
+ */
+class JsonAddressBookStreamReader {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookStreamReader() {}
+
+    /**
+     * Reads the address book stored at {@code filePath}.
+     * Unknown fields are ignored, as with the rest of {@link JsonUtil}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if a person violates data constraints or is duplicated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but reports the bytes of the file read so far to {@code monitor}.
+     *
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    static AddressBook read(Path filePath, ProgressMonitor monitor) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(monitor);
+
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        try (JsonParser parser = JsonUtil.createParser(filePath, monitor)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    readPersons(parser, converter);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of address book object");
+            }
+        } catch (IOException e) {
+            // A person found to be invalid before the unreadable part of the file is reported instead.
+            converter.awaitPending();
+            throw e;
+        }
+        return converter.toAddressBook();
+    }
+
+    /**
+     * Returns the journal sequence number recorded at the start of the address book stored at {@code filePath},
+     * or 0 if the file was not written with one.
+     * Only the beginning of the file is read.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     */
+    static long readJournalSequence(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            if (parser.nextToken() == JsonToken.FIELD_NAME
+                    && JsonAddressBookStreamWriter.JOURNAL_SEQUENCE_FIELD.equals(parser.getCurrentName())
+                    && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getLongValue();
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Decodes each element of the {@code persons} array into {@code converter}.
+     * The parser must be positioned at the array's {@code START_ARRAY} token.
+     */
+    private static void readPersons(JsonParser parser, ParallelPersonConverter converter)
+            throws IOException, IllegalValueException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            converter.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Expected a person object");
+        }
+    }
+
+}
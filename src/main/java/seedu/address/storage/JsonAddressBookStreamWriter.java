@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book JSON file one person at a time.
+ * Produces the same document as serializing a {@link JsonSerializableAddressBook}, but converts each
+ * {@code Person} only as it is written, so saving does not build the whole document in memory first.
+ */
+class JsonAddressBookStreamWriter {
+
+    static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String DELETED_FIELD = "deleted";
+
+    private JsonAddressBookStreamWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @param isCompact if true, writes the JSON without indentation or line breaks.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(addressBook);
+        write(addressBook.getPersonList(), filePath, isCompact, OptionalLong.empty());
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, Path, boolean)}, but writes to {@code outputStream},
+     * which is closed afterwards.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream outputStream, boolean isCompact)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(outputStream);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(outputStream, isCompact)) {
+            write(addressBook.getPersonList(), generator, OptionalLong.empty());
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath} as an address book, overwriting the file if it exists.
+     * If {@code journalSequence} is present, it is written as the first field of the document so that
+     * {@link JsonAddressBookStreamReader#readJournalSequence(Path)} can find it without reading the persons.
+     *
+     * @param isCompact if true, writes the JSON without indentation or line breaks.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(List<Person> persons, Path filePath, boolean isCompact, OptionalLong journalSequence)
+            throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+        requireNonNull(journalSequence);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isCompact)) {
+            write(persons, generator, journalSequence);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code outputStream} as an address book, with only the fields in {@code columns}.
+     * Each person is converted and written as it is taken from {@code persons}, and {@code outputStream} is
+     * closed afterwards. If {@code columns} has every column, the document is the same as a saved address book.
+     * <p>
+     * If there are {@code removedPersons}, they are written after the persons as a list of deleted persons, each with
+     * only its name and phone, which identify it.
+     *
+     * @param isCompact if true, writes the JSON without indentation or line breaks.
+     * @throws IOException if there was an error writing to the stream.
+     */
+    static void write(Iterable<Person> persons, List<Person> removedPersons, Set<PersonColumn> columns,
+            OutputStream outputStream, boolean isCompact) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(removedPersons);
+        requireNonNull(columns);
+        requireNonNull(outputStream);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(outputStream, isCompact)) {
+            generator.writeStartObject();
+            generator.writeFieldName(PERSONS_FIELD);
+            generator.writeStartArray();
+            for (Person person : persons) {
+                writePerson(generator, person, columns);
+            }
+            generator.writeEndArray();
+            if (!removedPersons.isEmpty()) {
+                generator.writeArrayFieldStart(DELETED_FIELD);
+                for (Person person : removedPersons) {
+                    writeProjectedPerson(generator, person, EnumSet.of(PersonColumn.NAME, PersonColumn.PHONE));
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+    }
+
+    private static void write(List<Person> persons, JsonGenerator generator, OptionalLong journalSequence)
+            throws IOException {
+        generator.writeStartObject();
+        if (journalSequence.isPresent()) {
+            generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence.getAsLong());
+        }
+        generator.writeFieldName(PERSONS_FIELD);
+        generator.writeStartArray();
+        for (Person person : persons) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Writes {@code person} as a JSON object with only the fields in {@code columns}, which is the same object as a
+     * {@link JsonAdaptedPerson} if {@code columns} has every column.
+     */
+    static void writePerson(JsonGenerator generator, Person person, Set<PersonColumn> columns) throws IOException {
+        if (columns.containsAll(PersonColumn.ALL)) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        } else {
+            writeProjectedPerson(generator, person, columns);
+        }
+    }
+
+    /**
+     * Writes the fields of {@code person} in {@code columns}, named and ordered as in {@link JsonAdaptedPerson}.
+     */
+    private static void writeProjectedPerson(JsonGenerator generator, Person person, Set<PersonColumn> columns)
+            throws IOException {
+        generator.writeStartObject();
+        if (columns.contains(PersonColumn.NAME)) {
+            generator.writeStringField("name", person.getName().fullName);
+        }
+        if (columns.contains(PersonColumn.PHONE)) {
+            generator.writeStringField("phone", person.getPhone().value);
+        }
+        if (columns.contains(PersonColumn.TELEGRAM)) {
+            generator.writeStringField("telegram", person.getTelegramHandle().value);
+        }
+        if (columns.contains(PersonColumn.EMAIL)) {
+            generator.writeStringField("email", person.getEmail().value);
+        }
+        if (columns.contains(PersonColumn.ADDRESS)) {
+            generator.writeStringField("address", person.getAddress().value);
+        }
+        if (columns.contains(PersonColumn.TAG)) {
+            generator.writeArrayFieldStart("tags");
+            for (Tag tag : person.getTags()) {
+                generator.writeString(tag.tagName);
+            }
+            generator.writeEndArray();
+        }
+        if (columns.contains(PersonColumn.NOTE)) {
+            generator.writeStringField("note", person.getNote().value);
+        }
+        if (columns.contains(PersonColumn.LOG)) {
+            generator.writeArrayFieldStart("logs");
+            for (LogEntry log : person.getLogs().getLogs()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedLogEntry(log));
+            }
+            generator.writeEndArray();
+        }
+        if (columns.contains(PersonColumn.PINNED)) {
+            generator.writeBooleanField("isPinned", person.isPinned());
+        }
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,279 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
+import seedu.address.model.person.PersonMerge;
+
+/**
+ * A class to access AddressBook data stored as a JSON Lines file on the hard disk, with one person per line in the
+ * same form as in a JSON data file.
+ * <p>
+ * Unlike a JSON data file, a line that cannot be read does not stop the rest of the file from being read: it is
+ * skipped and logged, as is a line with a different person with the same identity as an earlier line.
+ * If lines of the data file were skipped, the data file is backed up before it is first saved over, so that they
+ * can still be recovered.
+ * As with JSON data files, whichever of the data file and its compressed or uncompressed sibling was modified last
+ * is read.
+ * Files whose name ends with {@code .json}, such as an imported JSON file, are read and saved as JSON.
+ */
+public class JsonLinesAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".jsonl";
+
+    static final String MESSAGE_DUPLICATE_PERSON = "Skipped %1$s (%2$s), as an earlier line has a different "
+            + "person with the same name and phone number";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonLinesAddressBookStorage.class);
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String DELETED_FIELD = "deleted";
+    private static final int MAX_SKIPPED_LINES_LOGGED = 20;
+
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+
+    // The lines of the data file skipped when it was last read, and whether to back it up before saving over it.
+    private volatile List<String> skippedRecords = List.of();
+    private volatile boolean isBackupNeeded;
+
+    /**
+     * Creates a {@code JsonLinesAddressBookStorage} for {@code filePath}.
+     */
+    public JsonLinesAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.jsonStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, ProgressMonitor.NONE);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but reports the bytes of the file read so far to {@code monitor}.
+     * Of several different persons with the same identity, only the first is kept.
+     *
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, ProgressMonitor monitor)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        if (FileUtil.hasExtension(filePath, JSON_FILE_EXTENSION)) {
+            return jsonStorage.readAddressBook(filePath, monitor);
+        }
+
+        Path newerFilePath = JsonAddressBookStorage.getNewerCompressionSibling(filePath);
+        if (!newerFilePath.equals(filePath)) {
+            logger.info("JSON Lines file " + newerFilePath + " is newer than " + filePath + ", reading it instead.");
+        }
+
+        Optional<ReadResult> result = readPersons(newerFilePath, monitor);
+        if (result.isEmpty()) {
+            if (filePath.equals(this.filePath)) {
+                skippedRecords = List.of();
+            }
+            return Optional.empty();
+        }
+
+        PersonMerge merge = PersonMerge.of(List.of(), result.get().getPersons());
+        List<String> duplicates = new ArrayList<>();
+        for (Person conflict : merge.getConflicts()) {
+            duplicates.add(String.format(MESSAGE_DUPLICATE_PERSON, conflict.getName(), conflict.getPhone()));
+        }
+        logSkippedLines(filePath, duplicates);
+
+        if (filePath.equals(this.filePath)) {
+            List<String> skippedLines = new ArrayList<>(result.get().getSkippedLines());
+            skippedLines.addAll(duplicates);
+            skippedRecords = Collections.unmodifiableList(skippedLines);
+            isBackupNeeded = !skippedLines.isEmpty();
+        }
+        return Optional.of(AddressBookSnapshot.of(merge.getPersons()));
+    }
+
+    /**
+     * Reads the persons in {@code filePath} as they are, which may include duplicate persons, and reports the bytes
+     * of the file read so far to {@code monitor}. Lines that are not valid persons are skipped and logged.
+     *
+     * @throws DataLoadingException if the file could not be read.
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    public Optional<ReadResult> readPersons(Path filePath, ProgressMonitor monitor) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(monitor);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON Lines file " + filePath + " found.");
+
+        try {
+            ReadResult result = JsonLinesReader.read(filePath, monitor);
+            logSkippedLines(filePath, result.getSkippedLines());
+            return Optional.of(result);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from JSON Lines file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    private static void logSkippedLines(Path filePath, List<String> skippedLines) {
+        if (skippedLines.isEmpty()) {
+            return;
+        }
+        logger.warning(skippedLines.size() + " lines of " + filePath + " were skipped.");
+        skippedLines.stream().limit(MAX_SKIPPED_LINES_LOGGED).forEach(logger::warning);
+    }
+
+    @Override
+    public List<String> getSkippedRecords() {
+        return skippedRecords;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files whose name ends with {@code .json} are saved as JSON. Other files are written to a temporary file first
+     * and then moved over {@code filePath}. If lines of the data file were skipped when it was read, it is backed up
+     * before it is first saved over.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (isBackupNeeded && filePath.equals(this.filePath) && Files.exists(filePath)) {
+            Path backupFilePath = FileUtil.backUp(filePath);
+            isBackupNeeded = false;
+            logger.warning("Backed up " + filePath + " to " + backupFilePath + " before saving over the "
+                    + skippedRecords.size() + " lines skipped when it was read.");
+        }
+
+        if (FileUtil.hasExtension(filePath, JSON_FILE_EXTENSION)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            write(addressBook.getPersonList(), List.of(), PersonColumn.ALL,
+                    FileUtil.newOutputStream(tempPath, FileUtil.isGzipFile(filePath)));
+            FileUtil.replaceAtomically(tempPath, filePath);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@link #getAddressBookFilePath()} as they are iterated, with only the fields in
+     * {@code columns}, followed by {@code removedPersons}, each with only its name and phone and marked as deleted.
+     * Unlike {@link #saveAddressBook(ReadOnlyAddressBook)}, the file is written in place, as it is an export rather
+     * than the data file.
+     */
+    public void savePersons(Iterable<Person> persons, List<Person> removedPersons, Set<PersonColumn> columns)
+            throws IOException {
+        requireNonNull(persons);
+        requireNonNull(removedPersons);
+        requireNonNull(columns);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        write(persons, removedPersons, columns, FileUtil.newOutputStream(filePath));
+    }
+
+    /**
+     * Writes each person on a line of its own to {@code outputStream}, which is closed afterwards.
+     */
+    private static void write(Iterable<Person> persons, List<Person> removedPersons, Set<PersonColumn> columns,
+            OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(outputStream, true)) {
+            // Lines are separated by the line breaks written after each person instead.
+            generator.setRootValueSeparator(null);
+            for (Person person : persons) {
+                JsonAddressBookStreamWriter.writePerson(generator, person, columns);
+                generator.writeRaw('\n');
+            }
+            for (Person person : removedPersons) {
+                generator.writeStartObject();
+                generator.writeStringField("name", person.getName().fullName);
+                generator.writeStringField("phone", person.getPhone().value);
+                generator.writeBooleanField(DELETED_FIELD, true);
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // Every save is written to the file immediately, so there is nothing to complete.
+    }
+
+    /**
+     * The persons read from a JSON Lines file, and the lines that were skipped.
+     */
+    public static class ReadResult {
+        private final List<Person> persons;
+        private final List<String> skippedLines;
+
+        ReadResult(List<Person> persons, List<String> skippedLines) {
+            this.persons = Collections.unmodifiableList(persons);
+            this.skippedLines = Collections.unmodifiableList(skippedLines);
+        }
+
+        /**
+         * Returns the persons read, in the order of the file, which may include duplicate persons.
+         */
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /**
+         * Returns a message for each line that was skipped, saying which line it is and why it was skipped.
+         */
+        public List<String> getSkippedLines() {
+            return skippedLines;
+        }
+    }
+
+}
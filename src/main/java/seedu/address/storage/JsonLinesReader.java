@@ -0,0 +1,326 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads persons stored as JSON Lines, one {@link JsonAdaptedPerson} per line.
+ * <p>
+ * Each line is parsed on its own, so a line that is not a valid person is skipped and reported, and the rest of the
+ * file is still read. A line break can never occur inside a JSON value written on one line, so an uncompressed file
+ * is simply split into chunks at line breaks, and the chunks are parsed in parallel on the common fork/join pool.
+ * Gzip files are read in one pass. Either way, persons keep their order in the file.
+ * <p>
+ * Lines marked as deleted, as written for removed persons by an export of changes, are ignored, just as the list
+ * of deleted persons in a JSON export is when it is read.
+ */
+class JsonLinesReader {
+
+    static final long DEFAULT_CHUNK_BYTES = 4 << 20;
+
+    static final String MESSAGE_INVALID_JSON = "Line %1$d is not a valid JSON person";
+    static final String MESSAGE_INVALID_PERSON = "Line %1$d is not a valid person: %2$s";
+
+    private static final int SPLIT_BUFFER_BYTES = 8 << 10;
+    private static final byte[] DELETED_FIELD_NAME = "\"deleted\"".getBytes(StandardCharsets.US_ASCII);
+
+    private JsonLinesReader() {}
+
+    /**
+     * Reads the persons in the file at {@code filePath}, reporting the bytes of the file read so far to
+     * {@code monitor}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws CancellationException if {@code monitor} is cancelled before the whole file is read.
+     */
+    static JsonLinesAddressBookStorage.ReadResult read(Path filePath, ProgressMonitor monitor) throws IOException {
+        return read(filePath, monitor, DEFAULT_CHUNK_BYTES);
+    }
+
+    static JsonLinesAddressBookStorage.ReadResult read(Path filePath, ProgressMonitor monitor, long chunkBytes)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(monitor);
+
+        if (FileUtil.isGzipFile(filePath)) {
+            try (InputStream in = FileUtil.newInputStream(filePath, monitor)) {
+                LineParser parser = new LineParser();
+                parser.parseStream(in);
+                List<String> skippedLines = new ArrayList<>();
+                parser.describeSkippedLines(1, skippedLines);
+                return new JsonLinesAddressBookStorage.ReadResult(parser.persons, skippedLines);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ChunkProgress progress = new ChunkProgress(monitor, channel.size());
+            List<ChunkTask> tasks = new ArrayList<>();
+            long[] bounds = split(channel, chunkBytes);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                tasks.add(new ChunkTask(channel, bounds[i], bounds[i + 1], progress));
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            // Line numbers are only known once the lines of the chunks before are counted.
+            List<Person> persons = new ArrayList<>();
+            List<String> skippedLines = new ArrayList<>();
+            int firstLineNumber = 1;
+            for (ChunkTask task : tasks) {
+                if (task.ioError != null) {
+                    throw task.ioError;
+                }
+                persons.addAll(task.parser.persons);
+                task.parser.describeSkippedLines(firstLineNumber, skippedLines);
+                firstLineNumber += task.parser.lineCount;
+            }
+            return new JsonLinesAddressBookStorage.ReadResult(persons, skippedLines);
+        }
+    }
+
+    /**
+     * Returns the offsets at which the chunks of the file start, followed by the size of the file. Each chunk but
+     * the last ends with a line break and is at least {@code chunkBytes} long.
+     */
+    static long[] split(FileChannel channel, long chunkBytes) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(SPLIT_BUFFER_BYTES);
+        long position = chunkBytes - 1;
+        while (position < size) {
+            long lineEnd = findLineEnd(channel, position, buffer);
+            if (lineEnd >= size) {
+                break;
+            }
+            bounds.add(lineEnd);
+            position = lineEnd + chunkBytes - 1;
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Returns the offset just after the first line break at or after {@code position}, or the size of the file if
+     * there is none.
+     */
+    private static long findLineEnd(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        long offset = position;
+        while (true) {
+            buffer.clear();
+            int count = channel.read(buffer, offset);
+            if (count <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < count; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += count;
+        }
+    }
+
+    /**
+     * Adds up the bytes of the chunks that are done, which may finish in any order.
+     */
+    private static class ChunkProgress {
+        private final ProgressMonitor monitor;
+        private final long totalBytes;
+        private final AtomicLong bytesDone = new AtomicLong();
+
+        ChunkProgress(ProgressMonitor monitor, long totalBytes) {
+            this.monitor = monitor;
+            this.totalBytes = totalBytes;
+        }
+
+        void chunkDone(long chunkBytes) {
+            monitor.worked(bytesDone.addAndGet(chunkBytes), totalBytes);
+        }
+    }
+
+    /**
+     * Reads and parses the lines of one chunk of the file.
+     */
+    private static class ChunkTask extends RecursiveAction {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final ChunkProgress progress;
+        private final LineParser parser = new LineParser();
+        private IOException ioError;
+
+        ChunkTask(FileChannel channel, long start, long end, ChunkProgress progress) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            progress.monitor.checkCancelled();
+            try {
+                ByteBuffer chunk = ByteBuffer.allocate((int) (end - start));
+                // Reads at a given position are safe from several threads on the same channel.
+                while (chunk.hasRemaining() && channel.read(chunk, start + chunk.position()) >= 0) {
+                    progress.monitor.checkCancelled();
+                }
+                parser.parseAll(chunk.array(), chunk.position());
+            } catch (IOException e) {
+                ioError = e;
+            }
+            progress.chunkDone(end - start);
+        }
+    }
+
+    /**
+     * Parses lines into persons, counting the lines parsed.
+     */
+    private static class LineParser {
+        private final List<Person> persons = new ArrayList<>();
+        // The line numbers of the skipped lines, and why each was skipped, or null if it is not valid JSON.
+        private final List<Integer> skippedLineNumbers = new ArrayList<>();
+        private final List<String> skippedReasons = new ArrayList<>();
+        private int lineCount;
+
+        /**
+         * Parses every line in the first {@code length} bytes of {@code bytes} that ends with a line break, and
+         * returns the offset at which the unfinished line after them starts.
+         */
+        int parseLines(byte[] bytes, int length) {
+            int lineStart = 0;
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] == '\n') {
+                    parseLine(bytes, lineStart, i - lineStart);
+                    lineStart = i + 1;
+                }
+            }
+            return lineStart;
+        }
+
+        /**
+         * Parses all lines in the first {@code length} bytes of {@code bytes}, the last of which need not end with
+         * a line break.
+         */
+        void parseAll(byte[] bytes, int length) {
+            int lineStart = parseLines(bytes, length);
+            if (lineStart < length) {
+                parseLine(bytes, lineStart, length - lineStart);
+            }
+        }
+
+        /**
+         * Parses all lines read from {@code in}.
+         */
+        void parseStream(InputStream in) throws IOException {
+            byte[] buffer = new byte[(int) DEFAULT_CHUNK_BYTES];
+            int length = 0;
+            int count;
+            while ((count = in.read(buffer, length, buffer.length - length)) >= 0) {
+                length += count;
+                int lineStart = parseLines(buffer, length);
+                System.arraycopy(buffer, lineStart, buffer, 0, length - lineStart);
+                length -= lineStart;
+                if (length == buffer.length) {
+                    // The buffer holds part of a single line that is longer than it.
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+            parseAll(buffer, length);
+        }
+
+        /**
+         * Parses the line of {@code length} bytes at {@code offset}, without its line break. Blank lines are
+         * ignored, and a line that is not a valid person is skipped.
+         */
+        private void parseLine(byte[] bytes, int offset, int length) {
+            lineCount++;
+            if (isBlank(bytes, offset, length)) {
+                return;
+            }
+
+            try {
+                if (isDeleted(bytes, offset, length)) {
+                    return;
+                }
+                persons.add(JsonUtil.fromJsonBytes(bytes, offset, length, JsonAdaptedPerson.class).toModelType());
+            } catch (IOException e) {
+                skippedLineNumbers.add(lineCount);
+                skippedReasons.add(null);
+            } catch (IllegalValueException e) {
+                skippedLineNumbers.add(lineCount);
+                skippedReasons.add(e.getMessage());
+            }
+        }
+
+        /**
+         * Adds a message for each skipped line to {@code messages}, with {@code firstLineNumber} as the number of
+         * the first line parsed.
+         */
+        void describeSkippedLines(int firstLineNumber, List<String> messages) {
+            for (int i = 0; i < skippedLineNumbers.size(); i++) {
+                int lineNumber = firstLineNumber - 1 + skippedLineNumbers.get(i);
+                String reason = skippedReasons.get(i);
+                messages.add(reason == null
+                        ? String.format(MESSAGE_INVALID_JSON, lineNumber)
+                        : String.format(MESSAGE_INVALID_PERSON, lineNumber, reason));
+            }
+        }
+
+        /**
+         * Returns true if the line is marked as deleted. Only lines that contain the name of the field are parsed
+         * to check it, and a quote within a value is escaped, so other lines are never parsed twice.
+         */
+        private static boolean isDeleted(byte[] bytes, int offset, int length) throws IOException {
+            if (!contains(bytes, offset, length, DELETED_FIELD_NAME)) {
+                return false;
+            }
+            return JsonUtil.fromJsonBytes(bytes, offset, length, JsonNode.class).path("deleted").asBoolean();
+        }
+
+        private static boolean contains(byte[] bytes, int offset, int length, byte[] target) {
+            for (int i = offset; i <= offset + length - target.length; i++) {
+                int matched = 0;
+                while (matched < target.length && bytes[i + matched] == target[matched]) {
+                    matched++;
+                }
+                if (matched == target.length) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isBlank(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (bytes[i] != ' ' && bytes[i] != '\t' && bytes[i] != '\r') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,371 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.LogStructuredStore.WriteBatch;
+
+/**
+ * A class to access AddressBook data stored as one record per person in a {@link LogStructuredStore} directory.
+ * <p>
+ * Each save compares the person list against the one last persisted and writes only the records of persons that
+ * were added, edited or deleted, so a single edit writes a few hundred bytes. Persons are stored in the order of
+ * their keys: edited persons keep their key, and added persons get a new, larger one. Space taken by old records is
+ * reclaimed by merging segments on a background thread.
+ * <p>
+ * Like {@link BinaryAddressBookStorage}, files whose name ends with {@code .json} are read and saved as JSON, and if
+ * the JSON file with the same name next to the data directory was modified after the store was last written to, or
+ * the data directory does not exist yet, the JSON file is read instead.
+ */
+public class LogStructuredAddressBookStorage implements AddressBookStorage {
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final long DEFAULT_MAX_SEGMENT_BYTES = 1024 * 1024;
+    private static final long DEFAULT_MIN_MERGE_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(LogStructuredAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long maxSegmentBytes;
+    private final long minMergeBytes;
+    private final JsonAddressBookStorage jsonStorage;
+    private final ExecutorService merger = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "store-merger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The store at filePath, and what is in it after the last successful read or save. persistedPersons is never
+    // modified, and persistedKeys holds the key of each of its persons.
+    private LogStructuredStore store;
+    private List<Person> persistedPersons;
+    private List<Long> persistedKeys;
+    private Future<?> pendingMerge = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a {@code LogStructuredAddressBookStorage} for the data directory {@code filePath}.
+     *
+     * @param isCompact if true, data files that are saved as JSON are saved without indentation or line breaks.
+     */
+    public LogStructuredAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_MAX_SEGMENT_BYTES, DEFAULT_MIN_MERGE_BYTES);
+    }
+
+    /**
+     * Creates a {@code LogStructuredAddressBookStorage} whose store starts a new segment once the active one holds
+     * {@code maxSegmentBytes}, and merges older segments once they hold {@code minMergeBytes}.
+     */
+    LogStructuredAddressBookStorage(Path filePath, boolean isCompact, long maxSegmentBytes, long minMergeBytes) {
+        this.filePath = filePath;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.minMergeBytes = minMergeBytes;
+        this.jsonStorage = new JsonAddressBookStorage(filePath, isCompact);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            if (!LogStructuredStore.isStore(filePath)) {
+                Path jsonFilePath = Files.exists(filePath)
+                        ? filePath
+                        : BinaryAddressBookStorage.getJsonSibling(filePath);
+                if (!Files.isRegularFile(jsonFilePath)) {
+                    return Optional.empty();
+                }
+                logger.info("Data directory " + filePath + " not found, reading " + jsonFilePath + " instead.");
+                return jsonStorage.readAddressBook(jsonFilePath);
+            }
+            Path jsonFilePath = BinaryAddressBookStorage.getJsonSibling(filePath);
+            if (!isStoreNewer(filePath, jsonFilePath)) {
+                // The data was last saved while log-structured data files were turned off.
+                logger.info("JSON file " + jsonFilePath + " is newer than data directory " + filePath
+                        + ", reading it instead.");
+                return jsonStorage.readAddressBook(jsonFilePath);
+            }
+            logger.info("Data directory " + filePath + " found.");
+
+            boolean isOwnStore = filePath.equals(this.filePath);
+            LogStructuredStore source = isOwnStore ? getStore() : openStore(filePath);
+            ParallelPersonConverter converter = new ParallelPersonConverter();
+            List<Long> keys = new ArrayList<>();
+            try {
+                for (Map.Entry<Long, byte[]> record : source.readAll().entrySet()) {
+                    keys.add(record.getKey());
+                    converter.add(decode(record.getValue()));
+                }
+            } finally {
+                if (!isOwnStore) {
+                    source.close();
+                }
+            }
+
+            List<Person> persons = converter.toPersonList();
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            if (isOwnStore) {
+                persistedPersons = persons;
+                persistedKeys = keys;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data directory " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads the data directory {@code directory} as a {@code LogStructuredAddressBookStorage} for it would, and
+     * closes the store again.
+     */
+    static Optional<ReadOnlyAddressBook> readStore(Path directory, boolean isCompact) throws DataLoadingException {
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(directory, isCompact);
+        try {
+            return storage.readAddressBook();
+        } finally {
+            try {
+                storage.close();
+            } catch (IOException ioe) {
+                logger.warning("Error closing data directory " + directory + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code directory} holds a store that was written to after {@code file} was last modified, or
+     * {@code file} does not exist.
+     */
+    static boolean isStoreNewer(Path directory, Path file) throws IOException {
+        if (!LogStructuredStore.isStore(directory)) {
+            return false;
+        }
+        return !Files.isRegularFile(file)
+                || LogStructuredStore.getLastModifiedTime(directory).compareTo(Files.getLastModifiedTime(file)) >= 0;
+    }
+
+    /**
+     * Returns the path of the data directory that the data in the JSON file {@code filePath}, which may be
+     * gzip-compressed, is saved to when log-structured data files are turned on, e.g. {@code addressbook} for
+     * {@code addressbook.json}. Returns {@code filePath} itself if it is not a JSON file.
+     */
+    static Path getStoreSibling(Path filePath) {
+        Path uncompressedFilePath = JsonAddressBookStorage.getUncompressedSibling(filePath);
+        if (!uncompressedFilePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION)) {
+            return filePath;
+        }
+        return FileUtil.replaceExtension(uncompressedFilePath, JSON_FILE_EXTENSION, "");
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the last read or save are written to the data directory of this storage. Other data
+     * directories are rewritten in full, and files whose name ends with {@code .json} are saved as JSON.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            LogStructuredStore target = openStore(filePath);
+            try {
+                target.commit(rewrite(target, persons, target.readAll().keySet(), new ArrayList<>()));
+            } finally {
+                target.close();
+            }
+            return;
+        }
+
+        LogStructuredStore ownStore = getStore();
+        List<Long> keys = new ArrayList<>();
+        WriteBatch batch = persistedPersons == null
+                ? rewrite(ownStore, persons, ownStore.readAll().keySet(), keys)
+                : diff(ownStore, persistedPersons, persistedKeys, persons, keys);
+        ownStore.commit(batch);
+        persistedPersons = persons;
+        persistedKeys = keys;
+
+        if (pendingMerge.isDone() && ownStore.needsMerge()) {
+            pendingMerge = merger.submit(() -> {
+                ownStore.merge();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Waits for any running merge, then closes the data directory and stops the background thread.
+     * This storage must not be used after it is closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            pendingMerge.get();
+        } catch (ExecutionException e) {
+            logger.warning("Merging data files failed: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data files to be merged");
+        } finally {
+            merger.shutdown();
+        }
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private LogStructuredStore getStore() throws IOException {
+        if (store == null) {
+            store = openStore(filePath);
+        }
+        return store;
+    }
+
+    private LogStructuredStore openStore(Path directory) throws IOException {
+        try {
+            return LogStructuredStore.open(directory, maxSegmentBytes, minMergeBytes);
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Returns the changes that turn {@code oldPersons}, stored under {@code oldKeys}, into {@code newPersons}, and
+     * adds the key of each of {@code newPersons} to {@code newKeys}.
+     * Persons are immutable, so a person is unchanged exactly when it is the same instance. Only the range between
+     * the longest common prefix and suffix is compared, which covers the single add, edit or delete of a command.
+     */
+    private static WriteBatch diff(LogStructuredStore store, List<Person> oldPersons, List<Long> oldKeys,
+            List<Person> newPersons, List<Long> newKeys) throws IOException {
+        int maxCommon = Math.min(oldPersons.size(), newPersons.size());
+        int prefix = 0;
+        while (prefix < maxCommon && oldPersons.get(prefix) == newPersons.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix && oldPersons.get(oldPersons.size() - 1 - suffix)
+                == newPersons.get(newPersons.size() - 1 - suffix)) {
+            suffix++;
+        }
+        int oldEnd = oldPersons.size() - suffix;
+        int newEnd = newPersons.size() - suffix;
+
+        newKeys.addAll(oldKeys.subList(0, prefix));
+        if (newEnd - prefix > oldEnd - prefix && suffix > 0) {
+            // Persons inserted before existing ones need keys between theirs, so everything after the prefix is
+            // stored again under new keys.
+            return rewrite(store, newPersons.subList(prefix, newPersons.size()),
+                    oldKeys.subList(prefix, oldKeys.size()), newKeys);
+        }
+
+        WriteBatch batch = new WriteBatch();
+        int index = prefix;
+        for (; index < oldEnd && index < newEnd; index++) {
+            if (oldPersons.get(index) != newPersons.get(index)) {
+                batch.put(oldKeys.get(index), encode(newPersons.get(index)));
+            }
+            newKeys.add(oldKeys.get(index));
+        }
+        for (int i = index; i < oldEnd; i++) {
+            batch.delete(oldKeys.get(i));
+        }
+        for (; index < newEnd; index++) {
+            long key = store.nextKey();
+            batch.put(key, encode(newPersons.get(index)));
+            newKeys.add(key);
+        }
+        newKeys.addAll(oldKeys.subList(oldEnd, oldKeys.size()));
+        return batch;
+    }
+
+    /**
+     * Returns the changes that delete {@code oldKeys} and store {@code persons} under new keys, in order, and adds
+     * those keys to {@code newKeys}.
+     */
+    private static WriteBatch rewrite(LogStructuredStore store, List<Person> persons, Iterable<Long> oldKeys,
+            List<Long> newKeys) throws IOException {
+        WriteBatch batch = new WriteBatch();
+        for (long key : oldKeys) {
+            batch.delete(key);
+        }
+        for (Person person : persons) {
+            long key = store.nextKey();
+            batch.put(key, encode(person));
+            newKeys.add(key);
+        }
+        return batch;
+    }
+
+    private static byte[] encode(Person person) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(buffer, true)) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        return buffer.toByteArray();
+    }
+
+    private static JsonAdaptedPerson decode(byte[] value) throws IOException {
+        return JsonUtil.fromJsonString(new String(value, StandardCharsets.UTF_8), JsonAdaptedPerson.class);
+    }
+
+}
@@ -0,0 +1,564 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A small log-structured key-value store kept in a directory, with {@code long} keys and byte array values.
+ * <p>
+ * Every change is appended to the active segment file as a record with its own CRC32, and each
+ * {@link #commit(WriteBatch) committed batch} ends with a commit record and is forced to disk once. An in-memory
+ * key directory maps every live key to the record holding its latest value. When the active segment grows past a
+ * limit, a new one is started; the older segments are never written again.
+ * <p>
+ * {@link #merge()} copies the live records of all older segments into a single merged file, which replaces those
+ * segments. A merged file named after segment {@code n} holds everything that segments up to {@code n} held, so
+ * when a store is opened, segments up to the newest merged file are deleted and only the merged file and the
+ * segments after it are read. Opening a store also discards any batch whose commit record never made it to disk.
+ */
+class LogStructuredStore {
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String MERGED_SUFFIX = ".merged";
+    static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    static final String MESSAGE_CORRUPTED_SEGMENT = "Data file %s is corrupted.";
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte COMMIT = 3;
+
+    /** CRC, type, key and value length. */
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + 1 + Long.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(LogStructuredStore.class);
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final long minMergeBytes;
+
+    // Guarded by this.
+    private final List<Segment> immutableSegments = new ArrayList<>();
+    private final Map<Long, Location> keyDirectory = new HashMap<>();
+    private Segment activeSegment;
+    private FileChannel activeChannel;
+    private long nextKey = 1;
+    private boolean isMerging;
+
+    private LogStructuredStore(Path directory, long maxSegmentBytes, long minMergeBytes) {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.minMergeBytes = minMergeBytes;
+    }
+
+    /**
+     * Opens the store in {@code directory}, creating the directory if it does not exist.
+     * A new segment is started once the active one holds {@code maxSegmentBytes}, and {@link #needsMerge()} reports
+     * true once older segments hold at least {@code minMergeBytes}, at least half of which are no longer live.
+     *
+     * @throws IOException if there was an error reading or writing the store.
+     * @throws IllegalValueException if a committed record is corrupted.
+     */
+    static LogStructuredStore open(Path directory, long maxSegmentBytes, long minMergeBytes)
+            throws IOException, IllegalValueException {
+        requireNonNull(directory);
+        Files.createDirectories(directory);
+        LogStructuredStore store = new LogStructuredStore(directory, maxSegmentBytes, minMergeBytes);
+        store.recover();
+        return store;
+    }
+
+    /**
+     * Returns true if {@code directory} holds files of a store.
+     */
+    static boolean isStore(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                "*{" + SEGMENT_SUFFIX + "," + MERGED_SUFFIX + "}")) {
+            return files.iterator().hasNext();
+        }
+    }
+
+    /**
+     * Returns the time the store in {@code directory} was last written to, which is the latest modification time of
+     * its files, as appending to a segment does not change the modification time of the directory.
+     */
+    static FileTime getLastModifiedTime(Path directory) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                FileTime fileTime = Files.getLastModifiedTime(file);
+                if (fileTime.compareTo(lastModifiedTime) > 0) {
+                    lastModifiedTime = fileTime;
+                }
+            }
+        }
+        return lastModifiedTime;
+    }
+
+    private void recover() throws IOException, IllegalValueException {
+        TreeMap<Long, Path> segmentPaths = new TreeMap<>();
+        TreeMap<Long, Path> mergedPaths = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+                    // An interrupted merge; the files it was made from are still there.
+                    Files.delete(file);
+                } else if (fileName.endsWith(SEGMENT_SUFFIX)) {
+                    segmentPaths.put(parseId(fileName, SEGMENT_SUFFIX), file);
+                } else if (fileName.endsWith(MERGED_SUFFIX)) {
+                    mergedPaths.put(parseId(fileName, MERGED_SUFFIX), file);
+                }
+            }
+        }
+
+        long mergedId = 0;
+        if (!mergedPaths.isEmpty()) {
+            mergedId = mergedPaths.lastKey();
+            // Leftovers of a merge interrupted after its merged file was moved into place.
+            for (Path superseded : mergedPaths.headMap(mergedId).values()) {
+                Files.delete(superseded);
+            }
+            for (Path superseded : segmentPaths.headMap(mergedId, true).values()) {
+                Files.delete(superseded);
+            }
+            immutableSegments.add(new Segment(mergedId, mergedPaths.lastEntry().getValue()));
+        }
+        for (Map.Entry<Long, Path> entry : segmentPaths.tailMap(mergedId, false).entrySet()) {
+            immutableSegments.add(new Segment(entry.getKey(), entry.getValue()));
+        }
+
+        // Only the last segment may end with an interrupted commit, which is cut off.
+        for (int i = 0; i < immutableSegments.size(); i++) {
+            Segment segment = immutableSegments.get(i);
+            boolean isLast = i == immutableSegments.size() - 1;
+            long committedBytes = load(segment, isLast);
+            if (committedBytes < Files.size(segment.path)) {
+                logger.warning("Discarding incomplete last changes in " + segment.path);
+                try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.WRITE)) {
+                    channel.truncate(committedBytes);
+                    channel.force(true);
+                }
+            }
+            segment.totalBytes = committedBytes;
+        }
+
+        Segment last = immutableSegments.isEmpty() ? null : immutableSegments.get(immutableSegments.size() - 1);
+        if (last != null && !last.isMerged() && last.totalBytes < maxSegmentBytes) {
+            immutableSegments.remove(last);
+            activeSegment = last;
+            activeChannel = FileChannel.open(last.path, StandardOpenOption.WRITE);
+        } else {
+            startSegment(last == null ? 1 : last.id + 1);
+        }
+    }
+
+    /**
+     * Reads the committed records of {@code segment} into the key directory.
+     * Changes after the last commit record are ignored if the segment is the last one, since they are the remains
+     * of an interrupted commit, unless a valid commit record follows them, in which case committed changes were
+     * corrupted.
+     *
+     * @return the number of bytes up to and including the last commit record.
+     */
+    private long load(Segment segment, boolean isLast) throws IOException, IllegalValueException {
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(segment.path));
+        Map<Long, Location> batch = new LinkedHashMap<>();
+        long committedBytes = 0;
+        while (content.remaining() >= RECORD_HEADER_BYTES) {
+            int start = content.position();
+            int checksum = content.getInt();
+            byte type = content.get();
+            long key = content.getLong();
+            int length = content.getInt();
+            if (length < -1 || length > content.remaining()
+                    || checksum != checksum(content.array(), start + Integer.BYTES, RECORD_HEADER_BYTES
+                            - Integer.BYTES + Math.max(length, 0))) {
+                content.position(start);
+                break;
+            }
+            content.position(content.position() + Math.max(length, 0));
+            int recordBytes = content.position() - start;
+
+            if (type == PUT) {
+                batch.put(key, new Location(segment, start, recordBytes));
+            } else if (type == DELETE) {
+                batch.put(key, null);
+            } else if (type == COMMIT) {
+                for (Map.Entry<Long, Location> change : batch.entrySet()) {
+                    apply(change.getKey(), change.getValue());
+                }
+                batch.clear();
+                committedBytes = content.position();
+            } else {
+                content.position(start);
+                break;
+            }
+        }
+
+        if (committedBytes < content.limit() && (!isLast || hasCommitAfter(content.array(), content.position()))) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_SEGMENT, segment.path));
+        }
+        return committedBytes;
+    }
+
+    /**
+     * Returns true if a valid commit record starts anywhere in {@code content} after {@code invalidRecordStart}.
+     * An interrupted commit never wrote anything after the record it was writing, so such a commit record means
+     * that the invalid record was damaged after it had been committed.
+     */
+    private static boolean hasCommitAfter(byte[] content, int invalidRecordStart) {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        for (int start = invalidRecordStart + 1; start <= content.length - RECORD_HEADER_BYTES; start++) {
+            if (buffer.get(start + Integer.BYTES) == COMMIT
+                    && buffer.getInt(start + RECORD_HEADER_BYTES - Integer.BYTES) == 0
+                    && buffer.getInt(start) == checksum(content, start + Integer.BYTES,
+                            RECORD_HEADER_BYTES - Integer.BYTES)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long parseId(String fileName, String suffix) throws IOException {
+        try {
+            return Long.parseLong(fileName.substring(0, fileName.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected file " + fileName + " in data directory");
+        }
+    }
+
+    /**
+     * Returns the live value of every key, in ascending order of keys.
+     */
+    synchronized SortedMap<Long, byte[]> readAll() throws IOException {
+        Map<Segment, List<Map.Entry<Long, Location>>> entriesBySegment = new HashMap<>();
+        for (Map.Entry<Long, Location> entry : keyDirectory.entrySet()) {
+            entriesBySegment.computeIfAbsent(entry.getValue().segment, segment -> new ArrayList<>()).add(entry);
+        }
+
+        SortedMap<Long, byte[]> values = new TreeMap<>();
+        for (Map.Entry<Segment, List<Map.Entry<Long, Location>>> segmentEntries : entriesBySegment.entrySet()) {
+            byte[] content = Files.readAllBytes(segmentEntries.getKey().path);
+            for (Map.Entry<Long, Location> entry : segmentEntries.getValue()) {
+                Location location = entry.getValue();
+                int valueStart = Math.toIntExact(location.offset) + RECORD_HEADER_BYTES;
+                byte[] value = new byte[location.length - RECORD_HEADER_BYTES];
+                System.arraycopy(content, valueStart, value, 0, value.length);
+                values.put(entry.getKey(), value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns a key that has never been used in this store.
+     */
+    synchronized long nextKey() {
+        return nextKey++;
+    }
+
+    /**
+     * Appends the changes in {@code batch} to the active segment, followed by a commit record, and forces them to
+     * disk. If this fails, none of the changes take effect.
+     */
+    synchronized void commit(WriteBatch batch) throws IOException {
+        requireNonNull(batch);
+        if (batch.changes.isEmpty()) {
+            return;
+        }
+
+        // A failed commit may have left part of a batch behind, which must not be followed by a new commit record.
+        if (activeChannel.size() != activeSegment.totalBytes) {
+            activeChannel.truncate(activeSegment.totalBytes);
+        }
+        if (activeSegment.totalBytes >= maxSegmentBytes) {
+            activeChannel.close();
+            immutableSegments.add(activeSegment);
+            startSegment(activeSegment.id + 1);
+        }
+
+        ByteBuffer records = ByteBuffer.allocate(batch.encodedBytes + RECORD_HEADER_BYTES);
+        Map<Long, Location> changes = new LinkedHashMap<>();
+        for (Map.Entry<Long, byte[]> change : batch.changes.entrySet()) {
+            int start = records.position();
+            byte[] value = change.getValue();
+            putRecord(records, value == null ? DELETE : PUT, change.getKey(), value);
+            changes.put(change.getKey(), value == null
+                    ? null
+                    : new Location(activeSegment, activeSegment.totalBytes + start, records.position() - start));
+        }
+        putRecord(records, COMMIT, 0, new byte[0]);
+        records.flip();
+
+        long position = activeSegment.totalBytes;
+        while (records.hasRemaining()) {
+            position += activeChannel.write(records, position);
+        }
+        activeChannel.force(false);
+
+        activeSegment.totalBytes = position;
+        for (Map.Entry<Long, Location> change : changes.entrySet()) {
+            apply(change.getKey(), change.getValue());
+        }
+    }
+
+    private static void putRecord(ByteBuffer buffer, byte type, long key, byte[] value) {
+        int start = buffer.position();
+        buffer.putInt(0)
+                .put(type)
+                .putLong(key)
+                .putInt(value == null ? -1 : value.length);
+        if (value != null) {
+            buffer.put(value);
+        }
+        buffer.putInt(start, checksum(buffer.array(), start + Integer.BYTES,
+                buffer.position() - start - Integer.BYTES));
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Points {@code key} at {@code location}, or removes it if {@code location} is null.
+     */
+    private void apply(long key, Location location) {
+        Location previous = location == null ? keyDirectory.remove(key) : keyDirectory.put(key, location);
+        if (previous != null) {
+            previous.segment.liveBytes -= previous.length;
+        }
+        if (location != null) {
+            location.segment.liveBytes += location.length;
+        }
+        nextKey = Math.max(nextKey, key + 1);
+    }
+
+    private void startSegment(long id) throws IOException {
+        activeSegment = new Segment(id, directory.resolve(String.format("%08d%s", id, SEGMENT_SUFFIX)));
+        activeChannel = FileChannel.open(activeSegment.path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Returns true if merging would free a worthwhile amount of space.
+     */
+    synchronized boolean needsMerge() {
+        if (isMerging) {
+            return false;
+        }
+        long totalBytes = 0;
+        long liveBytes = 0;
+        for (Segment segment : immutableSegments) {
+            totalBytes += segment.totalBytes;
+            liveBytes += segment.liveBytes;
+        }
+        return totalBytes >= minMergeBytes && liveBytes * 2 <= totalBytes;
+    }
+
+    /**
+     * Replaces all segments except the active one with a single merged file holding their live records.
+     * Commits can proceed while the merged file is being written.
+     */
+    void merge() throws IOException {
+        List<Segment> segments;
+        List<Map.Entry<Long, Location>> liveEntries = new ArrayList<>();
+        synchronized (this) {
+            if (isMerging || immutableSegments.isEmpty()) {
+                return;
+            }
+            isMerging = true;
+            segments = new ArrayList<>(immutableSegments);
+            for (Map.Entry<Long, Location> entry : keyDirectory.entrySet()) {
+                if (segments.contains(entry.getValue().segment)) {
+                    liveEntries.add(Map.entry(entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+
+        try {
+            long mergedId = segments.get(segments.size() - 1).id;
+            Segment merged = new Segment(mergedId, directory.resolve(String.format("%08d%s", mergedId,
+                    MERGED_SUFFIX)));
+            Path tempPath = merged.path.resolveSibling(merged.path.getFileName() + TEMP_FILE_SUFFIX);
+            Map<Long, Location> mergedLocations = writeMergedFile(merged, liveEntries, tempPath);
+
+            synchronized (this) {
+                FileUtil.replaceAtomically(tempPath, merged.path);
+                immutableSegments.removeAll(segments);
+                immutableSegments.add(0, merged);
+                for (Map.Entry<Long, Location> entry : liveEntries) {
+                    // Keys changed since the merge started keep pointing at their newer records.
+                    if (keyDirectory.get(entry.getKey()) == entry.getValue()) {
+                        apply(entry.getKey(), mergedLocations.get(entry.getKey()));
+                    }
+                }
+                for (Segment segment : segments) {
+                    if (!segment.path.equals(merged.path)) {
+                        Files.deleteIfExists(segment.path);
+                    }
+                }
+            }
+            logger.info("Merged " + segments.size() + " segments of " + directory + " into " + merged.path);
+        } finally {
+            synchronized (this) {
+                isMerging = false;
+            }
+        }
+    }
+
+    /**
+     * Copies the records at {@code liveEntries}, followed by a commit record, to {@code tempPath} and forces it to
+     * disk. The segments being read are never written again, so this needs no lock.
+     *
+     * @return where each key is found in the merged file once it is moved into place.
+     */
+    private static Map<Long, Location> writeMergedFile(Segment merged, List<Map.Entry<Long, Location>> liveEntries,
+            Path tempPath) throws IOException {
+        Map<Long, Location> mergedLocations = new HashMap<>();
+        Map<Segment, FileChannel> sources = new HashMap<>();
+        try (FileChannel out = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            for (Map.Entry<Long, Location> entry : liveEntries) {
+                Location location = entry.getValue();
+                FileChannel source = sources.get(location.segment);
+                if (source == null) {
+                    source = FileChannel.open(location.segment.path, StandardOpenOption.READ);
+                    sources.put(location.segment, source);
+                }
+                ByteBuffer record = ByteBuffer.allocate(location.length);
+                while (record.hasRemaining()) {
+                    if (source.read(record, location.offset + record.position()) < 0) {
+                        throw new IOException("Unexpected end of " + location.segment.path);
+                    }
+                }
+                record.flip();
+                mergedLocations.put(entry.getKey(), new Location(merged, position, location.length));
+                while (record.hasRemaining()) {
+                    position += out.write(record, position);
+                }
+            }
+
+            ByteBuffer commit = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+            putRecord(commit, COMMIT, 0, new byte[0]);
+            commit.flip();
+            while (commit.hasRemaining()) {
+                position += out.write(commit, position);
+            }
+            out.force(true);
+            merged.totalBytes = position;
+        } finally {
+            for (FileChannel source : sources.values()) {
+                source.close();
+            }
+        }
+        return mergedLocations;
+    }
+
+    /**
+     * Closes the active segment. This store must not be used afterwards.
+     */
+    synchronized void close() throws IOException {
+        activeChannel.close();
+    }
+
+    /**
+     * A group of changes that {@link #commit(WriteBatch)} applies together. Later changes to a key replace
+     * earlier ones.
+     */
+    static class WriteBatch {
+        private final Map<Long, byte[]> changes = new LinkedHashMap<>();
+        private int encodedBytes;
+
+        /**
+         * Sets the value of {@code key} to {@code value}.
+         */
+        WriteBatch put(long key, byte[] value) {
+            requireNonNull(value);
+            return add(key, value);
+        }
+
+        /**
+         * Removes {@code key}.
+         */
+        WriteBatch delete(long key) {
+            return add(key, null);
+        }
+
+        private WriteBatch add(long key, byte[] value) {
+            if (changes.containsKey(key)) {
+                byte[] previous = changes.remove(key);
+                encodedBytes -= RECORD_HEADER_BYTES + (previous == null ? 0 : previous.length);
+            }
+            changes.put(key, value);
+            encodedBytes += RECORD_HEADER_BYTES + (value == null ? 0 : value.length);
+            return this;
+        }
+
+        boolean isEmpty() {
+            return changes.isEmpty();
+        }
+    }
+
+    /**
+     * A segment or merged file of the store.
+     */
+    private static class Segment {
+        private final long id;
+        private final Path path;
+        private long totalBytes;
+        private long liveBytes;
+
+        Segment(long id, Path path) {
+            this.id = id;
+            this.path = path;
+        }
+
+        boolean isMerged() {
+            return path.getFileName().toString().endsWith(MERGED_SUFFIX);
+        }
+    }
+
+    /**
+     * Where the latest record of a key is stored.
+     */
+    private static class Location {
+        private final Segment segment;
+        private final long offset;
+        private final int length;
+
+        Location(Segment segment, long offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+}
@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookWriter.FORMAT_VERSION;
+import static seedu.address.storage.BinaryAddressBookWriter.HEADER_BYTES;
+import static seedu.address.storage.BinaryAddressBookWriter.MAGIC;
+import static seedu.address.storage.BinaryAddressBookWriter.PERSON_RECORD_INTS;
+import static seedu.address.storage.BinaryAddressBookWriter.PINNED_FLAG;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TelegramHandle;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An unmodifiable list of the persons in a binary snapshot written by
+ * {@link BinaryAddressBookWriter}.
+ * <p>
+ * The structure of the file is checked when it is opened, but each person is only decoded the first time it is
+ * accessed. Decoded persons and strings are cached, so repeated accesses return the same objects.
+ */
+class MappedPersonList extends AbstractList<Person> implements RandomAccess {
+
+    static final String MESSAGE_NOT_BINARY = "Not a binary address book file.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book format version %d.";
+    static final String MESSAGE_CORRUPTED = "The binary address book file is corrupted.";
+
+    private final ByteBuffer buffer;
+    private final int stringDataPosition;
+    private final int personsPosition;
+    private final int tagsPosition;
+    private final int logSecondsPosition;
+    private final int logNanosPosition;
+    private final int logMessagesPosition;
+    private final int logTypesPosition;
+
+    // Caches are filled in lazily. Racing threads may decode the same entry twice, which is harmless because
+    // persons and strings are immutable.
+    private final Person[] persons;
+    private final String[] strings;
+
+    private MappedPersonList(ByteBuffer buffer, int personCount, int stringCount, int tagCount, int logCount,
+            long stringDataLength) {
+        this.buffer = buffer;
+        stringDataPosition = HEADER_BYTES + Integer.BYTES * stringCount;
+        personsPosition = Math.toIntExact(stringDataPosition + stringDataLength);
+        tagsPosition = personsPosition + Integer.BYTES * PERSON_RECORD_INTS * personCount;
+        logSecondsPosition = tagsPosition + Integer.BYTES * tagCount;
+        logNanosPosition = logSecondsPosition + Long.BYTES * logCount;
+        logMessagesPosition = logNanosPosition + Integer.BYTES * logCount;
+        logTypesPosition = logMessagesPosition + Integer.BYTES * logCount;
+        persons = new Person[personCount];
+        strings = new String[stringCount];
+    }
+
+    /**
+     * Returns true if {@code header} starts with the marker of a binary address book file.
+     */
+    static boolean isBinary(ByteBuffer header) {
+        return header.remaining() >= Integer.BYTES && header.getInt(header.position()) == MAGIC;
+    }
+
+    /**
+     * Reads the binary address book at {@code filePath} into memory and checks its structure.
+     * The file is copied rather than memory-mapped, as a file with a live mapping cannot be replaced on some
+     * platforms, and persons decoded later may still refer to the buffer when the data file is next saved.
+     *
+     * @throws IOException if there was an error reading the file.
+     * @throws IllegalValueException if the file is not a binary address book, or it is corrupted.
+     */
+    static MappedPersonList open(Path filePath) throws IOException, IllegalValueException {
+        if (Files.size(filePath) > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+
+        if (buffer.limit() < HEADER_BYTES || !isBinary(buffer)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = buffer.getInt(4);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int personCount = buffer.getInt(8);
+        int stringCount = buffer.getInt(12);
+        int tagCount = buffer.getInt(16);
+        int logCount = buffer.getInt(20);
+        long stringDataLength = buffer.getLong(24);
+        long bodyLength = buffer.getLong(32);
+        long checksum = buffer.getLong(40);
+
+        long expectedBodyLength = (long) Integer.BYTES * stringCount + stringDataLength
+                + (long) Integer.BYTES * PERSON_RECORD_INTS * personCount
+                + (long) Integer.BYTES * tagCount
+                + (long) (Long.BYTES + 3 * Integer.BYTES) * logCount;
+        if (personCount < 0 || stringCount < 0 || tagCount < 0 || logCount < 0 || stringDataLength < 0
+                || bodyLength != expectedBodyLength || HEADER_BYTES + bodyLength != buffer.limit()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_BYTES));
+        if (crc.getValue() != checksum) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        MappedPersonList list = new MappedPersonList(buffer, personCount, stringCount, tagCount, logCount,
+                stringDataLength);
+        list.checkReferences(tagCount, logCount, stringDataLength);
+        return list;
+    }
+
+    /**
+     * Checks that every string, tag and log referenced by the file lies within its section, so that decoding a
+     * person later cannot fail on a structural problem.
+     */
+    private void checkReferences(int tagCount, int logCount, long stringDataLength) throws IllegalValueException {
+        for (int i = 0; i < strings.length; i++) {
+            int offset = buffer.getInt(HEADER_BYTES + Integer.BYTES * i);
+            if (offset < 0 || offset > stringDataLength - Integer.BYTES) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            int length = buffer.getInt(stringDataPosition + offset);
+            if (length < 0 || length > stringDataLength - Integer.BYTES - offset) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+        }
+
+        for (int i = 0; i < persons.length; i++) {
+            int record = personsPosition + Integer.BYTES * PERSON_RECORD_INTS * i;
+            for (int field = 0; field < 6; field++) {
+                checkStringId(buffer.getInt(record + Integer.BYTES * field));
+            }
+            checkRange(buffer.getInt(record + 28), buffer.getInt(record + 32), tagCount);
+            checkRange(buffer.getInt(record + 36), buffer.getInt(record + 40), logCount);
+        }
+        for (int i = 0; i < tagCount; i++) {
+            checkStringId(buffer.getInt(tagsPosition + Integer.BYTES * i));
+        }
+        for (int i = 0; i < logCount; i++) {
+            checkStringId(buffer.getInt(logMessagesPosition + Integer.BYTES * i));
+            checkStringId(buffer.getInt(logTypesPosition + Integer.BYTES * i));
+        }
+    }
+
+    private void checkStringId(int id) throws IllegalValueException {
+        if (id < 0 || id >= strings.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static void checkRange(int start, int count, int size) throws IllegalValueException {
+        if (start < 0 || count < 0 || start > size - count) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    @Override
+    public Person get(int index) {
+        Person person = persons[index];
+        if (person == null) {
+            person = decodePerson(index);
+            persons[index] = person;
+        }
+        return person;
+    }
+
+    @Override
+    public int size() {
+        return persons.length;
+    }
+
+    private Person decodePerson(int index) {
+        int record = personsPosition + Integer.BYTES * PERSON_RECORD_INTS * index;
+        Name name = new Name(getString(buffer.getInt(record)));
+        Phone phone = new Phone(getString(buffer.getInt(record + 4)));
+        TelegramHandle telegramHandle = new TelegramHandle(getString(buffer.getInt(record + 8)));
+        Email email = new Email(getString(buffer.getInt(record + 12)));
+        Address address = new Address(getString(buffer.getInt(record + 16)));
+        Note note = new Note(getString(buffer.getInt(record + 20)));
+        boolean isPinned = (buffer.getInt(record + 24) & PINNED_FLAG) != 0;
+
+        int firstTag = buffer.getInt(record + 28);
+        int tagCount = buffer.getInt(record + 32);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = firstTag; i < firstTag + tagCount; i++) {
+            tags.add(Tag.of(getString(buffer.getInt(tagsPosition + Integer.BYTES * i))));
+        }
+
+        // Log entries are copied out of the file still encoded, and only decoded when they are needed.
+        int firstLog = buffer.getInt(record + 36);
+        int logCount = buffer.getInt(record + 40);
+        PackedLogEntries.Builder logs = new PackedLogEntries.Builder();
+        for (int i = firstLog; i < firstLog + logCount; i++) {
+            logs.add(buffer.getLong(logSecondsPosition + Long.BYTES * i),
+                    buffer.getInt(logNanosPosition + Integer.BYTES * i),
+                    getStringBytes(buffer.getInt(logMessagesPosition + Integer.BYTES * i)),
+                    getStringBytes(buffer.getInt(logTypesPosition + Integer.BYTES * i)));
+        }
+
+        return new Person(name, phone, telegramHandle, email, address, tags, note, logs.build(), isPinned);
+    }
+
+    private String getString(int id) {
+        String value = strings[id];
+        if (value == null) {
+            value = new String(getStringBytes(id), StandardCharsets.UTF_8);
+            strings[id] = value;
+        }
+        return value;
+    }
+
+    private byte[] getStringBytes(int id) {
+        int entry = stringDataPosition + buffer.getInt(HEADER_BYTES + Integer.BYTES * id);
+        byte[] bytes = new byte[buffer.getInt(entry)];
+        buffer.get(entry + Integer.BYTES, bytes);
+        return bytes;
+    }
+
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.InteractionLog;
+import seedu.address.model.person.LogEntry;
+
+/**
+ * The log entries of one person packed into a byte array, which are unpacked only when the entries are needed.
+ * <p>
+ * Each entry is stored as its timestamp in UTC epoch seconds and nanoseconds, followed by its message and type as
+ * length-prefixed UTF-8. This takes a fraction of the memory of the unpacked entries.
+ */
+class PackedLogEntries implements Supplier<List<LogEntry>> {
+
+    private final byte[] packed;
+    private final int count;
+
+    private PackedLogEntries(byte[] packed, int count) {
+        this.packed = packed;
+        this.count = count;
+    }
+
+    @Override
+    public List<LogEntry> get() {
+        ByteBuffer buffer = ByteBuffer.wrap(packed);
+        List<LogEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(),
+                    ZoneOffset.UTC);
+            String message = getString(buffer);
+            String type = getString(buffer);
+            entries.add(new LogEntry(message, type, timestamp));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns true if {@code other} packs the same entries, which is the case exactly if it has the same bytes.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PackedLogEntries)) {
+            return false;
+        }
+
+        PackedLogEntries otherEntries = (PackedLogEntries) other;
+        return count == otherEntries.count && Arrays.equals(packed, otherEntries.packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(packed);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Packs the log entries of one person, newest first.
+     */
+    static class Builder {
+        private static final int ENTRY_HEADER_BYTES = Long.BYTES + 3 * Integer.BYTES;
+
+        private ByteBuffer buffer = ByteBuffer.allocate(0);
+        private int count;
+
+        /**
+         * Adds an entry whose message and type are given as UTF-8 bytes.
+         */
+        Builder add(long epochSecond, int nano, byte[] message, byte[] type) {
+            ensureRemaining(ENTRY_HEADER_BYTES + message.length + type.length);
+            buffer.putLong(epochSecond)
+                    .putInt(nano)
+                    .putInt(message.length)
+                    .put(message)
+                    .putInt(type.length)
+                    .put(type);
+            count++;
+            return this;
+        }
+
+        /**
+         * Adds an entry with the given details.
+         */
+        Builder add(LocalDateTime timestamp, String message, String type) {
+            return add(timestamp.toEpochSecond(ZoneOffset.UTC), timestamp.getNano(),
+                    message.getBytes(StandardCharsets.UTF_8), type.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void ensureRemaining(int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+                buffer = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), capacity)).position(buffer.position());
+            }
+        }
+
+        /**
+         * Returns an {@code InteractionLog} of the entries added so far, which unpacks them when first needed.
+         */
+        InteractionLog build() {
+            byte[] packed = Arrays.copyOf(buffer.array(), buffer.position());
+            return InteractionLog.loadedOnDemand(count, new PackedLogEntries(packed, count));
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Converts the persons read from a data file into an {@code AddressBook}, validating them on all cores.
+ * <p>
+ * Persons are converted in chunks of {@value #CHUNK_SIZE} on the common fork/join pool while the caller carries on
+ * reading, so reading and validating overlap. Only a few chunks are converted at a time, which bounds the number of
+ * {@code JsonAdaptedPerson}s held in memory. The persons keep the order in which they were added, and if several are
+ * invalid, the error of the first one is reported, as when converting them one by one.
+ */
+class ParallelPersonConverter {
+
+    static final int CHUNK_SIZE = 256;
+
+    private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Deque<ConversionTask> pendingChunks = new ArrayDeque<>();
+    private List<JsonAdaptedPerson> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    /**
+     * Adds {@code person} after the persons added so far.
+     *
+     * @throws IllegalValueException if an earlier person was found to violate data constraints.
+     */
+    void add(JsonAdaptedPerson person) throws IllegalValueException {
+        requireNonNull(person);
+        chunk.add(person);
+        if (chunk.size() == CHUNK_SIZE) {
+            submitChunk();
+        }
+    }
+
+    /**
+     * Waits for the conversion of the persons added so far, so that an error in them can be reported before an error
+     * found later in the file.
+     *
+     * @throws IllegalValueException if a person added so far violates data constraints.
+     */
+    void awaitPending() throws IllegalValueException {
+        if (!chunk.isEmpty()) {
+            submitChunk();
+        }
+        while (!pendingChunks.isEmpty()) {
+            joinOldestChunk();
+        }
+    }
+
+    /**
+     * Returns the persons added so far, in order.
+     *
+     * @throws IllegalValueException if a person violates data constraints.
+     */
+    List<Person> toPersonList() throws IllegalValueException {
+        if (pendingChunks.isEmpty()) {
+            // Small address books fit in one chunk, which is not worth handing to another thread.
+            ConversionTask task = takeChunk();
+            task.invoke();
+            persons.addAll(getConverted(task));
+        } else {
+            awaitPending();
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of the persons added so far, in order.
+     *
+     * @throws IllegalValueException if a person violates data constraints, or two persons are the same.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        List<Person> persons = toPersonList();
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    private ConversionTask takeChunk() {
+        ConversionTask task = new ConversionTask(chunk);
+        chunk = new ArrayList<>(CHUNK_SIZE);
+        return task;
+    }
+
+    private void submitChunk() throws IllegalValueException {
+        if (pendingChunks.size() >= MAX_PENDING_CHUNKS) {
+            joinOldestChunk();
+        }
+        ConversionTask task = takeChunk();
+        ForkJoinPool.commonPool().execute(task);
+        pendingChunks.add(task);
+    }
+
+    private void joinOldestChunk() throws IllegalValueException {
+        ConversionTask task = pendingChunks.remove();
+        task.join();
+        persons.addAll(getConverted(task));
+    }
+
+    private List<Person> getConverted(ConversionTask task) throws IllegalValueException {
+        if (task.error != null) {
+            // The remaining chunks can only report later errors, so their results are not needed.
+            pendingChunks.forEach(pending -> pending.cancel(false));
+            pendingChunks.clear();
+            throw task.error;
+        }
+        return task.getRawResult();
+    }
+
+    /**
+     * Converts one chunk of persons, stopping at the first invalid person.
+     */
+    private static class ConversionTask extends RecursiveTask<List<Person>> {
+        private final List<JsonAdaptedPerson> source;
+        private IllegalValueException error;
+
+        ConversionTask(List<JsonAdaptedPerson> source) {
+            this.source = source;
+        }
+
+        @Override
+        protected List<Person> compute() {
+            List<Person> converted = new ArrayList<>(source.size());
+            for (JsonAdaptedPerson person : source) {
+                try {
+                    converted.add(person.toModelType());
+                } catch (IllegalValueException e) {
+                    error = e;
+                    break;
+                }
+            }
+            return converted;
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -20,6 +21,12 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // The file and address book version of the last successful save, used to skip saving unchanged data.
+    private Path lastSavedFilePath;
+    private long lastSavedVersion;
+    private int saveCount;
+    private int skippedSaveCount;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -64,15 +71,42 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public List<String> getSkippedRecords() {
+        return addressBookStorage.getSkippedRecords();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves {@code addressBook} to {@code filePath}, unless the same version of the address book was last saved
+     * to the same file.
+     */
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (addressBook.getVersion() == lastSavedVersion && filePath.equals(lastSavedFilePath)) {
+            skippedSaveCount++;
+            logger.fine("Data unchanged, skipped writing to data file: " + filePath);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
+        long version = addressBook.getVersion();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        lastSavedFilePath = filePath;
+        lastSavedVersion = version;
+        saveCount++;
+        logger.info("Saved data file " + filePath + " (" + saveCount + " saved, " + skippedSaveCount
+                + " skipped as unchanged)");
+    }
+
+    @Override
+    public void close() throws IOException {
+        logger.fine("Closing address book storage");
+        addressBookStorage.close();
     }
 
 }
@@ -1,12 +1,13 @@
 package seedu.address.ui;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -21,14 +22,19 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which shows that commands are being
+     * executed while {@code isBusy} is true.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, ObservableValue<Boolean> isBusy) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        busyIndicator.visibleProperty().bind(isBusy);
     }
 
     /**
@@ -41,19 +47,31 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            CommandResult result = commandExecutor.execute(commandText);
+        // The next command can be typed while this one is executed.
+        commandTextField.setText("");
+        commandExecutor.execute(commandText, new Logic.CommandListener() {
+            @Override
+            public void succeeded(CommandResult result) {
+                // Check if this is an inline edit request, unless another command is being typed
+                if (result.isInlineEdit() && commandTextField.getText().isEmpty()) {
+                    showCommandText(result.getEditData());
+                }
+            }
 
-            // Check if this is an inline edit request
-            if (result.isInlineEdit()) {
-                commandTextField.setText(result.getEditData());
-                commandTextField.positionCaret(commandTextField.getText().length());
-            } else {
-                commandTextField.setText("");
+            @Override
+            public void failed(String message) {
+                // Gives the command back to be corrected, unless another command is being typed
+                if (commandTextField.getText().isEmpty()) {
+                    showCommandText(commandText);
+                    setStyleToIndicateCommandFailure();
+                }
             }
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        });
+    }
+
+    private void showCommandText(String commandText) {
+        commandTextField.setText(commandText);
+        commandTextField.positionCaret(commandTextField.getText().length());
     }
 
     /**
@@ -82,11 +100,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command, and reports its outcome to {@code listener} on the JavaFX application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#submit(String, Logic.CommandListener)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Logic.CommandListener listener);
     }
 
 }
@@ -14,8 +14,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -126,9 +125,11 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic.busyProperty());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
+        logic.setTaskListener(new TaskResultDisplay());
+
         personListPanel.getPersonListView().getSelectionModel().selectedItemProperty().addListener((
                 obs, oldPerson, newPerson)
                 -> personInfoPanel.displayPerson(newPerson));
@@ -179,48 +180,80 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command, shows its outcome once it is known, and then passes the outcome on to {@code listener}.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#submit(String, Logic.CommandListener)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            var selectedPerson = personListPanel.getPersonListView().getSelectionModel().getSelectedItem();
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private void executeCommand(String commandText, Logic.CommandListener listener) {
+        Person selectedPerson = personListPanel.getPersonListView().getSelectionModel().getSelectedItem();
+        logic.submit(commandText, new Logic.CommandListener() {
+            @Override
+            public void succeeded(CommandResult commandResult) {
+                logger.info("Result: " + commandResult.getFeedbackToUser());
+                handleCommandResult(commandResult);
+
+                if (commandText.trim().equalsIgnoreCase("undo")
+                        || commandText.trim().equalsIgnoreCase("redo")
+                        && selectedPerson != null) {
+                    personListPanel.selectPerson(selectedPerson);
+                }
+                listener.succeeded(commandResult);
             }
 
-            if (commandResult.isShowStats()) {
-                personListPanel.getPersonListView().getSelectionModel().clearSelection();
-                personInfoPanel.displayPerson(null);
+            @Override
+            public void failed(String message) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(message);
+                listener.failed(message);
             }
+        });
+    }
 
-            if (!personInfoPanel.getCurrentPersonExists()) {
-                personListPanel.getPersonListView().getSelectionModel().clearSelection();
-                personInfoPanel.displayPerson(null);
-            }
+    /**
+     * Shows {@code commandResult} to the user.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            commandResult.getPersonToSelect().ifPresent(personListPanel::selectPerson);
+        if (commandResult.isShowStats()) {
+            personListPanel.getPersonListView().getSelectionModel().clearSelection();
+            personInfoPanel.displayPerson(null);
+        }
 
-            if (commandText.trim().equalsIgnoreCase("undo")
-                    || commandText.trim().equalsIgnoreCase("redo")
-                    && selectedPerson != null) {
-                personListPanel.selectPerson(selectedPerson);
-            }
+        if (!personInfoPanel.getCurrentPersonExists()) {
+            personListPanel.getPersonListView().getSelectionModel().clearSelection();
+            personInfoPanel.displayPerson(null);
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        commandResult.getPersonToSelect().ifPresent(personListPanel::selectPerson);
+    }
+
+    /**
+     * Shows the progress and outcome of the imports and exports that run in the background.
+     * All methods are called on the JavaFX application thread.
+     */
+    private class TaskResultDisplay implements Logic.TaskListener {
+        @Override
+        public void progressed(String message) {
+            resultDisplay.setFeedbackToUser(message);
+        }
+
+        @Override
+        public void finished(CommandResult result) {
+            handleCommandResult(result);
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        @Override
+        public void failed(String message) {
+            resultDisplay.setFeedbackToUser(message);
         }
     }
 }
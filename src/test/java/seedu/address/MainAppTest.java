@@ -0,0 +1,208 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonLinesAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class MainAppTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void initModelManager_jsonLinesFileWithInvalidLine_invalidLineKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.jsonl");
+        new JsonLinesAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+        String invalidLine = "{\"name\":\"Broken";
+        lines.add(1, invalidLine);
+        Files.write(filePath, lines);
+
+        StorageManager storage = new StorageManager(new JsonLinesAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+        Model model = new MainApp().initModelManager(storage, new UserPrefs());
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        assertEquals(1, storage.getSkippedRecords().size());
+
+        // later saves neither lose the line nor back the file up again
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(lines, Files.readAllLines(testFolder.resolve("addressbook.jsonl.bak")));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.jsonl.1.bak")));
+
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+        assertTrue(storage.getSkippedRecords().isEmpty());
+    }
+
+    @Test
+    public void initAddressBookStorage_compressionTurnedOnThenOff_userPrefsUnchanged() throws Exception {
+        Path prefsFilePath = testFolder.resolve("preferences.json");
+        JsonUserPrefsStorage prefsStorage = new JsonUserPrefsStorage(prefsFilePath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        userPrefs.setDataFileCompressed(true);
+
+        MainApp app = new MainApp();
+        assertEquals(testFolder.resolve("addressbook.json.gz"),
+                app.initAddressBookStorage(userPrefs).getAddressBookFilePath());
+        assertEquals(testFolder.resolve("addressbook.json.gz"),
+                new ModelManager(new AddressBook(), userPrefs).getAddressBookFilePath());
+
+        // the configured path is saved, not the compressed one
+        prefsStorage.saveUserPrefs(userPrefs);
+        UserPrefs savedPrefs = prefsStorage.readUserPrefs().get();
+        assertEquals(testFolder.resolve("addressbook.json"), savedPrefs.getAddressBookFilePath());
+
+        savedPrefs.setDataFileCompressed(false);
+        assertEquals(testFolder.resolve("addressbook.json"),
+                app.initAddressBookStorage(savedPrefs).getAddressBookFilePath());
+    }
+
+    @Test
+    public void initAddressBookStorage_binaryWithJsonPath_jsonDataCarriedOverToBinaryFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(getTypicalAddressBook());
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        userPrefs.setDataFileBinary(true);
+
+        AddressBookStorage addressBookStorage = new MainApp().initAddressBookStorage(userPrefs);
+        assertEquals(testFolder.resolve("addressbook.bin"), addressBookStorage.getAddressBookFilePath());
+        assertEquals(jsonFilePath, userPrefs.getAddressBookFilePath());
+
+        addressBookStorage.saveAddressBook(addressBookStorage.readAddressBook().get());
+        assertTrue(Files.exists(testFolder.resolve("addressbook.bin")));
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void initModelManager_compressionTurnedOnThenOff_changesKept() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        userPrefs.setDataFileCompressed(true);
+
+        // a change saved while compressed
+        StorageManager storage = initStorage(userPrefs);
+        Model model = new MainApp().initModelManager(storage, userPrefs);
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        storage.saveAddressBook(model.getAddressBook());
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        // is still there once compression is turned off, and the other way round
+        userPrefs.setDataFileCompressed(false);
+        storage = initStorage(userPrefs);
+        model = new MainApp().initModelManager(storage, userPrefs);
+        assertEquals(expectedAddressBook, new AddressBook(model.getAddressBook()));
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        storage.saveAddressBook(model.getAddressBook());
+        expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        Files.setLastModifiedTime(testFolder.resolve("addressbook.json.gz"), FileTime.fromMillis(0));
+        userPrefs.setDataFileCompressed(true);
+        model = new MainApp().initModelManager(initStorage(userPrefs), userPrefs);
+        assertEquals(expectedAddressBook, new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void initModelManager_binaryTurnedOnThenOff_changesKept() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        userPrefs.setDataFileBinary(true);
+
+        // a change saved to the binary file
+        StorageManager storage = initStorage(userPrefs);
+        Model model = new MainApp().initModelManager(storage, userPrefs);
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        storage.saveAddressBook(model.getAddressBook());
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        // is still there once binary data files are turned off, and the other way round
+        userPrefs.setDataFileBinary(false);
+        storage = initStorage(userPrefs);
+        model = new MainApp().initModelManager(storage, userPrefs);
+        assertEquals(expectedAddressBook, new AddressBook(model.getAddressBook()));
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        storage.saveAddressBook(model.getAddressBook());
+        expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        Files.setLastModifiedTime(testFolder.resolve("addressbook.bin"), FileTime.fromMillis(0));
+        userPrefs.setDataFileBinary(true);
+        model = new MainApp().initModelManager(initStorage(userPrefs), userPrefs);
+        assertEquals(expectedAddressBook, new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void initModelManager_logStructuredTurnedOnThenOff_changesKept() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        userPrefs.setDataFileLogStructured(true);
+
+        // a change saved to the data directory
+        StorageManager storage = initStorage(userPrefs);
+        assertEquals(testFolder.resolve("addressbook"), storage.getAddressBookFilePath());
+        Model model = new MainApp().initModelManager(storage, userPrefs);
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        storage.saveAddressBook(model.getAddressBook());
+        storage.close();
+        assertTrue(Files.isDirectory(testFolder.resolve("addressbook")));
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        // is still there once log-structured data files are turned off, and the other way round
+        userPrefs.setDataFileLogStructured(false);
+        storage = initStorage(userPrefs);
+        model = new MainApp().initModelManager(storage, userPrefs);
+        assertEquals(expectedAddressBook, new AddressBook(model.getAddressBook()));
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        storage.saveAddressBook(model.getAddressBook());
+        expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        Files.setLastModifiedTime(jsonFilePath, FileTime.from(Instant.now().plusSeconds(60)));
+        userPrefs.setDataFileLogStructured(true);
+        storage = initStorage(userPrefs);
+        model = new MainApp().initModelManager(storage, userPrefs);
+        storage.close();
+        assertEquals(expectedAddressBook, new AddressBook(model.getAddressBook()));
+    }
+
+    /**
+     * Returns the storage that {@code MainApp} uses for the data file chosen in {@code userPrefs}.
+     */
+    private StorageManager initStorage(UserPrefs userPrefs) {
+        return new StorageManager(new MainApp().initAddressBookStorage(userPrefs),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+    }
+
+}
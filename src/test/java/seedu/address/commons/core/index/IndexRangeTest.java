@@ -0,0 +1,87 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    private static final List<String> ITEMS = List.of("a", "b", "c", "d");
+
+    @Test
+    public void between_firstAfterLast_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void getSingleIndex() {
+        assertEquals(Optional.of(Index.fromOneBased(2)), IndexRange.of(Index.fromOneBased(2)).getSingleIndex());
+        assertEquals(Optional.of(Index.fromOneBased(2)),
+                IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(2)).getSingleIndex());
+        assertEquals(Optional.empty(),
+                IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(2)).getSingleIndex());
+        assertEquals(Optional.empty(), IndexRange.all().getSingleIndex());
+    }
+
+    @Test
+    public void isWithin() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(4));
+        assertTrue(range.isWithin(4));
+        assertFalse(range.isWithin(3));
+        assertTrue(IndexRange.all().isWithin(0));
+    }
+
+    @Test
+    public void select() {
+        assertEquals(List.of("b", "c"),
+                IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(3)).select(ITEMS));
+        assertEquals(List.of("d"), IndexRange.of(Index.fromOneBased(4)).select(ITEMS));
+        assertEquals(ITEMS, IndexRange.all().select(ITEMS));
+
+        // range past the end of the list
+        assertThrows(IllegalArgumentException.class, () -> IndexRange.of(Index.fromOneBased(5)).select(ITEMS));
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(3));
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // same values -> returns true
+        assertTrue(range.equals(IndexRange.between(Index.fromZeroBased(0), Index.fromZeroBased(2))));
+        assertEquals(range.hashCode(),
+                IndexRange.between(Index.fromZeroBased(0), Index.fromZeroBased(2)).hashCode());
+        assertTrue(IndexRange.of(Index.fromOneBased(1))
+                .equals(IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(1))));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different types -> returns false
+        assertFalse(range.equals(5.0f));
+
+        // different range -> returns false
+        assertFalse(range.equals(IndexRange.of(Index.fromOneBased(1))));
+        assertFalse(range.equals(IndexRange.all()));
+        assertFalse(IndexRange.all().equals(range));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Index first = Index.fromOneBased(1);
+        Index last = Index.fromOneBased(3);
+        assertEquals(IndexRange.class.getCanonicalName() + "{first=" + first + ", last=" + last + "}",
+                IndexRange.between(first, last).toString());
+        assertEquals(IndexRange.class.getCanonicalName() + "{all=true}", IndexRange.all().toString());
+    }
+
+}
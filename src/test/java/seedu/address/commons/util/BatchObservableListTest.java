@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchObservableListTest {
+
+    private final BatchObservableList<String> list = new BatchObservableList<>(List.of("a", "b", "c", "d"));
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<String>) change -> changes.add(change.toString()));
+    }
+
+    @Test
+    public void batch_manyChanges_listenersNotifiedOnce() {
+        list.batch(() -> {
+            list.remove("a");
+            list.set(1, "x");
+            list.add("e");
+            list.batch(() -> list.add(0, "z"));
+        });
+
+        assertEquals(List.of("z", "b", "x", "d", "e"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void batch_changesThrow_listenersNotifiedOfChangesMade() {
+        assertThrows(IllegalStateException.class, () -> list.batch(() -> {
+            list.add("e");
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void addAll_range_oneAddition() {
+        List<Boolean> wasAdded = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                wasAdded.add(change.wasAdded() && !change.wasRemoved() && change.getFrom() == 1
+                        && change.getAddedSubList().equals(List.of("x", "y")));
+            }
+        });
+
+        assertTrue(list.addAll(1, List.of("x", "y")));
+        assertFalse(list.addAll(List.of()));
+
+        assertEquals(List.of("a", "x", "y", "b", "c", "d"), list);
+        assertEquals(List.of(true), wasAdded);
+    }
+
+    @Test
+    public void remove_range_oneRemoval() {
+        List<List<String>> removed = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.add(new ArrayList<>(change.getRemoved()));
+            }
+        });
+
+        list.remove(1, 3);
+        list.subList(1, 2).clear();
+
+        assertEquals(List.of("a"), list);
+        assertEquals(List.of(List.of("b", "c"), List.of("d")), removed);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0, 2));
+    }
+
+    @Test
+    public void sort_unsortedItems_permutation() {
+        BatchObservableList<String> unsorted = new BatchObservableList<>(List.of("c", "a", "b"));
+        List<Boolean> wasPermutated = new ArrayList<>();
+        unsorted.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                wasPermutated.add(change.wasPermutated());
+            }
+        });
+
+        unsorted.sort(null);
+        assertEquals(List.of("a", "b", "c"), unsorted);
+        unsorted.sort(Comparator.reverseOrder());
+        assertEquals(List.of("c", "b", "a"), unsorted);
+        assertEquals(List.of(true, true), wasPermutated);
+    }
+
+}
@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvReader(null));
+    }
+
+    @Test
+    public void readRecord_emptyInput_noRecords() throws Exception {
+        assertEquals(List.of(), readAll(""));
+        assertEquals(List.of(), readAll("\r\n\n"));
+    }
+
+    @Test
+    public void readRecord_unquotedFields() throws Exception {
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("d", "", "")), readAll("a,b,c\nd,,"));
+    }
+
+    @Test
+    public void readRecord_quotedFields_quotesRemoved() throws Exception {
+        assertEquals(List.of(List.of("a,b", "say \"hi\"", "")), readAll("\"a,b\",\"say \"\"hi\"\"\",\"\"\n"));
+    }
+
+    @Test
+    public void readRecord_lineBreakInQuotedField_keptInField() throws Exception {
+        assertEquals(List.of(List.of("1", "line one\r\nline two"), List.of("2", "x")),
+                readAll("1,\"line one\r\nline two\"\r\n2,x\r\n"));
+    }
+
+    @Test
+    public void readRecord_mixedLineBreaksAndBlankLines() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\r\n\r\nb\rc\n\n\"d\ne\"\nf"));
+        List<String> fields = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> firstFields = new ArrayList<>();
+        while (reader.readRecord(fields)) {
+            lineNumbers.add(reader.getRecordLineNumber());
+            firstFields.add(fields.get(0));
+        }
+        assertEquals(List.of("a", "b", "c", "d\ne", "f"), firstFields);
+        assertEquals(List.of(1, 3, 4, 6, 8), lineNumbers);
+    }
+
+    @Test
+    public void readRecord_lineBreaksInQuotedFields_countedAsLines() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"a\rb\",1\r\"c\r\nd\ne\",\"\r\"\r\nf"));
+        List<String> fields = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        while (reader.readRecord(fields)) {
+            lineNumbers.add(reader.getRecordLineNumber());
+        }
+        assertEquals(List.of(1, 3, 7), lineNumbers);
+
+        // errors after a CR in a quoted field report the line they are on
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_TEXT_AFTER_QUOTE, 3, 'x'), () ->
+                readAll("\"a\rb\"\r\"c\"x"));
+    }
+
+    @Test
+    public void readRecord_quoteInUnquotedField_keptInField() throws Exception {
+        assertEquals(List.of(List.of("5\" screen", "b")), readAll("5\" screen,b"));
+    }
+
+    @Test
+    public void readRecord_longFields_readAcrossBlocks() throws Exception {
+        String longField = "x".repeat(200_000);
+        String quotedLongField = "\"\"".repeat(100_000);
+        assertEquals(List.of(List.of(longField, "\"".repeat(100_000))),
+                readAll(longField + ",\"" + quotedLongField + "\""));
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2), () ->
+                readAll("a\n\"b,c\nd"));
+    }
+
+    @Test
+    public void readRecord_textAfterClosingQuote_throwsIoException() {
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_TEXT_AFTER_QUOTE, 1, 'x'), () ->
+                readAll("\"a\"x,b"));
+    }
+
+    @Test
+    public void readRecord_afterLastRecord_fieldsCleared() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b"));
+        List<String> fields = new ArrayList<>();
+        assertTrue(reader.readRecord(fields));
+        assertFalse(reader.readRecord(fields));
+        assertEquals(List.of(), fields);
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<String> fields = new ArrayList<>();
+            while (reader.readRecord(fields)) {
+                records.add(new ArrayList<>(fields));
+            }
+        }
+        return records;
+    }
+
+}
@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvWriter(null));
+    }
+
+    @Test
+    public void writeField_quotesEscaped() throws Exception {
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.writeField("a,b").writeField("say \"hi\"").writeField("");
+            writer.endRecord();
+            writer.writeField("\"");
+            writer.endRecord();
+        }
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"\"" + NEWLINE + "\"\"\"\"" + NEWLINE, output.toString());
+    }
+
+    @Test
+    public void beginField_fieldWrittenInParts() throws Exception {
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.beginField().append("tag:").append('[').append("x\"y").append('"').append(']').endField();
+            writer.endRecord();
+        }
+        assertEquals("\"tag:[x\"\"y\"\"]\"" + NEWLINE, output.toString());
+    }
+
+    @Test
+    public void flush_writesBufferedOutput() throws Exception {
+        StringWriter output = new StringWriter();
+        CsvWriter writer = new CsvWriter(output);
+        writer.writeField("a");
+        assertEquals("", output.toString());
+        writer.flush();
+        assertEquals("\"a\"", output.toString());
+    }
+
+    @Test
+    public void writeField_readBackByCsvReader_sameFields() throws Exception {
+        List<String> fields = List.of("x".repeat(100_000), "\"".repeat(50_000), "line one\nline two", ",");
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            for (String field : fields) {
+                writer.writeField(field);
+            }
+            writer.endRecord();
+        }
+        assertEquals(List.of(fields), readAll(output.toString()));
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<String> fields = new ArrayList<>();
+            while (reader.readRecord(fields)) {
+                records.add(new ArrayList<>(fields));
+            }
+        }
+        return records;
+    }
+
+}
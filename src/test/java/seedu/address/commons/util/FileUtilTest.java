@@ -1,13 +1,29 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CancellationException;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ProgressMonitor;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,125 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void hasExtension() {
+        assertTrue(FileUtil.hasExtension(Paths.get("data", "contacts.csv"), ".csv"));
+        assertTrue(FileUtil.hasExtension(Paths.get("data", "contacts.csv.gz"), ".csv"));
+        assertFalse(FileUtil.hasExtension(Paths.get("data", "contacts.gz"), ".csv"));
+        assertFalse(FileUtil.hasExtension(Paths.get("data", "contacts.json"), ".csv"));
+    }
+
+    @Test
+    public void replaceExtension() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                FileUtil.replaceExtension(Paths.get("data", "addressbook.json"), ".json", ".bin"));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                FileUtil.replaceExtension(Paths.get("data", "addressbook.bin"), ".json", ".bin"));
+        assertEquals(Paths.get("data", "json"), FileUtil.replaceExtension(Paths.get("data", "json"), ".json", ".bin"));
+    }
+
+    @Test
+    public void toGzipFile() {
+        assertEquals(Paths.get("data", "addressbook.json.gz"),
+                FileUtil.toGzipFile(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.json.gz"), FileUtil.toGzipFile(Paths.get("addressbook.json.gz")));
+    }
+
+    @Test
+    public void getNewerFile() throws Exception {
+        Path file = testFolder.resolve("addressbook.json");
+        Path other = testFolder.resolve("addressbook.json.gz");
+
+        // neither or only one exists
+        assertEquals(file, FileUtil.getNewerFile(file, other));
+        Files.writeString(other, "compressed");
+        assertEquals(other, FileUtil.getNewerFile(file, other));
+
+        Files.writeString(file, "uncompressed");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(other, FileTime.fromMillis(2000));
+        assertEquals(other, FileUtil.getNewerFile(file, other));
+        assertEquals(other, FileUtil.getNewerFile(other, file));
+
+        // modified at the same time
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2000));
+        assertEquals(file, FileUtil.getNewerFile(file, other));
+    }
+
+    @Test
+    public void backUp_earlierBackups_earlierBackupsKept() throws Exception {
+        Path file = testFolder.resolve("addressbook.jsonl");
+        Files.writeString(file, "first");
+        assertEquals(testFolder.resolve("addressbook.jsonl.bak"), FileUtil.backUp(file));
+        Files.writeString(file, "second");
+        assertEquals(testFolder.resolve("addressbook.jsonl.1.bak"), FileUtil.backUp(file));
+
+        assertEquals("first", Files.readString(testFolder.resolve("addressbook.jsonl.bak")));
+        assertEquals("second", Files.readString(testFolder.resolve("addressbook.jsonl.1.bak")));
+        assertEquals("second", Files.readString(file));
+    }
+
+    @Test
+    public void newOutputStream_gzipFile_readBackByNewInputStream() throws Exception {
+        Path file = testFolder.resolve("test.txt.gz");
+        byte[] content = "repeated text ".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = FileUtil.newOutputStream(file)) {
+            out.write(content);
+        }
+
+        assertTrue(Files.size(file) < content.length / 10);
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertEquals(new String(content, StandardCharsets.UTF_8),
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void newInputStream_monitor_reportsBytesOfFileRead() throws Exception {
+        Path file = testFolder.resolve("test.txt.gz");
+        try (OutputStream out = FileUtil.newOutputStream(file)) {
+            out.write("repeated text ".repeat(1000).getBytes(StandardCharsets.UTF_8));
+        }
+        long[] lastWorked = new long[2];
+        ProgressMonitor monitor = new ProgressMonitor() {
+            @Override
+            public void worked(long done, long total) {
+                lastWorked[0] = done;
+                lastWorked[1] = total;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+        };
+
+        try (InputStream in = FileUtil.newInputStream(file, monitor)) {
+            in.readAllBytes();
+        }
+
+        // Progress is counted in bytes of the compressed file.
+        assertEquals(Files.size(file), lastWorked[0]);
+        assertEquals(Files.size(file), lastWorked[1]);
+    }
+
+    @Test
+    public void newInputStream_cancelledMonitor_throwsCancellationException() throws Exception {
+        Path file = testFolder.resolve("test.txt");
+        Files.writeString(file, "text");
+        ProgressMonitor monitor = new ProgressMonitor() {
+            @Override
+            public void worked(long done, long total) {}
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+
+        try (InputStream in = FileUtil.newInputStream(file, monitor)) {
+            assertThrows(CancellationException.class, in::read);
+        }
+    }
+
 }
@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Interner<String>(0));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>(1).intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>(10);
+        String first = new String("call");
+        String second = new String("call");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_beyondMaxSize_returnsValueUnchanged() {
+        Interner<String> interner = new Interner<>(1);
+        interner.intern("call");
+
+        String overflow = new String("meeting");
+        assertSame(overflow, interner.intern(overflow));
+        assertNotSame(overflow, interner.intern(new String("meeting")));
+        assertEquals(1, interner.size());
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+
+    @Test
+    public void put_null_throwsNullPointerException() {
+        LruCache<String, String> cache = new LruCache<>(1);
+        assertThrows(NullPointerException.class, () -> cache.put(null, "value"));
+        assertThrows(NullPointerException.class, () -> cache.put("key", null));
+    }
+
+    @Test
+    public void get_missingKey_empty() {
+        assertFalse(new LruCache<String, String>(1).get("key").isPresent());
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedForgotten() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(Optional.of(1), cache.get("a"));
+
+        // "b" was used least recently
+        cache.put("c", 3);
+        assertEquals(2, cache.size());
+        assertFalse(cache.get("b").isPresent());
+        assertEquals(Optional.of(1), cache.get("a"));
+        assertEquals(Optional.of(3), cache.get("c"));
+    }
+
+}
@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelCsvReaderTest {
+
+    private static final String CSV = "a,\"b\nc\",d\r\n"
+            + "\r\n"
+            + "\"e \"\"quoted\"\"\",f\r"
+            + "5\" screen,\"g,\r\nh\"\n"
+            + "\n"
+            + "i,\"\"\n"
+            + "j";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void canSplit() {
+        assertTrue(ParallelCsvReader.canSplit(StandardCharsets.UTF_8));
+        assertTrue(ParallelCsvReader.canSplit(StandardCharsets.ISO_8859_1));
+        assertFalse(ParallelCsvReader.canSplit(StandardCharsets.UTF_16));
+    }
+
+    @Test
+    public void read_anyChunkSize_sameRecordsAsCsvReader() throws Exception {
+        Path file = write(CSV);
+        List<String> expected = readWithCsvReader(CSV);
+        for (long chunkBytes = 1; chunkBytes <= CSV.length() + 1; chunkBytes++) {
+            assertEquals(expected, ParallelCsvReader.read(file, StandardCharsets.UTF_8,
+                    ParallelCsvReaderTest::describe, chunkBytes), "chunk size " + chunkBytes);
+        }
+    }
+
+    @Test
+    public void read_emptyFile_noRecords() throws Exception {
+        assertEquals(List.of(), ParallelCsvReader.read(write(""), StandardCharsets.UTF_8, fields -> fields));
+    }
+
+    @Test
+    public void read_invalidCsvInLaterChunk_reportsLineInFile() throws Exception {
+        Path file = write("a\r\n\"b\nc\"\nd\n\"e\"x\n\"f");
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_TEXT_AFTER_QUOTE, 5, 'x'), () ->
+                ParallelCsvReader.read(file, StandardCharsets.UTF_8, fields -> fields, 1));
+    }
+
+    @Test
+    public void read_invalidCsvAfterCarriageReturnInQuotedField_reportsLineInFile() throws Exception {
+        Path file = write("a\n\"b\rc\"\nd\n\"e\r\nf\"\n\"g\"x\n\"h");
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_TEXT_AFTER_QUOTE, 7, 'x'), () ->
+                ParallelCsvReader.read(file, StandardCharsets.UTF_8, fields -> fields, 1));
+    }
+
+    @Test
+    public void read_severalInvalidRecords_reportsFirst() throws Exception {
+        Path file = write("ok\nbad 1\nok\nbad 2\n");
+        assertThrows(IllegalValueException.class, "bad 1", () ->
+                ParallelCsvReader.read(file, StandardCharsets.UTF_8, fields -> {
+                    if (fields.get(0).startsWith("bad")) {
+                        throw new IllegalValueException(fields.get(0));
+                    }
+                    return fields.get(0);
+                }, 1));
+    }
+
+    /**
+     * Describes a record by its fields.
+     */
+    private static String describe(List<String> fields) {
+        return fields.toString();
+    }
+
+    private static List<String> readWithCsvReader(String csv) throws IOException {
+        List<String> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<String> fields = new ArrayList<>();
+            while (reader.readRecord(fields)) {
+                records.add(describe(fields));
+            }
+        }
+        return records;
+    }
+
+    private Path write(String csv) throws IOException {
+        Path file = testFolder.resolve("test.csv");
+        Files.writeString(file, csv);
+        return file;
+    }
+
+}
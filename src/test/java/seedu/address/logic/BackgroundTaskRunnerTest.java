@@ -0,0 +1,182 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class BackgroundTaskRunnerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    // Reports are handled on the thread that runs the task, as if it executed commands.
+    private final BackgroundTaskRunner runner = new BackgroundTaskRunner(Runnable::run);
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    public void start_taskCompletes_completionPassedOn() throws Exception {
+        CommandResult result = new CommandResult("done");
+        runner.start(new TaskStub(monitor -> model -> result), listener);
+
+        assertEquals(result, listener.nextCompletion().complete(null));
+        assertFalse(runner.isRunning());
+    }
+
+    @Test
+    public void start_taskFails_failurePassedOn() throws Exception {
+        runner.start(new TaskStub(monitor -> {
+            throw new CommandException("broken");
+        }), listener);
+
+        assertEquals(String.format(BackgroundTaskRunner.MESSAGE_TASK_FAILED, "broken"), listener.nextFailure());
+        assertFalse(runner.isRunning());
+    }
+
+    @Test
+    public void start_taskThrowsError_failurePassedOnAndNextTaskStarts() throws Exception {
+        OutOfMemoryError error = new OutOfMemoryError("Java heap space");
+        runner.start(new TaskStub(monitor -> {
+            throw error;
+        }), listener);
+
+        assertEquals(String.format(BackgroundTaskRunner.MESSAGE_TASK_FAILED, error), listener.nextFailure());
+        assertFalse(runner.isRunning());
+
+        runner.start(new TaskStub(monitor -> model -> new CommandResult("next")), listener);
+        assertEquals(new CommandResult("next"), listener.nextCompletion().complete(null));
+    }
+
+    @Test
+    public void start_taskRunning_throwsCommandException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        runner.start(new TaskStub(monitor -> {
+            release.await();
+            return model -> new CommandResult("first");
+        }), listener);
+
+        assertThrows(CommandException.class, BackgroundTaskRunner.MESSAGE_TASK_RUNNING, () ->
+                runner.start(new TaskStub(monitor -> model -> new CommandResult("second")), listener));
+
+        release.countDown();
+        assertEquals(new CommandResult("first"), listener.nextCompletion().complete(null));
+    }
+
+    @Test
+    public void cancel_taskRunning_cancellationPassedOn() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        runner.start(new TaskStub(monitor -> {
+            started.countDown();
+            while (true) {
+                monitor.checkCancelled();
+                Thread.sleep(1);
+            }
+        }), listener);
+        started.await();
+
+        runner.cancel();
+
+        assertEquals(BackgroundTaskRunner.MESSAGE_TASK_CANCELLED, listener.nextFailure());
+        assertFalse(runner.isRunning());
+    }
+
+    @Test
+    public void cancel_noTaskRunning_throwsCommandException() {
+        assertThrows(CommandException.class, BackgroundTaskRunner.MESSAGE_NO_TASK_RUNNING, runner::cancel);
+    }
+
+    @Test
+    public void worked_allDone_progressPassedOn() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        runner.start(new TaskStub(monitor -> {
+            monitor.worked(3, 3);
+            release.await();
+            return model -> new CommandResult("done");
+        }), listener);
+
+        assertEquals("3 of 3", listener.progress.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(runner.isRunning());
+        release.countDown();
+        listener.nextCompletion();
+    }
+
+    /**
+     * The work done by a {@code TaskStub}.
+     */
+    private interface Work {
+        BackgroundTask.Completion run(ProgressMonitor monitor) throws Exception;
+    }
+
+    /**
+     * A task that does the given work, and describes its progress as "done of total".
+     */
+    private static class TaskStub implements BackgroundTask {
+        private final Work work;
+
+        TaskStub(Work work) {
+            this.work = work;
+        }
+
+        @Override
+        public Completion run(ProgressMonitor monitor) throws CommandException {
+            try {
+                return work.run(monitor);
+            } catch (CommandException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public String describeProgress(long done, long total) {
+            return done + " of " + total;
+        }
+    }
+
+    /**
+     * A listener that records what it is told.
+     */
+    private static class RecordingListener implements BackgroundTaskRunner.Listener {
+        final BlockingQueue<String> progress = new LinkedBlockingQueue<>();
+        final BlockingQueue<BackgroundTask.Completion> completions = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> failures = new LinkedBlockingQueue<>();
+
+        @Override
+        public void progressed(String message) {
+            progress.add(message);
+        }
+
+        @Override
+        public void completed(BackgroundTask.Completion completion) {
+            completions.add(completion);
+        }
+
+        @Override
+        public void failed(String message) {
+            failures.add(message);
+        }
+
+        BackgroundTask.Completion nextCompletion() throws InterruptedException {
+            BackgroundTask.Completion completion = completions.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertTrue(completion != null, "the task did not complete");
+            return completion;
+        }
+
+        String nextFailure() throws InterruptedException {
+            return failures.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.commons.util.BatchObservableList;
+
+public class ListMirrorTest {
+
+    @Test
+    public void takeChanges_notRun_copyUnchanged() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+        ListMirror<String> mirror = new ListMirror<>(source);
+
+        source.add("c");
+        Runnable changes = mirror.takeChanges();
+        assertEquals(List.of("a", "b"), mirror.getList());
+
+        changes.run();
+        assertEquals(List.of("a", "b", "c"), mirror.getList());
+    }
+
+    @Test
+    public void takeChanges_randomChangesToFilteredSortedList_sameAsSource() {
+        Random random = new Random(42);
+        ObservableList<String> items = FXCollections.observableArrayList();
+        FilteredList<String> filtered = new FilteredList<>(items);
+        SortedList<String> sorted = new SortedList<>(filtered, Comparator.naturalOrder());
+        ListMirror<String> mirror = new ListMirror<>(sorted);
+
+        for (int round = 0; round < 200; round++) {
+            for (int i = 0; i < 5; i++) {
+                changeRandomly(random, items, filtered, sorted);
+            }
+            mirror.takeChanges().run();
+            assertEquals(sorted, mirror.getList());
+        }
+    }
+
+    @Test
+    public void takeChanges_sourceSorted_itemsMovedAsPermutation() {
+        ObservableList<String> items = FXCollections.observableArrayList("c", "a", "b");
+        SortedList<String> sorted = new SortedList<>(items);
+        ListMirror<String> mirror = new ListMirror<>(sorted);
+        List<Boolean> wasPermutated = new ArrayList<>();
+        mirror.getList().addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                wasPermutated.add(change.wasPermutated());
+            }
+        });
+        String item = mirror.getList().get(0);
+
+        sorted.setComparator(Comparator.naturalOrder());
+        mirror.takeChanges().run();
+
+        assertEquals(List.of("a", "b", "c"), mirror.getList());
+        assertEquals(List.of(true), wasPermutated);
+        assertSame(item, mirror.getList().get(2));
+    }
+
+    @Test
+    public void takeChanges_changesInOneEvent_copyChangedInOneEvent() {
+        BatchObservableList<String> source = new BatchObservableList<>(List.of("a", "b", "c"));
+        ListMirror<String> mirror = new ListMirror<>(new SortedList<>(source, Comparator.naturalOrder()));
+        List<Integer> changeCounts = new ArrayList<>();
+        mirror.getList().addListener((ListChangeListener<String>) change -> changeCounts.add(1));
+
+        source.batch(() -> {
+            source.remove("a");
+            source.set(1, "d");
+            source.add("0");
+        });
+        mirror.takeChanges().run();
+
+        assertEquals(List.of("0", "b", "d"), mirror.getList());
+        assertEquals(List.of(1), changeCounts);
+    }
+
+    @Test
+    public void getList_modify_throwsUnsupportedOperationException() {
+        ListMirror<String> mirror = new ListMirror<>(FXCollections.observableArrayList("a"));
+        assertThrows(UnsupportedOperationException.class, () -> mirror.getList().remove(0));
+    }
+
+    private static void changeRandomly(Random random, ObservableList<String> items, FilteredList<String> filtered,
+            SortedList<String> sorted) {
+        switch (random.nextInt(6)) {
+        case 0:
+            items.add(random.nextInt(items.size() + 1), "item" + random.nextInt(1000));
+            break;
+        case 1:
+            if (!items.isEmpty()) {
+                items.remove(random.nextInt(items.size()));
+            }
+            break;
+        case 2:
+            if (!items.isEmpty()) {
+                items.set(random.nextInt(items.size()), "item" + random.nextInt(1000));
+            }
+            break;
+        case 3:
+            int modulus = random.nextInt(3) + 1;
+            filtered.setPredicate(item -> item.hashCode() % modulus == 0);
+            break;
+        case 4:
+            sorted.setComparator(random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+            break;
+        default:
+            List<String> replacement = new ArrayList<>();
+            for (int i = random.nextInt(20); i > 0; i--) {
+                replacement.add("item" + random.nextInt(1000));
+            }
+            items.setAll(replacement);
+            break;
+        }
+        assertTrue(sorted.size() <= items.size());
+    }
+
+}
@@ -1,6 +1,10 @@
 package seedu.address.logic;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,14 +17,24 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -45,11 +59,14 @@ public class LogicManagerTest {
 
     @BeforeEach
     public void setUp() {
+        logic = new LogicManager(model, createStorage(), Runnable::run);
+    }
+
+    private StorageManager createStorage() {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 
     @Test
@@ -70,6 +87,11 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_cancelWithoutRunningTask_throwsCommandException() {
+        assertCommandException(CancelCommand.COMMAND_WORD, BackgroundTaskRunner.MESSAGE_NO_TASK_RUNNING);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +104,67 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void flush_afterCommands_dataSaved() throws Exception {
+        // The savers of other tests may still be writing to the default file.
+        model.setAddressBookFilePath(temporaryFolder.resolve("savedAddressBook.json"));
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flush();
+
+        JsonAddressBookStorage savedStorage = new JsonAddressBookStorage(model.getAddressBookFilePath());
+        assertEquals(model.getAddressBook().getPersonList(), savedStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void submit_manyCommands_outcomesInSubmittedOrderOnUiExecutor() throws Exception {
+        UiThread uiThread = new UiThread();
+        logic = new LogicManager(model, createStorage(), uiThread);
+        List<String> commands = List.of(ListCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, "delete 9",
+                StatsCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD);
+        List<String> outcomes = new ArrayList<>();
+
+        for (String command : commands) {
+            logic.submit(command, new Logic.CommandListener() {
+                @Override
+                public void succeeded(CommandResult result) {
+                    outcomes.add(command);
+                }
+
+                @Override
+                public void failed(String message) {
+                    outcomes.add(command + ": " + message);
+                }
+            });
+        }
+        assertTrue(logic.busyProperty().get());
+        logic.flush();
+        uiThread.runUntil(() -> outcomes.size() == commands.size());
+
+        assertEquals(List.of(ListCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+                "delete 9: " + MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, StatsCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD), outcomes);
+        assertFalse(logic.busyProperty().get());
+    }
+
+    @Test
+    public void getFilteredPersonList_afterCommand_changedOnlyOnUiExecutor() throws Exception {
+        UiThread uiThread = new UiThread();
+        logic = new LogicManager(model, createStorage(), uiThread);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        logic.execute(addCommand);
+        assertEquals(List.of(), logic.getFilteredPersonList());
+        assertEquals(List.of(), logic.getAddressBook().getPersonList());
+
+        uiThread.runUntil(() -> !logic.getFilteredPersonList().isEmpty());
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+        assertEquals(model.getAddressBook().getPersonList(), logic.getAddressBook().getPersonList());
+        assertEquals(model.getAddressBook().getVersion(), logic.getAddressBook().getVersion());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -142,6 +225,7 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * Data is saved in the background, so the failure is reported once the save has been waited for.
      *
      * @param e the exception to be thrown by the Storage component
      * @param expectedMessage the message expected inside exception thrown by the Logic component
@@ -162,7 +246,7 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Runnable::run);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -170,6 +254,31 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertDoesNotThrow(() -> logic.execute(addCommand));
+        assertThrows(CommandException.class, expectedMessage, () -> logic.flush());
+        assertEquals(expectedModel, model);
+    }
+
+    /**
+     * Stands in for the UI thread: runs what is handed to it only when the test thread asks for it.
+     */
+    private static class UiThread implements Executor {
+        private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        /**
+         * Runs the tasks handed over, on the calling thread, until {@code condition} holds.
+         */
+        void runUntil(BooleanSupplier condition) throws InterruptedException {
+            while (!condition.getAsBoolean()) {
+                Runnable task = tasks.poll(10, TimeUnit.SECONDS);
+                assertNotNull(task);
+                task.run();
+            }
+        }
     }
 }
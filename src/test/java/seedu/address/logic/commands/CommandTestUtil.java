@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import seedu.address.commons.core.ProgressMonitor;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
@@ -128,6 +129,19 @@ public class CommandTestUtil {
         assertEquals(expectedAddressBook, actualModel.getAddressBook());
         assertEquals(expectedFilteredList, actualModel.getFilteredPersonList());
     }
+
+    /**
+     * Executes the given {@code command}, then runs the background task in its result to completion on this thread
+     * and applies it to {@code model}.
+     *
+     * @return the result of the completed background task.
+     */
+    public static CommandResult executeInForeground(Command command, Model model) throws CommandException {
+        CommandResult result = command.execute(model);
+        assertTrue(result.getBackgroundTask().isPresent());
+        return result.getBackgroundTask().get().run(ProgressMonitor.NONE).complete(model);
+    }
+
     /**
      * Updates {@code model}'s filtered list to show only the person at the given {@code targetIndex} in the
      * {@code model}'s address book.
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.executeInForeground;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DedupeCommand}.
+ */
+public class DedupeCommandTest {
+
+    @Test
+    public void execute_noDuplicates_listUnchanged() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = executeInForeground(new DedupeCommand(), model);
+
+        assertEquals(DedupeCommand.MESSAGE_NO_DUPLICATES, result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_duplicates_listsDuplicates() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person aliceWithCountryCode = new PersonBuilder(ALICE).withPhone("+65 9435 1253").build();
+        addressBook.addPerson(aliceWithCountryCode);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = executeInForeground(new DedupeCommand(), model);
+
+        assertEquals(String.format(DedupeCommand.MESSAGE_DUPLICATES_FOUND, 2, 1) + "\n"
+                + ALICE.getName() + " (" + ALICE.getPhone() + "), "
+                + ALICE.getName() + " (" + aliceWithCountryCode.getPhone() + ")", result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, aliceWithCountryCode), model.getFilteredPersonList());
+    }
+
+}
@@ -1,30 +1,55 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_FILE_TYPE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EXPORT_CSV;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EXPORT_JSON;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FILEPATH_JSON;
+import static seedu.address.logic.commands.CommandTestUtil.executeInForeground;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookTransaction;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.CsvAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonLinesAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
 
 public class ExportCommandTest {
     private static Path validPath;
@@ -32,6 +57,9 @@ public class ExportCommandTest {
     private static Path jsonExportPath;
     private static Path csvExportPath;
 
+    @TempDir
+    public Path testFolder;
+
     @BeforeAll
     public static void setup() {
         try {
@@ -48,20 +76,22 @@ public class ExportCommandTest {
     public void execute_jsonPathAcceptedByModel_exportSuccessful() throws Exception {
         ModelStub modelStub = new ModelStubValidPath();
 
-        CommandResult commandResult = new ExportCommand(jsonExportPath, new HashSet<>()).execute(modelStub);
+        CommandResult commandResult = executeInForeground(new ExportCommand(jsonExportPath, new HashSet<>()),
+                modelStub);
 
-        assertEquals(String.format(String.format(ExportCommand.MESSAGE_SUCCESS, jsonExportPath)),
-                commandResult.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, jsonExportPath,
+                modelStub.getAddressBook().getVersion()), commandResult.getFeedbackToUser());
     }
 
     @Test
     public void execute_csvPathAcceptedByModel_exportSuccessful() throws Exception {
         ModelStub modelStub = new ModelStubValidPath();
 
-        CommandResult commandResult = new ExportCommand(csvExportPath, new HashSet<>()).execute(modelStub);
+        CommandResult commandResult = executeInForeground(new ExportCommand(csvExportPath, new HashSet<>()),
+                modelStub);
 
-        assertEquals(String.format(String.format(ExportCommand.MESSAGE_SUCCESS, csvExportPath)),
-                commandResult.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, csvExportPath,
+                modelStub.getAddressBook().getVersion()), commandResult.getFeedbackToUser());
     }
 
     @Test
@@ -72,10 +102,161 @@ public class ExportCommandTest {
                 .execute(modelStub));
     }
 
+    @Test
+    public void execute_csvWithPredicateAndColumns_writesMatchingFieldsOnly() throws Exception {
+        Path exportPath = testFolder.resolve("export.csv");
+        Predicate<Person> predicate = ExportCommand.hasAllTags(Set.of(Tag.of("owesMoney")))
+                .or(new NameContainsKeywordsPredicate(List.of("Carl")));
+
+        executeInForeground(new ExportCommand(exportPath, predicate, EnumSet.of(PersonColumn.NAME, PersonColumn.PHONE),
+                OptionalLong.empty()), new ModelStubWithTypicalPersons());
+
+        String newline = System.lineSeparator();
+        assertEquals("\"name:" + BENSON.getName().fullName + "\",\"phone:" + BENSON.getPhone().value + "\"" + newline
+                + "\"name:" + CARL.getName().fullName + "\",\"phone:" + CARL.getPhone().value + "\"" + newline,
+                Files.readString(exportPath));
+    }
+
+    @Test
+    public void execute_jsonWithColumns_writesMatchingFieldsOnly() throws Exception {
+        Path exportPath = testFolder.resolve("export.json");
+
+        executeInForeground(new ExportCommand(exportPath, new NameContainsKeywordsPredicate(List.of("Carl")),
+                EnumSet.of(PersonColumn.EMAIL, PersonColumn.TAG), OptionalLong.empty()),
+                new ModelStubWithTypicalPersons());
+
+        assertEquals("{\"persons\":[{\"email\":\"" + CARL.getEmail().value + "\",\"tags\":[]}]}",
+                Files.readString(exportPath).replaceAll("\\s", ""));
+    }
+
+    @Test
+    public void execute_jsonWithAllColumns_readBackAsSameAddressBook() throws Exception {
+        Path exportPath = testFolder.resolve("export.json");
+
+        executeInForeground(new ExportCommand(exportPath, new HashSet<>()), new ModelStubWithTypicalPersons());
+
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(exportPath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_jsonLines_onePersonPerLineReadBackAsSameAddressBook() throws Exception {
+        Path exportPath = testFolder.resolve("export.jsonl");
+
+        executeInForeground(new ExportCommand(exportPath, new HashSet<>()), new ModelStubWithTypicalPersons());
+
+        assertEquals(getTypicalAddressBook().getPersonList().size(), Files.readAllLines(exportPath).size());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonLinesAddressBookStorage(exportPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_gzipCsv_readBackAsSameAddressBook() throws Exception {
+        Path exportPath = testFolder.resolve("export.csv.gz");
+
+        executeInForeground(new ExportCommand(exportPath, new HashSet<>()), new ModelStubWithTypicalPersons());
+
+        assertEquals(getTypicalAddressBook(), new CsvAddressBookStorage(exportPath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_csvSinceVersion_writesChangedAndDeletedPersonsOnly() throws Exception {
+        Path exportPath = testFolder.resolve("export.csv");
+        AddressBook addressBook = new AddressBook(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+        Person editedBenson = new PersonBuilder(BENSON).withNote("Moved house").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.removePerson(CARL);
+        addressBook.addPerson(AMY);
+
+        CommandResult commandResult = executeInForeground(new ExportCommand(exportPath, unused -> true,
+                EnumSet.of(PersonColumn.NAME, PersonColumn.NOTE), OptionalLong.of(version)),
+                new ModelStubWithAddressBook(addressBook));
+
+        String newline = System.lineSeparator();
+        assertEquals("\"name:" + BENSON.getName().fullName + "\",\"note:Moved house\"" + newline
+                + "\"name:" + AMY.getName().fullName + "\",\"note:\"" + newline
+                + "\"name:" + CARL.getName().fullName + "\",\"phone:" + CARL.getPhone().value + "\",\"deleted:true\""
+                + newline, Files.readString(exportPath));
+        assertEquals(String.format(ExportCommand.MESSAGE_CHANGES_SUCCESS, 2, 1, version, exportPath,
+                addressBook.getVersion()), commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_jsonSinceVersion_writesDeletedPersons() throws Exception {
+        Path exportPath = testFolder.resolve("export.json");
+        AddressBook addressBook = new AddressBook(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+        addressBook.removePerson(CARL);
+
+        executeInForeground(new ExportCommand(exportPath, unused -> true, PersonColumn.ALL, OptionalLong.of(version)),
+                new ModelStubWithAddressBook(addressBook));
+
+        assertEquals("{\"persons\":[],\"deleted\":[{\"name\":\"" + CARL.getName().fullName.replace(" ", "")
+                + "\",\"phone\":\"" + CARL.getPhone().value + "\"}]}",
+                Files.readString(exportPath).replaceAll("\\s", ""));
+    }
+
+    @Test
+    public void execute_unknownSinceVersion_throwsCommandException() {
+        Path exportPath = testFolder.resolve("export.csv");
+        AddressBook addressBook = new AddressBook(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_UNKNOWN_VERSION, version - 1), () ->
+                new ExportCommand(exportPath, unused -> true, PersonColumn.ALL, OptionalLong.of(version - 1))
+                        .execute(new ModelStubWithAddressBook(addressBook)));
+        assertFalse(Files.exists(exportPath));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportAll = new ExportCommand(validPath, new HashSet<>());
+        Predicate<Person> everyone = ExportCommand.hasAllTags(Set.of());
+        ExportCommand exportSince = new ExportCommand(validPath, everyone, PersonColumn.ALL, OptionalLong.of(1));
+
+        assertTrue(exportAll.equals(exportAll));
+        assertTrue(exportAll.equals(new ExportCommand(validPath, everyone, PersonColumn.ALL, OptionalLong.empty())));
+        assertTrue(exportSince.equals(new ExportCommand(validPath, everyone, PersonColumn.ALL,
+                OptionalLong.of(1))));
+        assertFalse(exportAll.equals(exportSince));
+        assertFalse(exportAll.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportAll.equals(new ExportCommand(testFolder.resolve("other.json"), new HashSet<>())));
+
+        // different predicate -> returns false
+        assertFalse(exportAll.equals(new ExportCommand(validPath, Set.of(Tag.of("friends")))));
+
+        // different columns -> returns false
+        assertFalse(exportAll.equals(new ExportCommand(validPath, everyone, EnumSet.of(PersonColumn.NAME),
+                OptionalLong.empty())));
+    }
+
+    @Test
+    public void execute_cancelledTask_deletesExportFile() throws Exception {
+        Path exportPath = testFolder.resolve("export.csv");
+        CommandResult commandResult = new ExportCommand(exportPath, new HashSet<>())
+                .execute(new ModelStubWithTypicalPersons());
+        ProgressMonitor cancelled = new ProgressMonitor() {
+            @Override
+            public void worked(long done, long total) {}
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+
+        assertThrows(CancellationException.class, () -> commandResult.getBackgroundTask().get().run(cancelled));
+        assertFalse(Files.exists(exportPath));
+    }
+
     @Test
     public void toStringMethod() {
         ExportCommand exportCommand = new ExportCommand(validPath, new HashSet<>());
-        String expected = ExportCommand.class.getCanonicalName() + "{}";
+        String expected = ExportCommand.class.getCanonicalName() + "{exportName=" + validPath
+                + ", predicate=" + ExportCommand.hasAllTags(new HashSet<>()) + ", columns=" + PersonColumn.ALL
+                + ", sinceVersion=" + OptionalLong.empty() + "}";
         assertEquals(expected, exportCommand.toString());
     }
 
@@ -143,6 +324,11 @@ public class ExportCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<? super AddressBookTransaction> makeChanges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -192,9 +378,37 @@ public class ExportCommandTest {
      * A Model stub that always returns a valid addressbook
      */
     private class ModelStubValidPath extends ModelStub {
+        private final AddressBook addressBook = new AddressBookStubEmptyList();
+
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            return addressBook;
+        }
+    }
+
+    /**
+     * A Model stub that always returns the typical address book
+     */
+    private class ModelStubWithTypicalPersons extends ModelStub {
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            return getTypicalAddressBook();
+        }
+    }
+
+    /**
+     * A Model stub that always returns the given address book
+     */
+    private class ModelStubWithAddressBook extends ModelStub {
+        private final ReadOnlyAddressBook addressBook;
+
+        ModelStubWithAddressBook(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
-            return new AddressBookStubEmptyList();
+            return addressBook;
         }
     }
 
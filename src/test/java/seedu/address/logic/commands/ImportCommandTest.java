@@ -2,30 +2,52 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_FILEPATH;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_FILE_TYPE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FILEPATH_CSV;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FILEPATH_JSON;
+import static seedu.address.logic.commands.CommandTestUtil.executeInForeground;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookTransaction;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
+import seedu.address.storage.CsvAddressBookStorage;
+import seedu.address.storage.JsonLinesAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
 
 public class ImportCommandTest {
     private static Path validJsonPath;
@@ -33,6 +55,9 @@ public class ImportCommandTest {
     private static Path invalidPath;
     private static Path invalidFileType;
 
+    @TempDir
+    public Path testFolder;
+
     @BeforeAll
     public static void setup() {
         try {
@@ -54,7 +79,7 @@ public class ImportCommandTest {
     public void execute_pathAcceptedByModel_importJsonSuccessful() throws Exception {
         ModelStub modelStub = new ModelStubAcceptingPath();
 
-        CommandResult commandResult = new ImportCommand(validJsonPath).execute(modelStub);
+        CommandResult commandResult = executeInForeground(new ImportCommand(validJsonPath), modelStub);
 
         assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, VALID_FILEPATH_JSON.toString().replace('\\', '/')),
                 commandResult.getFeedbackToUser());
@@ -64,17 +89,46 @@ public class ImportCommandTest {
     public void execute_pathAcceptedByModel_importCsvSuccessful() throws Exception {
         ModelStub modelStub = new ModelStubAcceptingPath();
 
-        CommandResult commandResult = new ImportCommand(validCsvPath).execute(modelStub);
+        CommandResult commandResult = executeInForeground(new ImportCommand(validCsvPath), modelStub);
 
         assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, VALID_FILEPATH_CSV.toString().replace('\\', '/')),
                 commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_validPath_modelUnchangedUntilTaskCompletes() throws Exception {
+        // The model stub fails if the file is imported before the task completes.
+        CommandResult commandResult = new ImportCommand(validCsvPath).execute(new ModelStub());
+
+        assertEquals(String.format(ImportCommand.MESSAGE_STARTED, VALID_FILEPATH_CSV.replace('\\', '/')),
+                commandResult.getFeedbackToUser());
+        BackgroundTask task = commandResult.getBackgroundTask().get();
+        task.run(ProgressMonitor.NONE);
+        assertEquals(String.format(ImportCommand.MESSAGE_PROGRESS, VALID_FILEPATH_CSV.replace('\\', '/'), 50),
+                task.describeProgress(1, 2));
+    }
+
+    @Test
+    public void execute_cancelledTask_throwsCancellationException() throws Exception {
+        CommandResult commandResult = new ImportCommand(validJsonPath).execute(new ModelStub());
+        ProgressMonitor cancelled = new ProgressMonitor() {
+            @Override
+            public void worked(long done, long total) {}
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+
+        assertThrows(CancellationException.class, () -> commandResult.getBackgroundTask().get().run(cancelled));
+    }
+
     @Test
     public void execute_pathAcceptedByModel_importFailure() {
         ModelStub modelStub = new ModelStubAcceptingPath();
 
-        assertThrows(CommandException.class, () -> new ImportCommand(invalidPath)
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_INVALID_FILE, () -> new ImportCommand(invalidPath)
                 .execute(modelStub));
     }
 
@@ -86,17 +140,70 @@ public class ImportCommandTest {
                 .execute(modelStub));
     }
 
+    @Test
+    public void execute_merge_mergesIntoExistingContactsAsOneUndoableChange() throws Exception {
+        Path importPath = testFolder.resolve("import.csv");
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person conflictingAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        new CsvAddressBookStorage(importPath).savePersons(List.of(editedAlice, AMY, BENSON, conflictingAlice),
+                PersonColumn.ALL);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult commandResult = executeInForeground(new ImportCommand(importPath, true), model);
+
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.set(0, editedAlice);
+        expectedPersons.add(AMY);
+        assertEquals(expectedPersons, model.getAddressBook().getPersonList());
+        assertEquals(String.format(ImportCommand.MESSAGE_MERGE_SUCCESS, importPath.toString().replace('\\', '/'),
+                1, 1, 1) + String.format(ImportCommand.MESSAGE_MERGE_CONFLICTS, 1,
+                ALICE.getName() + " (" + ALICE.getPhone() + ")"), commandResult.getFeedbackToUser());
+
+        model.undoAddressBook();
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_jsonLinesWithInvalidLine_validLinesImported() throws Exception {
+        Path importPath = testFolder.resolve("import.jsonl");
+        new JsonLinesAddressBookStorage(importPath).saveAddressBook(getTypicalAddressBook());
+        List<String> lines = new ArrayList<>(Files.readAllLines(importPath));
+        lines.add(1, "{\"name\":\"Broken");
+        Files.write(importPath, lines);
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        Path dataFilePath = model.getAddressBookFilePath();
+
+        CommandResult commandResult = executeInForeground(new ImportCommand(importPath), model);
+
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+        assertEquals(dataFilePath, model.getAddressBookFilePath());
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, importPath.toString().replace('\\', '/'))
+                + String.format(ImportCommand.MESSAGE_SKIPPED_LINES, 1, "Line 2 is not a valid JSON person"),
+                commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(validJsonPath);
+
+        assertEquals(importCommand, new ImportCommand(validJsonPath, false));
+        assertNotEquals(importCommand, new ImportCommand(validJsonPath, true));
+        assertNotEquals(importCommand, new ImportCommand(validCsvPath));
+    }
+
     @Test
     public void toString_json_returnFilePath() {
         ImportCommand importCommand = new ImportCommand(validJsonPath);
-        String expected = ImportCommand.class.getCanonicalName() + "{filepath=" + VALID_FILEPATH_JSON + "}";
+        String expected = ImportCommand.class.getCanonicalName() + "{filepath=" + VALID_FILEPATH_JSON
+                + ", isMerge=false}";
         assertEquals(expected, importCommand.toString());
     }
 
     @Test
     public void toString_csv_returnFilePath() {
         ImportCommand importCommand = new ImportCommand(validCsvPath);
-        String expected = ImportCommand.class.getCanonicalName() + "{filepath=" + VALID_FILEPATH_CSV + "}";
+        String expected = ImportCommand.class.getCanonicalName() + "{filepath=" + VALID_FILEPATH_CSV
+                + ", isMerge=false}";
         assertEquals(expected, importCommand.toString());
     }
 
@@ -164,6 +271,11 @@ public class ImportCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<? super AddressBookTransaction> makeChanges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
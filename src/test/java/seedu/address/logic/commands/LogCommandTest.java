@@ -0,0 +1,183 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code LogCommand}.
+ */
+public class LogCommandTest {
+
+    private static final String MESSAGE = "Called about catering quote";
+    private static final String TYPE = "call";
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validIndexUnfilteredList_success() throws Exception {
+        Person personToLog = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        CommandResult result = new LogCommand(INDEX_FIRST_PERSON, MESSAGE, TYPE).execute(model);
+
+        LogEntry entry = getLatestLogEntry(INDEX_FIRST_PERSON);
+        assertEquals(MESSAGE, entry.getMessage());
+        assertEquals(TYPE, entry.getType());
+
+        Person loggedPerson = withLogEntry(personToLog, entry);
+        assertEquals(String.format(LogCommand.MESSAGE_SUCCESS, Messages.format(loggedPerson)),
+                result.getFeedbackToUser());
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(personToLog, loggedPerson);
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() throws Exception {
+        List<Person> personsToLog = List.copyOf(model.getFilteredPersonList().subList(0, 2));
+
+        CommandResult result = new LogCommand(IndexRange.between(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                MESSAGE, TYPE).execute(model);
+        assertEquals(String.format(LogCommand.MESSAGE_SUCCESS_MANY, 2), result.getFeedbackToUser());
+
+        // the same entry is added to every person in the range
+        LogEntry entry = getLatestLogEntry(INDEX_FIRST_PERSON);
+        assertEquals(entry, getLatestLogEntry(INDEX_SECOND_PERSON));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        personsToLog.forEach(person -> expectedModel.setPerson(person, withLogEntry(person, entry)));
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+
+        // all the persons are restored by a single undo
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_allUnfilteredList_logsEveryPerson() throws Exception {
+        List<Person> personsToLog = List.copyOf(model.getFilteredPersonList());
+
+        CommandResult result = new LogCommand(IndexRange.all(), MESSAGE, "").execute(model);
+        assertEquals(String.format(LogCommand.MESSAGE_SUCCESS_MANY, personsToLog.size()),
+                result.getFeedbackToUser());
+
+        LogEntry entry = getLatestLogEntry(INDEX_FIRST_PERSON);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        personsToLog.forEach(person -> expectedModel.setPerson(person, withLogEntry(person, entry)));
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+
+        // all the persons are restored by a single undo
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_allFilteredList_logsDisplayedPersonsOnly() throws Exception {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Person personToLog = model.getFilteredPersonList().get(0);
+
+        CommandResult result = new LogCommand(IndexRange.all(), MESSAGE, TYPE).execute(model);
+
+        // the full list is shown again after logging
+        LogEntry entry = getLatestLogEntry(INDEX_SECOND_PERSON);
+        Person loggedPerson = withLogEntry(personToLog, entry);
+        assertEquals(String.format(LogCommand.MESSAGE_SUCCESS, Messages.format(loggedPerson)),
+                result.getFeedbackToUser());
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(personToLog, loggedPerson);
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_rangePastEndOfList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        LogCommand logCommand = new LogCommand(IndexRange.between(INDEX_FIRST_PERSON, outOfBoundIndex),
+                MESSAGE, TYPE);
+
+        assertCommandFailure(logCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_invalidIndexFilteredList_throwsCommandException() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        assertCommandFailure(new LogCommand(INDEX_SECOND_PERSON, MESSAGE, TYPE), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_allEmptyList_throwsCommandException() {
+        model.updateFilteredPersonList(p -> false);
+
+        assertCommandFailure(new LogCommand(IndexRange.all(), MESSAGE, TYPE), model,
+                Messages.MESSAGE_NO_PERSONS_DISPLAYED);
+    }
+
+    @Test
+    public void equals() {
+        LogCommand logFirstCommand = new LogCommand(INDEX_FIRST_PERSON, MESSAGE, TYPE);
+
+        // same object -> returns true
+        assertTrue(logFirstCommand.equals(logFirstCommand));
+
+        // same values -> returns true
+        assertTrue(logFirstCommand.equals(new LogCommand(IndexRange.of(INDEX_FIRST_PERSON), MESSAGE, TYPE)));
+
+        // different types -> returns false
+        assertFalse(logFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(logFirstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(logFirstCommand.equals(new LogCommand(IndexRange.all(), MESSAGE, TYPE)));
+
+        // different message -> returns false
+        assertFalse(logFirstCommand.equals(new LogCommand(INDEX_FIRST_PERSON, "Met for lunch", TYPE)));
+
+        // different type -> returns false
+        assertFalse(logFirstCommand.equals(new LogCommand(INDEX_FIRST_PERSON, MESSAGE, "")));
+    }
+
+    /**
+     * Returns the most recent log entry of the person at {@code index} in the full person list of {@code model}.
+     */
+    private LogEntry getLatestLogEntry(Index index) {
+        return model.getAddressBook().getPersonList().get(index.getZeroBased()).getLogs().getLogs().get(0);
+    }
+
+    /**
+     * Returns a copy of {@code person} with {@code entry} added as its most recent log entry.
+     */
+    private static Person withLogEntry(Person person, LogEntry entry) {
+        List<LogEntry> logs = new ArrayList<>();
+        logs.add(entry);
+        logs.addAll(person.getLogs().getLogs());
+        return new PersonBuilder(person).withLogs(logs.toArray(LogEntry[]::new)).build();
+    }
+
+}
@@ -9,9 +9,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -62,6 +65,35 @@ public class PinCommandTest {
         assertCommandFailure(pinCommand, model, PinCommand.MESSAGE_PERSON_ALREADY_PINNED);
     }
 
+    @Test
+    public void execute_allSomeAlreadyPinned_pinsOthers() {
+        Person personToPin = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(personToPin, new PersonBuilder(personToPin).withPinned(true).build());
+        PinCommand pinCommand = new PinCommand(IndexRange.all());
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Person person : List.copyOf(expectedModel.getFilteredPersonList())) {
+            if (!person.isPinned()) {
+                expectedModel.setPerson(person, new PersonBuilder(person).withPinned(true).build());
+            }
+        }
+
+        String expectedMessage = String.format(PinCommand.MESSAGE_PIN_PERSONS_SUCCESS,
+                model.getFilteredPersonList().size() - 1);
+
+        assertCommandSuccess(pinCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeAllAlreadyPinned_throwsCommandException() {
+        for (Person person : List.copyOf(model.getFilteredPersonList().subList(0, 2))) {
+            model.setPerson(person, new PersonBuilder(person).withPinned(true).build());
+        }
+        PinCommand pinCommand = new PinCommand(IndexRange.between(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+
+        assertCommandFailure(pinCommand, model, PinCommand.MESSAGE_PERSONS_ALREADY_PINNED);
+    }
+
     @Test
     public void equals() {
         PinCommand pinFirstCommand = new PinCommand(INDEX_FIRST_PERSON);
@@ -88,7 +120,7 @@ public class PinCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         PinCommand pinCommand = new PinCommand(targetIndex);
-        String expected = PinCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = PinCommand.class.getCanonicalName() + "{targetIndexes=" + IndexRange.of(targetIndex) + "}";
         assertEquals(expected, pinCommand.toString());
     }
 }
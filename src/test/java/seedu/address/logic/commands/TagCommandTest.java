@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code TagCommand}.
+ */
+public class TagCommandTest {
+
+    private static final Set<Tag> FRIENDS = Set.of(new Tag("friends"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_addToRange_tagsPersonsWithoutTag() {
+        TagCommand tagCommand = new TagCommand(IndexRange.between(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                FRIENDS, true);
+
+        // ALICE and BENSON are already friends
+        String expectedMessage = String.format(TagCommand.MESSAGE_ADD_SUCCESS, "friends", 1);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(CARL, new PersonBuilder(CARL).withTags("friends").build());
+
+        assertCommandSuccess(tagCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_removeFromAll_untagsPersonsWithTags() {
+        TagCommand tagCommand = new TagCommand(IndexRange.all(),
+                Set.of(new Tag("owesMoney"), new Tag("friends")), false);
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_REMOVE_SUCCESS, "friends, owesmoney", 3);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withTags().build());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withTags().build());
+        expectedModel.setPerson(DANIEL, new PersonBuilder(DANIEL).withTags().build());
+
+        assertCommandSuccess(tagCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_addToTaggedPersons_throwsCommandException() {
+        TagCommand tagCommand = new TagCommand(IndexRange.between(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                FRIENDS, true);
+
+        assertCommandFailure(tagCommand, model, TagCommand.MESSAGE_ALREADY_TAGGED);
+    }
+
+    @Test
+    public void execute_removeFromUntaggedPersons_throwsCommandException() {
+        TagCommand tagCommand = new TagCommand(IndexRange.all(), Set.of(new Tag("vendor")), false);
+
+        assertCommandFailure(tagCommand, model, TagCommand.MESSAGE_NOT_TAGGED);
+    }
+
+    @Test
+    public void execute_invalidIndexFilteredList_throwsCommandException() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Index outOfBoundIndex = INDEX_SECOND_PERSON;
+
+        TagCommand tagCommand = new TagCommand(IndexRange.of(outOfBoundIndex), FRIENDS, true);
+
+        assertCommandFailure(tagCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        TagCommand addFriendsCommand = new TagCommand(IndexRange.all(), FRIENDS, true);
+
+        // same object -> returns true
+        assertTrue(addFriendsCommand.equals(addFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(addFriendsCommand.equals(new TagCommand(IndexRange.all(), Set.of(new Tag("friends")), true)));
+
+        // different types -> returns false
+        assertFalse(addFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(addFriendsCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(addFriendsCommand.equals(new TagCommand(IndexRange.of(INDEX_FIRST_PERSON), FRIENDS, true)));
+
+        // different tags -> returns false
+        assertFalse(addFriendsCommand.equals(new TagCommand(IndexRange.all(), Set.of(new Tag("vendor")), true)));
+
+        // removing instead of adding -> returns false
+        assertFalse(addFriendsCommand.equals(new TagCommand(IndexRange.all(), FRIENDS, false)));
+    }
+
+}
@@ -0,0 +1,98 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLUMN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SINCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.person.HasAllTagsPredicate;
+import seedu.address.model.person.MatchesAllPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
+import seedu.address.model.tag.Tag;
+
+public class ExportCommandParserTest {
+    private static final String EXPORT_FILE = " " + PREFIX_FILE + "data/export.csv";
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        Predicate<Person> expectedPredicate = new MatchesAllPredicate(List.of(
+                new HasAllTagsPredicate(Set.of(new Tag("friends"))),
+                new NameContainsKeywordsPredicate(List.of("alex", "bernice"))));
+        assertParseSuccess(parser, EXPORT_FILE + " " + PREFIX_NAME + "alex bernice " + PREFIX_TAG + "friends "
+                + PREFIX_COLUMN + "name " + PREFIX_SINCE + "3",
+                new ExportCommand(Path.of("data/export.csv"), expectedPredicate, EnumSet.of(PersonColumn.NAME),
+                        OptionalLong.of(3)));
+    }
+
+    @Test
+    public void parse_differentFields_differentCommand() throws Exception {
+        ExportCommand command = parser.parse(EXPORT_FILE + " " + PREFIX_NAME + "alex " + PREFIX_COLUMN + "name");
+
+        // different name keywords
+        assertNotEquals(parser.parse(EXPORT_FILE + " " + PREFIX_NAME + "bernice " + PREFIX_COLUMN + "name"),
+                command);
+
+        // different columns
+        assertNotEquals(parser.parse(EXPORT_FILE + " " + PREFIX_NAME + "alex " + PREFIX_COLUMN + "email"),
+                command);
+
+        // different file
+        assertNotEquals(parser.parse(" " + PREFIX_FILE + "data/other.csv " + PREFIX_NAME + "alex "
+                + PREFIX_COLUMN + "name"), command);
+    }
+
+    @Test
+    public void parse_jsonLinesFile_success() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + "data/export.jsonl.gz",
+                new ExportCommand(Path.of("data/export.jsonl.gz"), new HashSet<>()));
+    }
+
+    @Test
+    public void parse_sinceVersion_success() {
+        assertParseSuccess(parser, EXPORT_FILE + " " + PREFIX_SINCE + "42",
+                new ExportCommand(Path.of("data/export.csv"), new HasAllTagsPredicate(Set.of()), PersonColumn.ALL,
+                        OptionalLong.of(42)));
+    }
+
+    @Test
+    public void parse_invalidSinceVersion_failure() {
+        assertParseFailure(parser, EXPORT_FILE + " " + PREFIX_SINCE + "-1", ParserUtil.MESSAGE_INVALID_VERSION);
+        assertParseFailure(parser, EXPORT_FILE + " " + PREFIX_SINCE + "latest", ParserUtil.MESSAGE_INVALID_VERSION);
+    }
+
+    @Test
+    public void parse_invalidColumn_failure() {
+        assertParseFailure(parser, EXPORT_FILE + " " + PREFIX_COLUMN + "birthday", PersonColumn.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_emptyName_failure() {
+        assertParseFailure(parser, EXPORT_FILE + " " + PREFIX_NAME,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidFileType_failure() {
+        assertParseFailure(parser, " " + PREFIX_FILE + "data/export.txt", ExportCommand.INVALID_EXPORT_FORMAT);
+    }
+}
@@ -33,6 +33,13 @@ public class ImportCommandParserTest {
         }
     }
 
+    @Test
+    public void parse_mergeKeyword_success() throws Exception {
+        Path correctFilePath = ParserUtil.parsePath(VALID_FILEPATH_JSON);
+        assertParseSuccess(parser, " " + ImportCommand.MERGE_KEYWORD + FILEPATH_JSON,
+                new ImportCommand(correctFilePath, true));
+    }
+
     @Test
     public void parse_repeatedValue_failure() {
         // file field repeated
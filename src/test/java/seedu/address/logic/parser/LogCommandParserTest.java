@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INPUT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.LogCommand;
+
+public class LogCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, LogCommand.MESSAGE_USAGE);
+
+    private LogCommandParser parser = new LogCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " 1 m/Called about quote t/call",
+                new LogCommand(INDEX_FIRST_PERSON, "Called about quote", "call"));
+
+        assertParseSuccess(parser, " 1-2 m/Called about quote t/call",
+                new LogCommand(IndexRange.between(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), "Called about quote",
+                        "call"));
+
+        assertParseSuccess(parser, " all m/Sent newsletter t/email",
+                new LogCommand(IndexRange.all(), "Sent newsletter", "email"));
+    }
+
+    @Test
+    public void parse_typeMissing_success() {
+        assertParseSuccess(parser, " all m/Sent newsletter", new LogCommand(IndexRange.all(), "Sent newsletter", ""));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no index
+        assertParseFailure(parser, " m/Sent newsletter", MESSAGE_INVALID_INPUT + "\n" + MESSAGE_INVALID_FORMAT);
+
+        // no message
+        assertParseFailure(parser, " all t/email", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " 2-1 m/Sent newsletter",
+                MESSAGE_INVALID_INDEX_RANGE + "\n" + MESSAGE_INVALID_FORMAT);
+
+        assertParseFailure(parser, " all m/ ", "Log message cannot be empty");
+    }
+
+}
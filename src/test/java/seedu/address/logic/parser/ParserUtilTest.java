@@ -3,20 +3,25 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonColumn;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -56,6 +61,24 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRange_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRange("ALL"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRange("1-"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRange("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRange("0-2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRange("2-1"));
+    }
+
+    @Test
+    public void parseIndexRange_validInput_success() throws Exception {
+        assertEquals(IndexRange.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexRange("1"));
+        assertEquals(IndexRange.between(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                ParserUtil.parseIndexRange("  1-2  "));
+        assertEquals(IndexRange.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexRange("1 - 1"));
+        assertEquals(IndexRange.all(), ParserUtil.parseIndexRange(" all "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -193,4 +216,16 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseColumns_validColumns_returnsColumnSet() throws Exception {
+        assertEquals(EnumSet.of(PersonColumn.NAME, PersonColumn.PINNED),
+                ParserUtil.parseColumns(Arrays.asList("pinned", " NAME ", "name")));
+    }
+
+    @Test
+    public void parseColumns_invalidColumn_throwsParseException() {
+        assertThrows(ParseException.class, PersonColumn.MESSAGE_CONSTRAINTS, () ->
+                ParserUtil.parseColumns(Arrays.asList("name", "isPinned")));
+    }
 }
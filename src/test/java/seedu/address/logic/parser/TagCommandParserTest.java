@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.model.tag.Tag;
+
+public class TagCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE);
+
+    private TagCommandParser parser = new TagCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " add 1-3" + TAG_DESC_FRIEND + TAG_DESC_HUSBAND,
+                new TagCommand(IndexRange.between(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                        Set.of(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_HUSBAND)), true));
+
+        assertParseSuccess(parser, " remove all" + TAG_DESC_FRIEND,
+                new TagCommand(IndexRange.all(), Set.of(new Tag(VALID_TAG_FRIEND)), false));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no keyword
+        assertParseFailure(parser, " 1" + TAG_DESC_FRIEND, MESSAGE_INVALID_FORMAT);
+
+        // unknown keyword
+        assertParseFailure(parser, " set 1" + TAG_DESC_FRIEND, MESSAGE_INVALID_FORMAT);
+
+        // no index
+        assertParseFailure(parser, " add" + TAG_DESC_FRIEND, MESSAGE_INVALID_FORMAT);
+
+        // no tags
+        assertParseFailure(parser, " add 1", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " add 3-1" + TAG_DESC_FRIEND,
+                MESSAGE_INVALID_INDEX_RANGE + "\n" + MESSAGE_INVALID_FORMAT);
+
+        assertParseFailure(parser, " add 1" + INVALID_TAG_DESC, Tag.MESSAGE_CONSTRAINTS);
+    }
+
+}
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null));
+    }
+
+    @Test
+    public void constructor_sourceModifiedLater_snapshotUnchanged() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        List<Person> expectedPersons = new ArrayList<>(addressBook.getPersonList());
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        assertEquals(expectedPersons, snapshot.getPersonList());
+        assertNotEquals(addressBook.getVersion(), snapshot.getVersion());
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getSnapshot_returnsSameSnapshot() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertSame(snapshot, snapshot.getSnapshot());
+    }
+
+}
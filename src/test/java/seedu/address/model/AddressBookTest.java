@@ -2,23 +2,32 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChanges;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -83,6 +92,189 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_modifications_increasesVersion() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+
+        // reads do not change the version
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getChangesSince_modifications_tracksChangedAndRemovedPersons() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        long version = copy.getVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        copy.setPerson(ALICE, editedAlice);
+        copy.removePerson(CARL);
+
+        PersonChanges changes = copy.getChangesSince(version).get();
+        assertTrue(changes.isChanged(editedAlice));
+        assertFalse(changes.isChanged(BENSON));
+        assertEquals(List.of(CARL), changes.getRemovedPersons());
+
+        // changes before the copy was made, or after its current version, are not known
+        assertFalse(copy.getChangesSince(version - 1).isPresent());
+        assertFalse(copy.getChangesSince(copy.getVersion() + 1).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_resetToEqualPersons_noChanges() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        long version = copy.getVersion();
+        copy.resetData(getTypicalAddressBook());
+
+        PersonChanges changes = copy.getChangesSince(version).get();
+        assertTrue(copy.getPersonList().stream().noneMatch(changes::isChanged));
+        assertEquals(List.of(), changes.getRemovedPersons());
+    }
+
+    @Test
+    public void getChangesSince_filledAddressBook_everyPersonChanged() {
+        long version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+
+        PersonChanges changes = addressBook.getChangesSince(version).get();
+        assertTrue(addressBook.getPersonList().stream().allMatch(changes::isChanged));
+        assertTrue(addressBook.getChangesSince(addressBook.getVersion()).get().getRemovedPersons().isEmpty());
+        assertFalse(addressBook.getChangesSince(addressBook.getVersion()).get().isChanged(ALICE));
+    }
+
+    @Test
+    public void batch_manyChanges_oneVersionAndChangesTracked() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        long version = copy.getVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Renamed").build();
+
+        copy.batch(transaction -> {
+            transaction.setPerson(ALICE, editedAlice);
+            transaction.setPerson(BENSON, renamedBenson);
+            transaction.deletePerson(CARL);
+        });
+
+        PersonChanges changes = copy.getChangesSince(version).get();
+        assertTrue(changes.isChanged(editedAlice));
+        assertTrue(changes.isChanged(renamedBenson));
+        assertEquals(List.of(BENSON, CARL), changes.getRemovedPersons());
+        assertTrue(copy.getVersion() > version);
+        assertEquals(copy.getPersonList(), copy.getSnapshot().getPersonList());
+    }
+
+    @Test
+    public void batch_duplicatePersons_throwsDuplicatePersonExceptionAndUnchanged() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        long version = copy.getVersion();
+
+        assertThrows(DuplicatePersonException.class, () -> copy.batch(transaction -> {
+            transaction.deletePerson(CARL);
+            transaction.addPerson(new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        }));
+
+        assertEquals(getTypicalAddressBook(), copy);
+        assertEquals(version, copy.getVersion());
+        assertEquals(List.of(), copy.getChangesSince(version).get().getRemovedPersons());
+    }
+
+    @Test
+    public void batch_noChanges_versionUnchanged() {
+        long version = addressBook.getVersion();
+        addressBook.batch(transaction -> {});
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getSnapshot_noChanges_sameSnapshot() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        assertSame(copy.getSnapshot(), copy.getSnapshot());
+        assertEquals(copy.getPersonList(), copy.getSnapshot().getPersonList());
+        assertEquals(copy.getVersion(), copy.getSnapshot().getVersion());
+    }
+
+    @Test
+    public void getSnapshot_changedAfterwards_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        addressBook.addPerson(BENSON);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(addressBook.getPersonList(), addressBook.getSnapshot().getPersonList());
+        assertTrue(addressBook.getSnapshot().getVersion() > snapshot.getVersion());
+    }
+
+    @Test
+    public void getSnapshot_concurrentChanges_everySnapshotConsistent() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        Map<Person, Integer> indexes = new IdentityHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i)).build();
+            persons.add(person);
+            editedPersons.add(new PersonBuilder(person).withNote("edited").build());
+            indexes.put(person, i);
+            indexes.put(editedPersons.get(i), i);
+        }
+
+        // The writer adds the persons in order, then edits them in order, then removes them in order. Any snapshot
+        // therefore holds a run of consecutive persons, of which the edited ones come first.
+        AtomicBoolean isDone = new AtomicBoolean();
+        ConcurrentLinkedQueue<String> inconsistencies = new ConcurrentLinkedQueue<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(new Thread(() -> {
+                long lastVersion = Long.MIN_VALUE;
+                while (!isDone.get()) {
+                    AddressBookSnapshot snapshot = addressBook.getSnapshot();
+                    List<Person> shown = snapshot.getPersonList();
+                    if (snapshot.getVersion() < lastVersion) {
+                        inconsistencies.add("version went back to " + snapshot.getVersion());
+                    }
+                    lastVersion = snapshot.getVersion();
+                    for (int j = 1; j < shown.size(); j++) {
+                        boolean isInOrder = indexes.get(shown.get(j)) == indexes.get(shown.get(j - 1)) + 1;
+                        boolean isEditedAfterUnedited = editedPersons.contains(shown.get(j))
+                                && persons.contains(shown.get(j - 1));
+                        if (!isInOrder || isEditedAfterUnedited) {
+                            inconsistencies.add("inconsistent snapshot " + shown);
+                        }
+                    }
+                }
+            }));
+        }
+        readers.forEach(Thread::start);
+
+        persons.forEach(addressBook::addPerson);
+        for (int i = 0; i < persons.size(); i++) {
+            addressBook.setPerson(persons.get(i), editedPersons.get(i));
+        }
+        editedPersons.forEach(addressBook::removePerson);
+        isDone.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(List.of(), new ArrayList<>(inconsistencies));
+        assertEquals(List.of(), addressBook.getSnapshot().getPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -103,6 +295,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
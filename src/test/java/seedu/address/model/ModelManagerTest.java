@@ -10,13 +10,22 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +102,81 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void batch_manyChanges_filteredListNotifiedOnce() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        List<Integer> changeCounts = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCounts.add(1));
+        Person pinnedBenson = new PersonBuilder(BENSON).withPinned(true).build();
+
+        modelManager.batch(transaction -> {
+            transaction.deletePerson(ALICE);
+            transaction.setPerson(BENSON, pinnedBenson);
+            transaction.addPerson(ALICE);
+        });
+
+        assertEquals(List.of(pinnedBenson, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(List.of(1), changeCounts);
+    }
+
+    @Test
+    public void undoAddressBook_changedAfterStateSaved_restoresSavedState() {
+        modelManager.addPerson(ALICE);
+        modelManager.saveAddressBookState();
+        modelManager.addPerson(BENSON);
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+
+        modelManager.redoAddressBook();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void getAddressBook_snapshotsTakenDuringChangesAndUndo_everySnapshotConsistent() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        Map<Person, Integer> indexes = new IdentityHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i)).build());
+            indexes.put(persons.get(i), i);
+        }
+
+        // Persons are only ever added at the end, or removed by undoing, so any snapshot holds them in order.
+        ReadOnlyAddressBook addressBook = modelManager.getAddressBook();
+        AtomicBoolean isDone = new AtomicBoolean();
+        ConcurrentLinkedQueue<String> inconsistencies = new ConcurrentLinkedQueue<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(new Thread(() -> {
+                while (!isDone.get()) {
+                    List<Person> shown = addressBook.getSnapshot().getPersonList();
+                    for (int j = 1; j < shown.size(); j++) {
+                        if (indexes.get(shown.get(j)) <= indexes.get(shown.get(j - 1))) {
+                            inconsistencies.add("inconsistent snapshot " + shown);
+                        }
+                    }
+                }
+            }));
+        }
+        readers.forEach(Thread::start);
+
+        for (int i = 0; i < persons.size(); i++) {
+            modelManager.saveAddressBookState();
+            modelManager.addPerson(persons.get(i));
+            if (i % 3 == 0) {
+                modelManager.undoAddressBook();
+            }
+        }
+        isDone.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(List.of(), new ArrayList<>(inconsistencies));
+        assertEquals(200, addressBook.getSnapshot().getPersonList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class ModelSnapshotTest {
+
+    @Test
+    public void constructor_modelChangedAfterwards_snapshotUnchanged() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredPersonList(ALICE::equals);
+        model.saveAddressBookState();
+        ModelSnapshot snapshot = new ModelSnapshot(model);
+        List<Person> persons = new ArrayList<>(model.getAddressBook().getPersonList());
+
+        model.addPerson(AMY);
+
+        assertEquals(persons, snapshot.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE), snapshot.getFilteredPersonList());
+        assertTrue(snapshot.hasPerson(ALICE));
+        assertFalse(snapshot.hasPerson(AMY));
+        assertTrue(snapshot.canUndoAddressBook());
+        assertFalse(snapshot.canRedoAddressBook());
+        assertEquals(model.getUserPrefs(), snapshot.getUserPrefs());
+    }
+
+    @Test
+    public void changes_anyChange_throwsUnsupportedOperationException() {
+        ModelSnapshot snapshot = new ModelSnapshot(new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addPerson(AMY));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.deletePerson(ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.setAddressBook(new AddressBook()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.saveAddressBookState());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getFilteredPersonList().remove(0));
+    }
+
+}
@@ -1,7 +1,12 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +23,60 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setDataFileCompact_differentValue_notEqualAndCopied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFileCompact(true);
+        assertNotEquals(new UserPrefs(), userPrefs);
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isDataFileCompact());
+        assertEquals(userPrefs, copy);
+    }
+
+    @Test
+    public void getDataFilePath_compressed_compressedFileForSupportedFormats() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(Paths.get("data", "addressbook.json"));
+        assertEquals(Paths.get("data", "addressbook.json"), userPrefs.getDataFilePath());
+
+        userPrefs.setDataFileCompressed(true);
+        assertEquals(Paths.get("data", "addressbook.json.gz"), userPrefs.getDataFilePath());
+        assertEquals(Paths.get("data", "addressbook.json"), userPrefs.getAddressBookFilePath());
+
+        // compression is ignored for binary data files
+        userPrefs.setDataFileBinary(true);
+        assertEquals(Paths.get("data", "addressbook.bin"), userPrefs.getDataFilePath());
+    }
+
+    @Test
+    public void getDataFilePath_binary_binaryFileForJsonPath() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFileBinary(true);
+        userPrefs.setAddressBookFilePath(Paths.get("data", "addressbook.json"));
+        assertEquals(Paths.get("data", "addressbook.bin"), userPrefs.getDataFilePath());
+        assertEquals(Paths.get("data", "addressbook.json"), userPrefs.getAddressBookFilePath());
+
+        userPrefs.setAddressBookFilePath(Paths.get("data", "contacts.dat"));
+        assertEquals(Paths.get("data", "contacts.dat"), userPrefs.getDataFilePath());
+
+        // log-structured data directories take precedence over binary data files
+        userPrefs.setAddressBookFilePath(Paths.get("data", "addressbook.json"));
+        userPrefs.setDataFileLogStructured(true);
+        assertEquals(Paths.get("data", "addressbook"), userPrefs.getDataFilePath());
+    }
+
+    @Test
+    public void getDataFilePath_logStructured_directoryForJsonPath() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFileLogStructured(true);
+        userPrefs.setDataFileCompressed(true);
+        userPrefs.setAddressBookFilePath(Paths.get("data", "addressbook.json"));
+        assertEquals(Paths.get("data", "addressbook"), userPrefs.getDataFilePath());
+        assertEquals(Paths.get("data", "addressbook.json"), userPrefs.getAddressBookFilePath());
+
+        userPrefs.setAddressBookFilePath(Paths.get("data", "contacts"));
+        assertEquals(Paths.get("data", "contacts"), userPrefs.getDataFilePath());
+    }
+
 }
@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.testutil.PersonBuilder;
+
+public class DuplicateDetectorTest {
+
+    @Test
+    public void normalizePhone() {
+        assertEquals("94351253", DuplicateDetector.normalizePhone("+65 9435-1253"));
+        assertEquals("123", DuplicateDetector.normalizePhone("123"));
+    }
+
+    @Test
+    public void normalizeEmail() {
+        assertEquals("alice@example.com", DuplicateDetector.normalizeEmail("Alice+work@Example.com"));
+        assertEquals("alice@example.com", DuplicateDetector.normalizeEmail("alice@example.com"));
+    }
+
+    @Test
+    public void phoneticKey() {
+        assertEquals("R163 T522", DuplicateDetector.phoneticKey("Rupert Tymczak"));
+        assertEquals(DuplicateDetector.phoneticKey("Robert Smith"), DuplicateDetector.phoneticKey("Smyth, Rupert"));
+        assertEquals("李小龍", DuplicateDetector.phoneticKey("李小龍"));
+    }
+
+    @Test
+    public void similarity() {
+        int[] signature = DuplicateDetector.minHash("Alice Pauline");
+        assertEquals(1.0, DuplicateDetector.similarity(signature, DuplicateDetector.minHash("alice   pauline ")));
+        assertTrue(DuplicateDetector.similarity(signature, DuplicateDetector.minHash("Alyce Pauline")) > 0.4);
+        assertTrue(DuplicateDetector.similarity(signature, DuplicateDetector.minHash("Benson Meier")) < 0.2);
+    }
+
+    @Test
+    public void findDuplicates_typicalPersons_noDuplicates() {
+        assertEquals(List.of(), DuplicateDetector.findDuplicates(getTypicalPersons(), ProgressMonitor.NONE));
+    }
+
+    @Test
+    public void findDuplicates_similarNamesWithMatchingContact_grouped() {
+        // Same phone number written differently.
+        Person aliceWithCountryCode = new PersonBuilder(ALICE).withName("Alyce Pauline").withPhone("+65 9435 1253")
+                .withEmail("alyce@example.com").withAddress("somewhere else").build();
+        // Same email, different phone.
+        Person bensonWithNewPhone = new PersonBuilder(BENSON).withName("benson  meier").withPhone("81234567")
+                .withEmail("JohnD@example.com").build();
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(aliceWithCountryCode);
+        persons.add(bensonWithNewPhone);
+
+        assertEquals(List.of(List.of(ALICE, aliceWithCountryCode), List.of(BENSON, bensonWithNewPhone)),
+                DuplicateDetector.findDuplicates(persons, ProgressMonitor.NONE));
+    }
+
+    @Test
+    public void findDuplicates_closeNameAndAddressOnly_grouped() {
+        Person movedAlice = new PersonBuilder(ALICE).withName("Alice  Pauline.").withPhone("81111111")
+                .withEmail("pauline@example.com").withAddress("123 Jurong West Ave 6 #08-111").build();
+
+        assertEquals(List.of(List.of(ALICE, movedAlice)),
+                DuplicateDetector.findDuplicates(List.of(ALICE, movedAlice), ProgressMonitor.NONE));
+    }
+
+    @Test
+    public void findDuplicates_sharedPhoneDifferentNames_notGrouped() {
+        Person aliceSibling = new PersonBuilder(ALICE).withName("Benedict Pauline").withEmail("ben@example.com")
+                .withPhone("+65 94351253").build();
+
+        assertEquals(List.of(), DuplicateDetector.findDuplicates(List.of(ALICE, aliceSibling), ProgressMonitor.NONE));
+    }
+
+    @Test
+    public void findDuplicates_cancelled_throwsCancellationException() {
+        ProgressMonitor cancelled = new ProgressMonitor() {
+            @Override
+            public void worked(long done, long total) {}
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+
+        assertThrows(CancellationException.class, () -> DuplicateDetector.findDuplicates(getTypicalPersons(),
+                cancelled));
+    }
+
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class FieldValidatorTest {
+
+    private final FieldValidator digits = FieldValidator.of("\\d+");
+
+    @Test
+    public void isValid_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> digits.isValid(null));
+    }
+
+    @Test
+    public void isValid_wholeValueChecked() {
+        assertTrue(digits.isValid("123"));
+        assertTrue(digits.isValid(new StringBuilder("123")));
+        assertFalse(digits.isValid(""));
+        assertFalse(digits.isValid("123a"));
+        assertFalse(digits.isValid("a123"));
+    }
+
+    @Test
+    public void isValid_concurrentThreads_sameResults() {
+        ConcurrentLinkedQueue<String> mismatches = new ConcurrentLinkedQueue<>();
+        IntStream.range(0, 10000).parallel().forEach(i -> {
+            String value = i % 2 == 0 ? String.valueOf(i) : i + "x";
+            if (digits.isValid(value) != (i % 2 == 0)) {
+                mismatches.add(value);
+            }
+        });
+        assertEquals(new ArrayList<>(), new ArrayList<>(mismatches));
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class HasAllTagsPredicateTest {
+
+    @Test
+    public void test() {
+        Person person = new PersonBuilder().withTags("friends", "colleagues").build();
+
+        // no tags -> returns true
+        assertTrue(new HasAllTagsPredicate(Set.of()).test(person));
+
+        // all tags -> returns true
+        assertTrue(new HasAllTagsPredicate(Set.of(new Tag("friends"), new Tag("colleagues"))).test(person));
+
+        // only some tags -> returns false
+        assertFalse(new HasAllTagsPredicate(Set.of(new Tag("friends"), new Tag("vendor"))).test(person));
+    }
+
+    @Test
+    public void equals() {
+        HasAllTagsPredicate predicate = new HasAllTagsPredicate(Set.of(new Tag("friends")));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new HasAllTagsPredicate(Set.of(new Tag("friends")))));
+        assertEquals(predicate.hashCode(), new HasAllTagsPredicate(Set.of(new Tag("friends"))).hashCode());
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different tags -> returns false
+        assertFalse(predicate.equals(new HasAllTagsPredicate(Set.of())));
+
+        // conjunction of the same predicate -> returns false
+        assertFalse(predicate.equals(new MatchesAllPredicate(List.of(predicate))));
+    }
+
+    @Test
+    public void matchesAll() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withTags("friends").build();
+        HasAllTagsPredicate friends = new HasAllTagsPredicate(Set.of(new Tag("friends")));
+        NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+        assertTrue(new MatchesAllPredicate(List.of(friends, alice)).test(person));
+        assertFalse(new MatchesAllPredicate(List.of(friends,
+                new NameContainsKeywordsPredicate(List.of("Bob")))).test(person));
+        assertTrue(new MatchesAllPredicate(List.of(friends, alice))
+                .equals(new MatchesAllPredicate(List.of(friends, alice))));
+        assertFalse(new MatchesAllPredicate(List.of(friends, alice))
+                .equals(new MatchesAllPredicate(List.of(friends))));
+    }
+
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+public class InteractionLogTest {
+
+    private static final LogEntry CALL = new LogEntry("Called", "call", LocalDateTime.of(2024, 1, 2, 3, 4));
+    private static final LogEntry MEETING = new LogEntry("Met", "meeting", LocalDateTime.of(2024, 2, 3, 4, 5));
+
+    @Test
+    public void loadedOnDemand_sizeQueried_notLoaded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        InteractionLog log = InteractionLog.loadedOnDemand(2, () -> {
+            loadCount.incrementAndGet();
+            return List.of(MEETING, CALL);
+        });
+
+        assertEquals(2, log.size());
+        assertFalse(log.isEmpty());
+        assertEquals(0, loadCount.get());
+
+        // entries are loaded once and then remembered
+        assertEquals(List.of(MEETING, CALL), log.getLogs());
+        assertEquals(List.of(MEETING, CALL), log.getLogs());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void loadedOnDemand_equalsLoadedLog() {
+        InteractionLog loaded = new InteractionLog(List.of(MEETING, CALL));
+        InteractionLog onDemand = InteractionLog.loadedOnDemand(2, () -> List.of(MEETING, CALL));
+        assertEquals(loaded, onDemand);
+        assertEquals(loaded.hashCode(), onDemand.hashCode());
+        assertEquals(loaded.toString(), onDemand.toString());
+    }
+
+    @Test
+    public void loadedOnDemand_equalLoaders_equalWithoutLoading() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<List<LogEntry>> loader = () -> {
+            loadCount.incrementAndGet();
+            return List.of(MEETING, CALL);
+        };
+        InteractionLog log = InteractionLog.loadedOnDemand(2, loader);
+        InteractionLog sameLoaderLog = InteractionLog.loadedOnDemand(2, loader);
+
+        assertEquals(log, sameLoaderLog);
+        assertEquals(log.hashCode(), sameLoaderLog.hashCode());
+        assertEquals(0, loadCount.get());
+
+        // different loaders are compared by their entries
+        assertFalse(log.equals(InteractionLog.loadedOnDemand(2, () -> List.of(CALL, MEETING))));
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void loadedOnDemand_noEntries_empty() {
+        InteractionLog log = InteractionLog.loadedOnDemand(0, () -> {
+            throw new AssertionError("Should not be loaded");
+        });
+        assertTrue(log.isEmpty());
+        assertEquals(new InteractionLog(), log);
+    }
+
+    @Test
+    public void addLogEntry_loadedOnDemand_newestFirst() {
+        InteractionLog log = InteractionLog.loadedOnDemand(1, () -> List.of(CALL)).addLogEntry(MEETING);
+        assertEquals(List.of(MEETING, CALL), log.getLogs());
+    }
+
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonChangeTrackerTest {
+
+    private final PersonChangeTracker tracker = new PersonChangeTracker(10);
+
+    @Test
+    public void getChangesSince_beforeStartVersion_empty() {
+        assertFalse(tracker.getChangesSince(9).isPresent());
+        assertTrue(tracker.getChangesSince(10).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_changedPersons_onlyLaterChanges() {
+        tracker.recordChanged(ALICE, 11);
+        tracker.recordChanged(BENSON, 12);
+
+        PersonChanges changes = tracker.getChangesSince(11).get();
+        assertFalse(changes.isChanged(ALICE));
+        assertTrue(changes.isChanged(BENSON));
+        assertFalse(changes.isChanged(CARL));
+        // persons are matched by identity
+        assertTrue(changes.isChanged(new PersonBuilder(BENSON).withNote("Changed").build()));
+    }
+
+    @Test
+    public void getChangesSince_removedPersons_tombstonesInRemovalOrder() {
+        tracker.recordChanged(ALICE, 11);
+        tracker.recordRemoved(BENSON, 12);
+        tracker.recordRemoved(ALICE, 13);
+
+        PersonChanges changes = tracker.getChangesSince(10).get();
+        assertFalse(changes.isChanged(ALICE));
+        assertEquals(List.of(BENSON, ALICE), changes.getRemovedPersons());
+        assertEquals(List.of(ALICE), tracker.getChangesSince(12).get().getRemovedPersons());
+    }
+
+    @Test
+    public void recordChanged_removedPerson_tombstoneCleared() {
+        tracker.recordRemoved(ALICE, 11);
+        tracker.recordChanged(ALICE, 12);
+
+        PersonChanges changes = tracker.getChangesSince(10).get();
+        assertTrue(changes.isChanged(ALICE));
+        assertEquals(List.of(), changes.getRemovedPersons());
+    }
+
+    @Test
+    public void recordReplaced_diffsByIdentity() {
+        Person editedBenson = new PersonBuilder(BENSON).withNote("Changed").build();
+        tracker.recordReplaced(List.of(ALICE, BENSON, CARL), List.of(new PersonBuilder(ALICE).build(), editedBenson),
+                11);
+
+        PersonChanges changes = tracker.getChangesSince(10).get();
+        assertFalse(changes.isChanged(ALICE));
+        assertTrue(changes.isChanged(editedBenson));
+        assertEquals(List.of(CARL), changes.getRemovedPersons());
+    }
+
+    @Test
+    public void recordReplaced_samePersonsAroundChange_onlyChangeRecorded() {
+        tracker.recordReplaced(List.of(ALICE, BENSON, CARL), List.of(ALICE, CARL), 11);
+        tracker.recordReplaced(List.of(ALICE, CARL), List.of(ALICE, BENSON, CARL), 12);
+
+        PersonChanges changes = tracker.getChangesSince(11).get();
+        assertFalse(changes.isChanged(ALICE));
+        assertTrue(changes.isChanged(BENSON));
+        assertFalse(changes.isChanged(CARL));
+        // the tombstone of the removed person is cleared when it is added back
+        assertEquals(List.of(), tracker.getChangesSince(10).get().getRemovedPersons());
+    }
+
+    @Test
+    public void recordReplaced_emptyList_everyPersonChanged() {
+        tracker.recordReplaced(List.of(), List.of(ALICE, BENSON), 11);
+
+        assertTrue(tracker.getChangesSince(10).get().isChanged(BENSON));
+        assertFalse(tracker.getChangesSince(11).get().isChanged(BENSON));
+
+        tracker.recordChanged(ALICE, 12);
+        assertTrue(tracker.getChangesSince(11).get().isChanged(ALICE));
+        assertFalse(tracker.getChangesSince(11).get().isChanged(BENSON));
+    }
+
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonMergeTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonMerge.of(null, List.of()));
+        assertThrows(NullPointerException.class, () -> PersonMerge.of(List.of(), null));
+    }
+
+    @Test
+    public void of_newAndMatchingPersons_updatesInPlaceAndAddsAtEnd() {
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+
+        PersonMerge merge = PersonMerge.of(List.of(ALICE, BENSON, CARL), List.of(AMY, editedBenson, CARL));
+
+        assertEquals(List.of(ALICE, editedBenson, CARL, AMY), merge.getPersons());
+        assertEquals(1, merge.getAddedCount());
+        assertEquals(1, merge.getUpdatedCount());
+        assertEquals(1, merge.getUnchangedCount());
+        assertEquals(List.of(), merge.getConflicts());
+    }
+
+    @Test
+    public void of_nameInDifferentCase_samePerson() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+
+        PersonMerge merge = PersonMerge.of(List.of(ALICE), List.of(upperCaseAlice));
+
+        assertEquals(List.of(upperCaseAlice), merge.getPersons());
+        assertEquals(1, merge.getUpdatedCount());
+    }
+
+    @Test
+    public void of_sameImportedPersonTwice_conflictsOnlyIfDifferent() {
+        Person editedAmy = new PersonBuilder(AMY).withAddress(VALID_ADDRESS_BOB).build();
+
+        PersonMerge merge = PersonMerge.of(List.of(ALICE), List.of(AMY, AMY, editedAmy));
+
+        // The first of the imported persons is kept.
+        assertEquals(List.of(ALICE, AMY), merge.getPersons());
+        assertEquals(1, merge.getAddedCount());
+        assertEquals(List.of(editedAmy), merge.getConflicts());
+    }
+
+}
@@ -4,17 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -162,12 +168,71 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSamePersonInDifferentCase_throwsDuplicatePersonException() {
+        Person aliceInUpperCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withEmail(VALID_EMAIL_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceInUpperCase);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void startBatch_manyChanges_appliedAsOneChange() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+        List<Integer> changeCounts = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCounts.add(1));
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+
+        UniquePersonList.Batch batch = uniquePersonList.startBatch();
+        batch.remove(ALICE);
+        batch.setPerson(BENSON, editedBenson);
+        batch.add(BOB);
+        batch.remove(CARL);
+        // changes see the changes made before them
+        batch.setPerson(BOB, new PersonBuilder(BOB).withTags().build());
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+
+        batch.apply();
+        assertEquals(List.of(editedBenson, DANIEL, new PersonBuilder(BOB).withTags().build()),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(1), changeCounts);
+    }
+
+    @Test
+    public void startBatch_duplicatePersons_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        Person bobRenamedToAlice = new PersonBuilder(BOB).withName(ALICE.getName().fullName)
+                .withPhone(ALICE.getPhone().value).build();
+
+        UniquePersonList.Batch batch = uniquePersonList.startBatch();
+        batch.setPerson(BOB, bobRenamedToAlice);
+        assertThrows(DuplicatePersonException.class, batch::apply);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+
+        // the duplicate is gone by the time the batch is applied
+        UniquePersonList.Batch renamed = uniquePersonList.startBatch();
+        renamed.remove(ALICE);
+        renamed.setPerson(BOB, bobRenamedToAlice);
+        renamed.apply();
+        assertEquals(List.of(bobRenamedToAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void startBatch_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList.Batch batch = uniquePersonList.startBatch();
+        batch.remove(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> batch.remove(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> batch.setPerson(BOB, ALICE));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final Path FILE_PATH = Paths.get("addressbook.json");
+
+    @Test
+    public void save_burstDuringWrite_onlyLatestWritten() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        storage.blockFirstSave();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        ReadOnlyAddressBook first = new AddressBookSnapshot(addressBook);
+        saver.save(first, FILE_PATH);
+        assertTrue(storage.firstSaveStarted.await(5, TimeUnit.SECONDS));
+
+        ReadOnlyAddressBook last = null;
+        for (int i = 0; i < 100; i++) {
+            addressBook.setPerson(addressBook.getPersonList().get(0),
+                    new PersonBuilder(ALICE).withNote("Note " + i).build());
+            last = new AddressBookSnapshot(addressBook);
+            saver.save(last, FILE_PATH);
+        }
+        storage.releaseFirstSave.countDown();
+        saver.flush();
+
+        assertEquals(List.of(first, last), storage.getSaved());
+    }
+
+    @Test
+    public void flush_manySaves_latestStateWritten() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.save(new AddressBookSnapshot(addressBook), FILE_PATH);
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot last = new AddressBookSnapshot(addressBook);
+        saver.save(last, FILE_PATH);
+        saver.flush();
+
+        List<ReadOnlyAddressBook> saved = storage.getSaved();
+        assertSame(last, saved.get(saved.size() - 1));
+        assertEquals(addressBook.getPersonList(), saved.get(saved.size() - 1).getPersonList());
+    }
+
+    @Test
+    public void save_earlierSaveFailed_failureReportedOnNextSave() throws Exception {
+        IOException failure = new IOException("disk full");
+        RecordingStorage storage = new RecordingStorage();
+        storage.failNextSave(failure);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        saver.save(new AddressBookSnapshot(getTypicalAddressBook()), FILE_PATH);
+        saver.awaitIdle();
+
+        // the failure is reported, but the new state is still saved
+        AddressBookSnapshot retried = new AddressBookSnapshot(getTypicalAddressBook());
+        assertThrows(IOException.class, "disk full", () -> saver.save(retried, FILE_PATH));
+        saver.flush();
+        assertEquals(List.of(retried), storage.getSaved());
+    }
+
+    @Test
+    public void flush_saveFailed_failureReportedOnce() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        storage.failNextSave(new IOException("disk full"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        saver.save(new AddressBookSnapshot(getTypicalAddressBook()), FILE_PATH);
+        assertThrows(IOException.class, "disk full", saver::flush);
+        saver.flush();
+    }
+
+    @Test
+    public void save_nullArguments_throwsNullPointerException() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new RecordingStorage());
+        assertThrows(NullPointerException.class, () -> saver.save(null, FILE_PATH));
+        assertThrows(NullPointerException.class, () -> saver.save(new AddressBook(), null));
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books it is asked to save.
+     */
+    private static class RecordingStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseFirstSave = new CountDownLatch(1);
+        private volatile boolean isFirstSaveBlocked;
+        private volatile IOException nextFailure;
+
+        void blockFirstSave() {
+            isFirstSaveBlocked = true;
+        }
+
+        void failNextSave(IOException failure) {
+            nextFailure = failure;
+        }
+
+        List<ReadOnlyAddressBook> getSaved() {
+            return new ArrayList<>(saved);
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return FILE_PATH;
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            firstSaveStarted.countDown();
+            if (isFirstSaveBlocked) {
+                isFirstSaveBlocked = false;
+                try {
+                    releaseFirstSave.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            IOException failure = nextFailure;
+            if (failure != null) {
+                nextFailure = null;
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void close() {}
+    }
+
+}
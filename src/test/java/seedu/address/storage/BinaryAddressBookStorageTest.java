@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.InteractionLog;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath, false).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, false);
+        AddressBook original = getTypicalAddressBook();
+        Person hoon = new PersonBuilder(HOON).withNote("Met at the fair").build();
+        InteractionLog logs = new InteractionLog()
+                .addLogEntry(new LogEntry("Called about the offer", "call",
+                        LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123456789)))
+                .addLogEntry(new LogEntry("Coffee \u2615", "", LocalDateTime.of(1969, 12, 31, 23, 59)));
+        Person pinnedWithLogs = new Person(hoon.getName(), hoon.getPhone(), hoon.getTelegramHandle(),
+                hoon.getEmail(), hoon.getAddress(), hoon.getTags(), hoon.getNote(), logs, true);
+        original.addPerson(pinnedWithLogs);
+
+        storage.saveAddressBook(original);
+        assertFalse(Files.readString(filePath, StandardCharsets.ISO_8859_1).startsWith("{"));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(pinnedWithLogs.getLogs(), readBack.getPersonList().get(original.getPersonList().size() - 1)
+                .getLogs());
+
+        // modify data, overwrite existing file, and read back
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_personsDecodedOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookWriter.write(getTypicalAddressBook().getPersonList(), filePath);
+
+        MappedPersonList persons = MappedPersonList.open(filePath);
+        assertEquals(getTypicalAddressBook().getPersonList(), persons);
+        assertSame(persons.get(2), persons.get(2));
+    }
+
+    @Test
+    public void readAddressBook_fileOverwrittenBeforePersonsDecoded_personsUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookWriter.write(getTypicalAddressBook().getPersonList(), filePath);
+
+        // the file is not kept open or mapped, so it can be replaced, and even truncated, while the data is in use
+        MappedPersonList persons = MappedPersonList.open(filePath);
+        Files.write(filePath, new byte[0]);
+        assertEquals(getTypicalAddressBook().getPersonList(), persons);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath, false).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithJsonSibling_jsonRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath, false).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_jsonFile_savedAsJson() throws Exception {
+        Path filePath = testFolder.resolve("imported.json");
+        new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"), false)
+                .saveAddressBook(getTypicalAddressBook(), filePath);
+        assertTrue(Files.readString(filePath).startsWith("{"));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, false);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+
+        // flipped bit in the body
+        byte[] flipped = content.clone();
+        flipped[flipped.length - 1] ^= 1;
+        Files.write(filePath, flipped);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        // truncated file
+        Files.write(filePath, Arrays.copyOf(content, content.length - Integer.BYTES));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        // unknown format version
+        byte[] newerVersion = content.clone();
+        ByteBuffer.wrap(newerVersion).putInt(4, BinaryAddressBookWriter.FORMAT_VERSION + 1);
+        Files.write(filePath, newerVersion);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void getJsonSibling() {
+        assertEquals(testFolder.resolve("addressbook.json"),
+                BinaryAddressBookStorage.getJsonSibling(testFolder.resolve("addressbook.bin")));
+        assertEquals(testFolder.resolve("data.json"),
+                BinaryAddressBookStorage.getJsonSibling(testFolder.resolve("data")));
+    }
+
+}
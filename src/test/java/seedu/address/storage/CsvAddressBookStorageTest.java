@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.PersonColumn;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_savedWithLogs_sameLogsInSameOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withLogs(
+                new LogEntry("Called about the offer", "call", LocalDateTime.of(2025, 11, 2, 15, 5)),
+                new LogEntry("Met (briefly) for coffee", "", LocalDateTime.of(2025, 9, 30, 20, 45))).build());
+        original.addPerson(BENSON);
+        Path filePath = testFolder.resolve("addressbook.csv");
+        CsvAddressBookStorage storage = new CsvAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void savePersons_removedPersons_deletedRecordsIgnoredWhenRead() throws Exception {
+        Path filePath = testFolder.resolve("changes.csv");
+        CsvAddressBookStorage storage = new CsvAddressBookStorage(filePath);
+        storage.savePersons(List.of(ALICE), List.of(BENSON, CARL), PersonColumn.ALL);
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(2).endsWith(",\"deleted:true\""));
+
+        assertEquals(List.of(ALICE), storage.readPersons(filePath, ProgressMonitor.NONE).get());
+        assertEquals(List.of(ALICE), storage.readAddressBook().get().getPersonList());
+    }
+
+}
@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertFalse(new JournalAddressBookStorage(filePath, false).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        // first save writes a snapshot
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        // add, edit and delete only touch the journal
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withNote("Edited").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        // unchanged data appends nothing
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void close_journalFoldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        storage.close();
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalOverThreshold_compactedInBackground() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        storage.close();
+        assertFalse(Files.exists(JournalAddressBookStorage.getRotatedJournalPath(filePath)));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_recordsNotReplayedTwice() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // simulate a crash after the compacted snapshot was moved into place but before the old journal was deleted
+        Path journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+        Files.move(journalPath, JournalAddressBookStorage.getRotatedJournalPath(filePath));
+        JsonAddressBookStreamWriter.write(addressBook.getPersonList(), filePath, false, OptionalLong.of(2));
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, false);
+        assertEquals(addressBook, reopened.readAddressBook().get());
+
+        // the next save folds the leftover journal away
+        reopened.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JournalAddressBookStorage.getRotatedJournalPath(filePath)));
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Path journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+        Files.write(journalPath, "{\"seq\":3,\"size\":9,\"ops\":[{\"op\":\"add\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, false);
+        assertEquals(addressBook, reopened.readAddressBook().get());
+
+        // the next save rewrites the snapshot instead of appending after the broken record
+        Person editedHoon = new PersonBuilder(HOON).withNote("Edited").build();
+        addressBook.setPerson(HOON, editedHoon);
+        reopened.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Path journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+        Files.writeString(journalPath, "not a record\n{\"seq\":2,\"size\":7,\"ops\":[]}\n");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath, false)
+                .readAddressBook());
+
+        Files.writeString(journalPath, "{\"seq\":2,\"size\":8,\"ops\":[{\"op\":\"remove\",\"index\":99}]}\n");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath, false)
+                .readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_differentFile_snapshotWithoutStaleJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        Path staleJournalPath = JournalAddressBookStorage.getJournalPath(otherFilePath);
+        Files.writeString(staleJournalPath, "{\"seq\":5,\"size\":0,\"ops\":[]}\n");
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertFalse(Files.exists(staleJournalPath));
+        assertTrue(Files.exists(otherFilePath));
+        assertEquals(getTypicalAddressBook(),
+                new JournalAddressBookStorage(otherFilePath, false).readAddressBook().get());
+    }
+
+}
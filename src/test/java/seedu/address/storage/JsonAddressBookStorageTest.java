@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,8 +10,10 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +89,48 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_identicalContent_fileNotReplaced() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        FileTime unchangedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(filePath, unchangedTime);
+
+        // equal data in a different address book serializes to the same bytes
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(unchangedTime, Files.getLastModifiedTime(filePath));
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json.tmp")));
+
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+        assertNotEquals(unchangedTime, Files.getLastModifiedTime(filePath));
+        assertEquals(modified, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_gzipFile_compressed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] content = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_gzipFileMissing_readsUncompressedFile() throws Exception {
+        Path uncompressedFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(uncompressedFilePath).saveAddressBook(getTypicalAddressBook());
+
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(
+                testFolder.resolve("TempAddressBook.json.gz"));
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
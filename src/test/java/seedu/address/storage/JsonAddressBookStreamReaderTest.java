@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStreamReaderTest");
+    private static final Path SERIALIZABLE_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = SERIALIZABLE_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = SERIALIZABLE_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE =
+            SERIALIZABLE_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_JSON_FILE =
+            Paths.get("src", "test", "data", "JsonAddressBookStorageTest", "notJsonFormatAddressBook.json");
+
+    @Test
+    public void read_typicalPersonsFile_sameAsDataBinding() throws Exception {
+        AddressBook streamed = JsonAddressBookStreamReader.read(TYPICAL_PERSONS_FILE);
+        AddressBook bound = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        assertEquals(bound, streamed);
+        assertEquals(bound.getPersonList(), streamed.getPersonList());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), streamed);
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        AddressBook expected = new AddressBookBuilder().withPerson(ALICE).build();
+        assertEquals(expected,
+                JsonAddressBookStreamReader.read(TEST_DATA_FOLDER.resolve("unknownFieldsAddressBook.json")));
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStreamReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookStreamReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_malformedFiles_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookStreamReader.read(NOT_JSON_FILE));
+        assertThrows(IOException.class, () ->
+                JsonAddressBookStreamReader.read(TEST_DATA_FOLDER.resolve("truncatedAddressBook.json")));
+        assertThrows(IOException.class, () ->
+                JsonAddressBookStreamReader.read(TEST_DATA_FOLDER.resolve("nonObjectPersonAddressBook.json")));
+    }
+
+}
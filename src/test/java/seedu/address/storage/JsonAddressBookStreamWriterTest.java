@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookStreamWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> JsonAddressBookStreamWriter.write(null, filePath, false));
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookStreamWriter.write(new AddressBook(), (Path) null, false));
+    }
+
+    @Test
+    public void write_pretty_sameAsDataBinding() throws Exception {
+        assertSameAsDataBinding(getTypicalAddressBook());
+        assertSameAsDataBinding(new AddressBook());
+    }
+
+    @Test
+    public void write_compact_readableWithoutLineBreaks() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookStreamWriter.write(addressBook, filePath, true);
+
+        String content = FileUtil.readFromFile(filePath);
+        assertTrue(content.endsWith("}\n"));
+        assertFalse(content.trim().contains("\n"));
+        assertEquals(addressBook, JsonAddressBookStreamReader.read(filePath));
+    }
+
+    private void assertSameAsDataBinding(AddressBook addressBook) throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        JsonAddressBookStreamWriter.write(addressBook, filePath, false);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)) + "\n";
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+    }
+
+}
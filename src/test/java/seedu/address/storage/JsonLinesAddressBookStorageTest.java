@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ProgressMonitor;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumn;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonLinesAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.jsonl");
+        assertFalse(new JsonLinesAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.jsonl");
+        JsonLinesAddressBookStorage storage = new JsonLinesAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList().size(), Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // modify data, overwrite existing file, and read back
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_gzipFile_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.jsonl.gz");
+        JsonLinesAddressBookStorage storage = new JsonLinesAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_jsonFile_savedAsJson() throws Exception {
+        Path filePath = testFolder.resolve("imported.json");
+        new JsonLinesAddressBookStorage(testFolder.resolve("addressbook.jsonl"))
+                .saveAddressBook(getTypicalAddressBook(), filePath);
+        assertTrue(Files.readString(filePath).startsWith("{"));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readPersons_invalidLines_onlyInvalidLinesSkipped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.jsonl");
+        new JsonLinesAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+        lines.add(1, "{\"name\":\"Broken");
+        lines.add(3, "");
+        lines.add(5, toInvalidName(lines.get(0)));
+        Files.write(filePath, lines);
+
+        List<String> expectedSkippedLines = List.of(String.format(JsonLinesReader.MESSAGE_INVALID_JSON, 2),
+                String.format(JsonLinesReader.MESSAGE_INVALID_PERSON, 6, Name.MESSAGE_CONSTRAINTS));
+
+        // chunks much smaller than a line, so that line numbers are counted across many chunks
+        for (long chunkBytes : new long[] {1, 16, JsonLinesReader.DEFAULT_CHUNK_BYTES}) {
+            JsonLinesAddressBookStorage.ReadResult result =
+                    JsonLinesReader.read(filePath, ProgressMonitor.NONE, chunkBytes);
+            assertEquals(getTypicalPersons(), result.getPersons());
+            assertEquals(expectedSkippedLines, result.getSkippedLines());
+        }
+    }
+
+    @Test
+    public void readPersons_gzipFileWithInvalidLine_invalidLineSkipped() throws Exception {
+        Path plainFilePath = testFolder.resolve("addressbook.jsonl");
+        new JsonLinesAddressBookStorage(plainFilePath).saveAddressBook(getTypicalAddressBook());
+        List<String> lines = new ArrayList<>(Files.readAllLines(plainFilePath));
+        lines.add(0, toInvalidName(lines.get(0)));
+        Path filePath = testFolder.resolve("addressbook.jsonl.gz");
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(filePath)),
+                StandardCharsets.UTF_8)) {
+            writer.write(String.join("\n", lines));
+        }
+
+        JsonLinesAddressBookStorage.ReadResult result = new JsonLinesAddressBookStorage(filePath)
+                .readPersons(filePath, ProgressMonitor.NONE).get();
+        assertEquals(getTypicalPersons(), result.getPersons());
+        assertEquals(List.of(String.format(JsonLinesReader.MESSAGE_INVALID_PERSON, 1, Name.MESSAGE_CONSTRAINTS)),
+                result.getSkippedLines());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_laterDuplicatesSkipped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.jsonl");
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@other.com").build();
+        new JsonLinesAddressBookStorage(filePath).savePersons(List.of(ALICE, BENSON, editedAlice, ALICE),
+                List.of(), PersonColumn.ALL);
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        expected.addPerson(BENSON);
+        JsonLinesAddressBookStorage storage = new JsonLinesAddressBookStorage(filePath);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(List.of(String.format(JsonLinesAddressBookStorage.MESSAGE_DUPLICATE_PERSON, ALICE.getName(),
+                ALICE.getPhone())), storage.getSkippedRecords());
+    }
+
+    @Test
+    public void saveAddressBook_linesSkippedWhenRead_dataFileBackedUpOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.jsonl");
+        JsonLinesAddressBookStorage storage = new JsonLinesAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+        lines.add(0, toInvalidName(lines.get(0)));
+        Files.write(filePath, lines);
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(1, storage.getSkippedRecords().size());
+
+        // saving elsewhere does not back the data file up
+        storage.saveAddressBook(addressBook, testFolder.resolve("other.jsonl"));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.jsonl.bak")));
+
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertEquals(lines, Files.readAllLines(testFolder.resolve("addressbook.jsonl.bak")));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.jsonl.1.bak")));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void savePersons_removedPersons_deletedLinesIgnoredWhenRead() throws Exception {
+        Path filePath = testFolder.resolve("changes.jsonl");
+        JsonLinesAddressBookStorage storage = new JsonLinesAddressBookStorage(filePath);
+        storage.savePersons(List.of(ALICE), List.of(BENSON, CARL), PersonColumn.ALL);
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(3, lines.size());
+        assertEquals("{\"name\":\"" + CARL.getName() + "\",\"phone\":\"" + CARL.getPhone()
+                + "\",\"deleted\":true}", lines.get(2));
+
+        JsonLinesAddressBookStorage.ReadResult result = storage.readPersons(filePath, ProgressMonitor.NONE).get();
+        assertEquals(List.of(ALICE), result.getPersons());
+        assertTrue(result.getSkippedLines().isEmpty());
+    }
+
+    /**
+     * Returns {@code line}, the line of {@code ALICE}, with an invalid name.
+     */
+    private static String toInvalidName(String line) {
+        return line.replace(ALICE.getName().fullName, "R$chel");
+    }
+
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LogStructuredAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        assertFalse(new LogStructuredAddressBookStorage(filePath, false).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_onlyChangedPersonsWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long initialBytes = totalBytes(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withNote("Edited").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertTrue(totalBytes(filePath) - initialBytes < initialBytes / 2);
+
+        // unchanged data writes nothing
+        long bytesBeforeUnchangedSave = totalBytes(filePath);
+        storage.saveAddressBook(addressBook);
+        assertEquals(bytesBeforeUnchangedSave, totalBytes(filePath));
+
+        storage.close();
+        assertEquals(addressBook, new LogStructuredAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_orderKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, false);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+
+        // persons inserted before existing ones, as when data is replaced by other data
+        LogStructuredAddressBookStorage reopened = new LogStructuredAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(reopened.readAddressBook().get());
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.add(1, IDA);
+        persons.set(3, HOON);
+        addressBook.setPersons(persons);
+        reopened.saveAddressBook(addressBook);
+        reopened.close();
+
+        assertEquals(addressBook, new LogStructuredAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_manyEdits_mergedInBackground() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, false, 512, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        for (int i = 0; i < 30; i++) {
+            Person benson = addressBook.getPersonList().get(1);
+            addressBook.setPerson(benson, new PersonBuilder(benson).withNote("Edit " + i).build());
+            storage.saveAddressBook(addressBook);
+        }
+        storage.close();
+
+        try (Stream<Path> files = Files.list(filePath)) {
+            assertTrue(files.anyMatch(file -> file.toString().endsWith(LogStructuredStore.MERGED_SUFFIX)));
+        }
+        assertEquals(addressBook, new LogStructuredAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingDirectoryWithJsonSibling_jsonRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(getTypicalAddressBook());
+        LogStructuredAddressBookStorage storage = new LogStructuredAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        // the first save moves the data into the data directory
+        storage.saveAddressBook(addressBook);
+        storage.close();
+        assertTrue(LogStructuredStore.isStore(filePath));
+        assertEquals(addressBook, new LogStructuredAddressBookStorage(filePath, false).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherPaths_savedThere() throws Exception {
+        LogStructuredAddressBookStorage storage =
+                new LogStructuredAddressBookStorage(testFolder.resolve("addressbook"), false);
+
+        Path jsonFilePath = testFolder.resolve("imported.json");
+        storage.saveAddressBook(getTypicalAddressBook(), jsonFilePath);
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+
+        Path otherDirectory = testFolder.resolve("other");
+        storage.saveAddressBook(getTypicalAddressBook(), otherDirectory);
+        AddressBook other = new AddressBook();
+        other.addPerson(HOON);
+        storage.saveAddressBook(other, otherDirectory);
+        assertEquals(other, storage.readAddressBook(otherDirectory).get());
+        storage.close();
+    }
+
+    private static long totalBytes(Path directory) throws IOException {
+        long total = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                total += Files.size(file);
+            }
+        }
+        return total;
+    }
+
+}
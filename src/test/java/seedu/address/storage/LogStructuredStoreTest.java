@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.storage.LogStructuredStore.WriteBatch;
+
+public class LogStructuredStoreTest {
+
+    private static final long NO_MERGE = Long.MAX_VALUE;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void commit_putsAndDeletes_visibleAfterReopen() throws Exception {
+        Path directory = testFolder.resolve("store");
+        LogStructuredStore store = LogStructuredStore.open(directory, 1024, NO_MERGE);
+        store.commit(new WriteBatch().put(1, bytes("one")).put(2, bytes("two")).put(3, bytes("three")));
+        store.commit(new WriteBatch().put(2, bytes("TWO")).delete(3));
+        store.close();
+
+        LogStructuredStore reopened = LogStructuredStore.open(directory, 1024, NO_MERGE);
+        assertStoreHolds(reopened, 1, "one", 2, "TWO");
+        assertEquals(4, reopened.nextKey());
+        reopened.close();
+    }
+
+    @Test
+    public void open_incompleteRecordAtEnd_discardedAndLaterCommitsKept() throws Exception {
+        Path directory = testFolder.resolve("store");
+        LogStructuredStore store = LogStructuredStore.open(directory, 1024, NO_MERGE);
+        store.commit(new WriteBatch().put(1, bytes("one")));
+        store.close();
+
+        // simulate a crash half way through writing a record
+        Path segment = onlyFile(directory);
+        long committedBytes = Files.size(segment);
+        Files.write(segment, new byte[] {0, 1, 2, 3, 1, 0, 0}, StandardOpenOption.APPEND);
+
+        LogStructuredStore reopened = LogStructuredStore.open(directory, 1024, NO_MERGE);
+        assertStoreHolds(reopened, 1, "one");
+        assertEquals(committedBytes, Files.size(segment));
+
+        reopened.commit(new WriteBatch().put(2, bytes("two")));
+        reopened.close();
+        LogStructuredStore again = LogStructuredStore.open(directory, 1024, NO_MERGE);
+        assertStoreHolds(again, 1, "one", 2, "two");
+        again.close();
+    }
+
+    @Test
+    public void open_batchWithoutCommitRecord_discarded() throws Exception {
+        Path directory = testFolder.resolve("store");
+        LogStructuredStore store = LogStructuredStore.open(directory, 1024, NO_MERGE);
+        store.commit(new WriteBatch().put(1, bytes("one")));
+        long committedBytes = Files.size(onlyFile(directory));
+        store.commit(new WriteBatch().put(1, bytes("ONE")).put(2, bytes("two")));
+        store.close();
+
+        // simulate a crash after the records of the second batch, but before its commit record, reached the disk
+        Path segment = onlyFile(directory);
+        byte[] content = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(content, content.length - 17));
+
+        LogStructuredStore reopened = LogStructuredStore.open(directory, 1024, NO_MERGE);
+        assertStoreHolds(reopened, 1, "one");
+        assertEquals(committedBytes, Files.size(segment));
+        reopened.close();
+    }
+
+    @Test
+    public void open_corruptedCommittedRecord_throwsIllegalValueException() throws Exception {
+        Path directory = testFolder.resolve("store");
+        LogStructuredStore store = LogStructuredStore.open(directory, 16, NO_MERGE);
+        store.commit(new WriteBatch().put(1, bytes("one")));
+        store.commit(new WriteBatch().put(2, bytes("two")));
+        store.close();
+
+        // the first segment is no longer the one being written to, so damage there is not a torn write
+        Path firstSegment = files(directory).get(0);
+        byte[] content = Files.readAllBytes(firstSegment);
+        content[content.length / 2] ^= 1;
+        Files.write(firstSegment, content);
+        assertThrows(IllegalValueException.class, () -> LogStructuredStore.open(directory, 16, NO_MERGE));
+    }
+
+    @Test
+    public void open_corruptedRecordFollowedByCommits_throwsIllegalValueException() throws Exception {
+        Path directory = testFolder.resolve("store");
+        LogStructuredStore store = LogStructuredStore.open(directory, 1024, NO_MERGE);
+        store.commit(new WriteBatch().put(1, bytes("one")));
+        long firstBatchBytes = Files.size(onlyFile(directory));
+        store.commit(new WriteBatch().put(2, bytes("two")));
+        store.commit(new WriteBatch().put(3, bytes("three")));
+        store.close();
+
+        // damage the value of key 2 in the segment still being written to, with a committed batch after it
+        Path segment = onlyFile(directory);
+        byte[] content = Files.readAllBytes(segment);
+        content[Math.toIntExact(firstBatchBytes) + 18] ^= 1;
+        Files.write(segment, content);
+
+        assertThrows(IllegalValueException.class, String.format(LogStructuredStore.MESSAGE_CORRUPTED_SEGMENT,
+                segment), () -> LogStructuredStore.open(directory, 1024, NO_MERGE));
+        assertArrayEquals(content, Files.readAllBytes(segment));
+    }
+
+    @Test
+    public void merge_overwrittenAndDeletedKeys_spaceReclaimed() throws Exception {
+        Path directory = testFolder.resolve("store");
+        LogStructuredStore store = LogStructuredStore.open(directory, 64, 0);
+        for (int i = 0; i < 20; i++) {
+            store.commit(new WriteBatch().put(1, bytes("one-" + i)).put(2, bytes("two-" + i)));
+        }
+        store.commit(new WriteBatch().delete(2).put(3, bytes("three")));
+        long bytesBeforeMerge = totalBytes(directory);
+        assertTrue(store.needsMerge());
+
+        store.merge();
+        assertTrue(totalBytes(directory) < bytesBeforeMerge);
+        assertStoreHolds(store, 1, "one-19", 3, "three");
+
+        // commits after a merge go on as before
+        store.commit(new WriteBatch().put(1, bytes("ONE")));
+        store.close();
+        LogStructuredStore reopened = LogStructuredStore.open(directory, 64, 0);
+        assertStoreHolds(reopened, 1, "ONE", 3, "three");
+        reopened.close();
+    }
+
+    @Test
+    public void open_mergeInterruptedBeforeMergedFileInPlace_unmergedDataRead() throws Exception {
+        Path directory = testFolder.resolve("store");
+        LogStructuredStore store = LogStructuredStore.open(directory, 16, NO_MERGE);
+        store.commit(new WriteBatch().put(1, bytes("one")));
+        store.commit(new WriteBatch().put(2, bytes("two")));
+        store.commit(new WriteBatch().delete(1));
+        store.close();
+
+        Files.writeString(directory.resolve("00000002" + LogStructuredStore.MERGED_SUFFIX
+                + LogStructuredStore.TEMP_FILE_SUFFIX), "partial merge");
+        LogStructuredStore reopened = LogStructuredStore.open(directory, 16, NO_MERGE);
+        assertStoreHolds(reopened, 2, "two");
+        assertTrue(files(directory).stream().noneMatch(file -> file.toString()
+                .endsWith(LogStructuredStore.TEMP_FILE_SUFFIX)));
+        reopened.close();
+    }
+
+    @Test
+    public void open_mergeInterruptedBeforeOldSegmentsDeleted_deletedKeysStayDeleted() throws Exception {
+        Path directory = testFolder.resolve("store");
+        LogStructuredStore store = LogStructuredStore.open(directory, 16, 0);
+        store.commit(new WriteBatch().put(1, bytes("one")));
+        store.commit(new WriteBatch().put(2, bytes("two")));
+        store.commit(new WriteBatch().delete(1));
+        store.commit(new WriteBatch().put(3, bytes("three")));
+
+        // keep copies of the segments the merge replaces, and put them back as if deleting them never happened
+        List<Path> segments = files(directory);
+        List<byte[]> contents = new ArrayList<>();
+        for (Path segment : segments) {
+            contents.add(Files.readAllBytes(segment));
+        }
+        store.merge();
+        store.close();
+        for (int i = 0; i < segments.size(); i++) {
+            if (!Files.exists(segments.get(i))) {
+                Files.write(segments.get(i), contents.get(i));
+            }
+        }
+
+        LogStructuredStore reopened = LogStructuredStore.open(directory, 16, 0);
+        assertStoreHolds(reopened, 2, "two", 3, "three");
+        reopened.close();
+        assertTrue(files(directory).stream().anyMatch(file -> file.toString()
+                .endsWith(LogStructuredStore.MERGED_SUFFIX)));
+    }
+
+    @Test
+    public void isStore() throws Exception {
+        Path directory = testFolder.resolve("store");
+        assertFalse(LogStructuredStore.isStore(directory));
+        LogStructuredStore.open(directory, 1024, NO_MERGE).close();
+        assertTrue(LogStructuredStore.isStore(directory));
+    }
+
+    /**
+     * Asserts that {@code store} holds exactly the given alternating keys and values.
+     */
+    private static void assertStoreHolds(LogStructuredStore store, Object... keysAndValues) throws IOException {
+        SortedMap<Long, String> expected = new TreeMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            expected.put(((Integer) keysAndValues[i]).longValue(), (String) keysAndValues[i + 1]);
+        }
+        SortedMap<Long, byte[]> actual = store.readAll();
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Long key : expected.keySet()) {
+            assertArrayEquals(bytes(expected.get(key)), actual.get(key));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<Path> files(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static Path onlyFile(Path directory) throws IOException {
+        List<Path> files = files(directory);
+        assertEquals(1, files.size());
+        return files.get(0);
+    }
+
+    private static long totalBytes(Path directory) throws IOException {
+        long total = 0;
+        for (Path file : files(directory)) {
+            total += Files.size(file);
+        }
+        return total;
+    }
+
+}
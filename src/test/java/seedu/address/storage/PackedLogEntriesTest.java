@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.InteractionLog;
+import seedu.address.model.person.LogEntry;
+
+public class PackedLogEntriesTest {
+
+    private static final LogEntry CALL = new LogEntry("Called", "call", LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6));
+    private static final LogEntry MEETING = new LogEntry("Met", "", LocalDateTime.of(2024, 2, 3, 4, 5));
+
+    @Test
+    public void build_entriesUnpackedInOrder() {
+        assertEquals(List.of(MEETING, CALL), pack(MEETING, CALL).getLogs());
+    }
+
+    @Test
+    public void equals() {
+        InteractionLog log = pack(MEETING, CALL);
+
+        // same entries -> returns true
+        assertEquals(log, pack(MEETING, CALL));
+        assertEquals(log.hashCode(), pack(MEETING, CALL).hashCode());
+        assertEquals(new InteractionLog(List.of(MEETING, CALL)), log);
+
+        // different entries or order -> returns false
+        assertNotEquals(log, pack(CALL, MEETING));
+        assertNotEquals(log, pack(MEETING));
+    }
+
+    private static InteractionLog pack(LogEntry... entries) {
+        PackedLogEntries.Builder builder = new PackedLogEntries.Builder();
+        for (LogEntry entry : entries) {
+            builder.add(entry.getTimestamp(), entry.getMessage(), entry.getType());
+        }
+        return builder.build();
+    }
+
+}
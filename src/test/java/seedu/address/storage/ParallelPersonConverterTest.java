@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = 3 * ParallelPersonConverter.CHUNK_SIZE + 7;
+
+    @Test
+    public void toAddressBook_noPersons_emptyAddressBook() throws Exception {
+        assertEquals(0, new ParallelPersonConverter().toAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void toAddressBook_manyChunks_keepsOrder() throws Exception {
+        List<Person> persons = createPersons();
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (Person person : persons) {
+            converter.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(persons, converter.toAddressBook().getPersonList());
+    }
+
+    @Test
+    public void toAddressBook_invalidPersonsInSeveralChunks_reportsFirstError() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (Person person : createPersons()) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        adaptedPersons.set(ParallelPersonConverter.CHUNK_SIZE + 1, withPhone(BENSON, "+ ()"));
+        adaptedPersons.set(2 * ParallelPersonConverter.CHUNK_SIZE + 1, withName(BENSON, "R@chel/"));
+
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (JsonAdaptedPerson person : adaptedPersons) {
+            converter.add(person);
+        }
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, converter::toAddressBook);
+    }
+
+    @Test
+    public void awaitPending_invalidPersonInLastChunk_throwsIllegalValueException() throws Exception {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        converter.add(new JsonAdaptedPerson(ALICE));
+        converter.add(withName(BENSON, "R@chel/"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, converter::awaitPending);
+    }
+
+    @Test
+    public void toAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        List<Person> persons = createPersons();
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (Person person : persons) {
+            converter.add(new JsonAdaptedPerson(person));
+        }
+        converter.add(new JsonAdaptedPerson(persons.get(0)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                converter::toAddressBook);
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson withName(Person person, String name) {
+        return new JsonAdaptedPerson(name, person.getPhone().value, person.getTelegramHandle().value,
+                person.getEmail().value, person.getAddress().value, new ArrayList<>(), person.getNote().value,
+                new ArrayList<>(), person.isPinned());
+    }
+
+    private static JsonAdaptedPerson withPhone(Person person, String phone) {
+        return new JsonAdaptedPerson(person.getName().fullName, phone, person.getTelegramHandle().value,
+                person.getEmail().value, person.getAddress().value, new ArrayList<>(), person.getNote().value,
+                new ArrayList<>(), person.isPinned());
+    }
+
+}
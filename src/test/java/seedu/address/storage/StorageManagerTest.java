@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +64,28 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedAddressBook_notWrittenAgain() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path filePath = storageManager.getAddressBookFilePath();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(filePath);
+
+        // same address book and version
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(filePath));
+
+        // modified address book
+        addressBook.addPerson(HOON);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+
+        // different file
+        Path otherFilePath = getTempFilePath("other");
+        storageManager.saveAddressBook(addressBook, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -1,11 +1,13 @@
 package seedu.address.testutil;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.InteractionLog;
+import seedu.address.model.person.LogEntry;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Person;
@@ -132,6 +134,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the log entries of the {@code Person} that we are building, newest first.
+     */
+    public PersonBuilder withLogs(LogEntry... entries) {
+        this.logs = new InteractionLog(Arrays.asList(entries));
+        return this;
+    }
+
     public Person build() {
         return new Person(name, phone, telegramHandle, email, address, tags, note, logs, isPinned);
     }